@@ -40,6 +40,8 @@ async function main() {
 
     await redis.set("blockchain:contract:address", contractAddress);
     await redis.set("blockchain:contract:info", JSON.stringify(deploymentInfo));
+    // 실행 중인 API 서버의 주소 캐시 갱신
+    await redis.publish("blockchain:contract:address:changed", contractAddress);
     
     console.log("Contract address saved to Redis:");
     console.log("  Key: blockchain:contract:address");
@@ -8,7 +8,8 @@ pragma solidity ^0.8.24;
  * 주요 기능:
  * - 데이터 해시 등록 (registerHash)
  * - 해시 존재 여부 검증 (verifyHash)
- * - 등록 이벤트 발생 (HashRegistered)
+ * - Merkle 루트 일괄 등록 (registerRoot) 및 포함 증명 검증 (verifyHashWithProof)
+ * - 등록 이벤트 발생 (HashRegistered, RootRegistered)
  */
 contract LedgerRegistry {
     
@@ -21,6 +22,9 @@ contract LedgerRegistry {
     // 조직별 해시 목록 관리
     mapping(uint256 => bytes32[]) private organizationHashes;
     
+    // 일괄 등록된 Merkle 루트 저장소: root => timestamp
+    mapping(bytes32 => uint256) private registeredRoots;
+    
     // 컨트랙트 소유자
     address public owner;
     
@@ -35,6 +39,13 @@ contract LedgerRegistry {
         address registrant
     );
     
+    event RootRegistered(
+        bytes32 indexed merkleRoot,
+        uint256 leafCount,
+        uint256 timestamp,
+        address registrant
+    );
+    
     event RegistrantAuthorized(address indexed registrant, bool authorized);
     
     // 수정자
@@ -92,6 +103,57 @@ contract LedgerRegistry {
         exists = timestamp != 0;
     }
     
+    /**
+     * @dev 여러 데이터 해시로 만든 Merkle 루트를 한 번에 등록
+     * @param merkleRoot Merkle 루트 (정렬된 쌍을 keccak256으로 결합)
+     * @param leafCount 트리에 포함된 leaf 개수
+     */
+    function registerRoot(bytes32 merkleRoot, uint256 leafCount) 
+        external 
+        onlyAuthorized 
+    {
+        require(merkleRoot != bytes32(0), "LedgerRegistry: invalid root");
+        require(leafCount > 0, "LedgerRegistry: empty batch");
+        require(registeredRoots[merkleRoot] == 0, "LedgerRegistry: root already registered");
+        
+        uint256 timestamp = block.timestamp;
+        registeredRoots[merkleRoot] = timestamp;
+        
+        emit RootRegistered(merkleRoot, leafCount, timestamp, msg.sender);
+    }
+    
+    /**
+     * @dev 포함 증명으로 해시가 등록된 Merkle 루트에 속하는지 검증
+     * @param dataHash 검증할 데이터 해시
+     * @param proof leaf에서 루트까지의 형제 노드 목록
+     * @param merkleRoot 일괄 등록된 Merkle 루트
+     * @return exists 포함 여부
+     * @return timestamp 루트 등록 시간 (없으면 0)
+     */
+    function verifyHashWithProof(bytes32 dataHash, bytes32[] calldata proof, bytes32 merkleRoot) 
+        external 
+        view 
+        returns (bool exists, uint256 timestamp) 
+    {
+        timestamp = registeredRoots[merkleRoot];
+        if (timestamp == 0) {
+            return (false, 0);
+        }
+        
+        bytes32 computed = keccak256(abi.encodePacked(dataHash));
+        for (uint256 i = 0; i < proof.length; i++) {
+            bytes32 sibling = proof[i];
+            computed = computed < sibling
+                ? keccak256(abi.encodePacked(computed, sibling))
+                : keccak256(abi.encodePacked(sibling, computed));
+        }
+        
+        exists = computed == merkleRoot;
+        if (!exists) {
+            timestamp = 0;
+        }
+    }
+    
     /**
      * @dev 해시의 등록자 주소 조회
      * @param dataHash 조회할 해시
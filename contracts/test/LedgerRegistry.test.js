@@ -72,6 +72,54 @@ describe("LedgerRegistry", function () {
     });
   });
 
+  describe("Merkle Root Registration", function () {
+    const leafOf = (hash) => ethers.keccak256(hash);
+    const hashPair = (a, b) =>
+      BigInt(a) < BigInt(b)
+        ? ethers.keccak256(ethers.concat([a, b]))
+        : ethers.keccak256(ethers.concat([b, a]));
+
+    let hashA;
+    let hashB;
+    let root;
+
+    beforeEach(function () {
+      hashA = ethers.keccak256(ethers.toUtf8Bytes("receipt-a"));
+      hashB = ethers.keccak256(ethers.toUtf8Bytes("receipt-b"));
+      root = hashPair(leafOf(hashA), leafOf(hashB));
+    });
+
+    it("Should verify hash included in registered root", async function () {
+      await ledgerRegistry.registerRoot(root, 2);
+
+      const [exists, timestamp] = await ledgerRegistry.verifyHashWithProof(hashA, [leafOf(hashB)], root);
+
+      expect(exists).to.be.true;
+      expect(timestamp).to.be.gt(0);
+    });
+
+    it("Should reject hash with invalid proof", async function () {
+      await ledgerRegistry.registerRoot(root, 2);
+      const other = ethers.keccak256(ethers.toUtf8Bytes("receipt-c"));
+
+      const [exists, timestamp] = await ledgerRegistry.verifyHashWithProof(other, [leafOf(hashB)], root);
+
+      expect(exists).to.be.false;
+      expect(timestamp).to.equal(0);
+    });
+
+    it("Should return false for unregistered root", async function () {
+      const [exists] = await ledgerRegistry.verifyHashWithProof(hashA, [leafOf(hashB)], root);
+      expect(exists).to.be.false;
+    });
+
+    it("Should prevent duplicate root registration", async function () {
+      await ledgerRegistry.registerRoot(root, 2);
+      await expect(ledgerRegistry.registerRoot(root, 2))
+        .to.be.revertedWith("LedgerRegistry: root already registered");
+    });
+  });
+
   describe("Authorization", function () {
     it("Should authorize new registrant", async function () {
       await ledgerRegistry.setAuthorizedRegistrant(authorizedUser.address, true);
@@ -1,11 +1,22 @@
 package com.vericerti.application.command;
 
 import com.vericerti.domain.ledger.entity.LedgerEntityType;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
 
+/**
+ * @param fileContent 파일 스트림 공급자 (MultipartFile 그대로 전달 가능, 저장 시 한 번만 읽음)
+ */
 public record CreateLedgerEntryCommand(
         Long organizationId,
         LedgerEntityType entityType,
         Long entityId,
-        byte[] fileContent,
+        InputStreamSource fileContent,
         String filename
-) {}
+) {
+
+    public CreateLedgerEntryCommand(Long organizationId, LedgerEntityType entityType, Long entityId,
+                                    byte[] fileContent, String filename) {
+        this(organizationId, entityType, entityId, new ByteArrayResource(fileContent), filename);
+    }
+}
@@ -1,6 +1,14 @@
 package com.vericerti.application.command;
 
+/**
+ * @param clientIp 로그인 시도 제한용 (null이면 IP별 제한 없음)
+ */
 public record LoginCommand(
         String email,
-        String password
-) {}
+        String password,
+        String clientIp
+) {
+    public LoginCommand(String email, String password) {
+        this(email, password, null);
+    }
+}
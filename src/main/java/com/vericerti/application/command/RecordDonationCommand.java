@@ -1,10 +1,19 @@
 package com.vericerti.application.command;
 
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+
 public record RecordDonationCommand(
         Long organizationId,
         Long memberId,
         java.math.BigDecimal amount,
         String purpose,
-        byte[] receiptFile,
+        InputStreamSource receiptFile,
         String filename
-) {}
+) {
+
+    public RecordDonationCommand(Long organizationId, Long memberId, java.math.BigDecimal amount,
+                                 String purpose, byte[] receiptFile, String filename) {
+        this(organizationId, memberId, amount, purpose, new ByteArrayResource(receiptFile), filename);
+    }
+}
@@ -1,6 +1,8 @@
 package com.vericerti.application.command;
 
 import com.vericerti.domain.receipt.entity.ReceiptCategory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -17,7 +19,15 @@ public record RecordReceiptCommand(
         String merchantBusinessNumber,
         ReceiptCategory category,
         String description,
-        // 영수증 이미지 파일
-        byte[] receiptFile,
+        // 영수증 이미지 파일 (MultipartFile 그대로 전달, 저장 시 스트림으로 읽음)
+        InputStreamSource receiptFile,
         String filename
-) {}
+) {
+
+    public RecordReceiptCommand(Long organizationId, Long accountId, BigDecimal amount, LocalDate issueDate,
+                                String merchantName, String merchantBusinessNumber, ReceiptCategory category,
+                                String description, byte[] receiptFile, String filename) {
+        this(organizationId, accountId, amount, issueDate, merchantName, merchantBusinessNumber, category,
+                description, new ByteArrayResource(receiptFile), filename);
+    }
+}
@@ -10,17 +10,18 @@ import com.vericerti.controller.auth.request.SignupRequest;
 import com.vericerti.controller.auth.response.SignupResponse;
 import com.vericerti.controller.auth.response.TokenResponse;
 import com.vericerti.domain.auth.service.AuthService;
-import com.vericerti.domain.member.entity.Member;
 import com.vericerti.domain.member.entity.MemberRole;
-import com.vericerti.domain.member.service.MemberService;
 import com.vericerti.infrastructure.config.JwtProperties;
+import com.vericerti.infrastructure.filter.ClientIpResolver;
+import com.vericerti.infrastructure.security.AuthenticatedMember;
+import com.vericerti.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
@@ -31,8 +32,8 @@ import java.time.Duration;
 public class AuthController {
 
     private final AuthService authService;
-    private final MemberService memberService;
     private final JwtProperties jwtProperties;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping("/signup")
     public ResponseEntity<SignupResponse> signup(@Valid @RequestBody SignupRequest request) {
@@ -44,9 +45,10 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request,
+                                               HttpServletRequest httpRequest) {
         TokenResult tokens = authService.login(
-                new LoginCommand(request.email(), request.password())
+                new LoginCommand(request.email(), request.password(), clientIpResolver.resolve(httpRequest))
         );
 
         return ResponseEntity.ok()
@@ -76,11 +78,13 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@AuthenticationPrincipal UserDetails userDetails) {
-        if (userDetails != null) {
-            // UserDetails의 username은 email
-            Member member = memberService.findByEmail(userDetails.getUsername());
-            authService.logout(member.getId());
+    public ResponseEntity<Void> logout(
+            @AuthenticationPrincipal AuthenticatedMember principal,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @CookieValue(name = "refreshToken", required = false) String refreshTokenFromCookie) {
+        if (principal != null) {
+            authService.logout(principal.memberId(),
+                    JwtAuthenticationFilter.resolveBearerToken(authorization), refreshTokenFromCookie);
         }
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, deleteRefreshTokenCookie().toString())
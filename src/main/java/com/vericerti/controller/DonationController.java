@@ -8,19 +8,16 @@ import com.vericerti.controller.donation.response.DonationResponse;
 import com.vericerti.domain.donation.entity.Donation;
 import com.vericerti.domain.donation.service.DonationService;
 import com.vericerti.domain.ledger.entity.LedgerEntry;
-import com.vericerti.domain.member.entity.Member;
-import com.vericerti.domain.member.service.MemberService;
+import com.vericerti.infrastructure.security.AuthenticatedMember;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -30,24 +27,21 @@ public class DonationController {
 
     private final DonationService donationService;
     private final RecordDonationUseCase recordDonationUseCase;
-    private final MemberService memberService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<DonationResponse> createDonation(
             @PathVariable Long orgId,
             @Valid @RequestPart("donation") DonationCreateRequest request,
             @RequestPart("receipt") MultipartFile receiptFile,
-            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
-
-        Member member = memberService.findByEmail(userDetails.getUsername());
+            @AuthenticationPrincipal AuthenticatedMember principal) {
 
         DonationResult result = recordDonationUseCase.execute(
                 new RecordDonationCommand(
                         orgId,
-                        member.getId(),
+                        principal.memberId(),
                         request.amount(),
                         request.purpose(),
-                        receiptFile.getBytes(),
+                        receiptFile,
                         receiptFile.getOriginalFilename()
                 )
         );
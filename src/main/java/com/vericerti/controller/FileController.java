@@ -0,0 +1,41 @@
+package com.vericerti.controller;
+
+import com.vericerti.domain.ledger.service.LedgerService;
+import com.vericerti.infrastructure.storage.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+public class FileController {
+
+    private final FileStorageService fileStorageService;
+    private final LedgerService ledgerService;
+
+    /**
+     * Download a stored file (LedgerEntry.fileUrl)
+     * - Range 요청은 Spring이 Resource 구간(206 Partial Content)으로 응답, 파일 전체를 힙에 올리지 않음
+     * - DataHash를 strong ETag로 사용 → If-None-Match 일치 시 304
+     */
+    @GetMapping("/files/{*path}")
+    public ResponseEntity<Resource> download(@PathVariable String path) {
+        String fileUrl = "/files" + path;
+        Resource resource = fileStorageService.load(fileUrl);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate());
+        ledgerService.findDataHashByFileUrl(fileUrl).ifPresent(response::eTag);
+
+        return response.body(resource);
+    }
+}
@@ -3,13 +3,21 @@ package com.vericerti.controller;
 import com.vericerti.controller.ledger.response.LedgerResponse;
 import com.vericerti.controller.ledger.response.VerifyResponse;
 import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.service.LedgerOutboxService;
 import com.vericerti.domain.ledger.service.LedgerService;
 import com.vericerti.infrastructure.blockchain.BlockchainSyncScheduler;
+import com.vericerti.infrastructure.blockchain.FailedEntryRetrier;
+import com.vericerti.infrastructure.blockchain.PendingVerificationQueue;
+import com.vericerti.infrastructure.storage.OrphanFileCollector;
+import com.vericerti.infrastructure.storage.StorageIntegrityScrubber;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -19,7 +27,12 @@ import java.util.Optional;
 public class LedgerController {
 
     private final LedgerService ledgerService;
+    private final LedgerOutboxService ledgerOutboxService;
     private final BlockchainSyncScheduler blockchainSyncScheduler;
+    private final PendingVerificationQueue pendingVerificationQueue;
+    private final FailedEntryRetrier failedEntryRetrier;
+    private final StorageIntegrityScrubber storageIntegrityScrubber;
+    private final OrphanFileCollector orphanFileCollector;
 
     /**
      * Get all ledger entries for an organization (Public API)
@@ -60,7 +73,8 @@ public class LedgerController {
         return ResponseEntity.ok(Map.of(
                 "total", result.total(),
                 "verified", result.verified(),
-                "failed", result.failed()
+                "failed", result.failed(),
+                "unverified", result.unverified()
         ));
     }
 
@@ -77,6 +91,84 @@ public class LedgerController {
         ));
     }
 
+    /**
+     * Re-queue FAILED entries in bulk, optionally by organization and recordedAt range [from, to)
+     * (Admin only, 409 if already running)
+     */
+    @PostMapping("/api/ledger/sync/retry-failed")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> retryFailed(
+            @RequestParam(required = false) Long organizationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        boolean started = failedEntryRetrier.start(new FailedEntryRetrier.RetryFilter(organizationId, from, to));
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(Map.of("started", started));
+    }
+
+    /**
+     * Bulk FAILED retry progress (Admin only)
+     */
+    @GetMapping("/api/ledger/sync/retry-failed")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FailedEntryRetrier.RetryProgress> getRetryFailedProgress() {
+        return ResponseEntity.ok(failedEntryRetrier.getProgress());
+    }
+
+    /**
+     * Submission outbox and verification queue depth (Admin only)
+     */
+    @GetMapping("/api/ledger/sync/queue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getSyncQueueDepth() {
+        return ResponseEntity.ok(Map.of(
+                "outbox", ledgerOutboxService.depth(),
+                "verification", pendingVerificationQueue.depth()
+        ));
+    }
+
+    /**
+     * Start file integrity scrub in background (Admin only)
+     */
+    @PostMapping("/api/ledger/integrity/scrub")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> startScrub() {
+        return ResponseEntity.accepted().body(Map.of("started", storageIntegrityScrubber.start()));
+    }
+
+    /**
+     * File integrity scrub progress and recorded mismatches (Admin only)
+     */
+    @GetMapping("/api/ledger/integrity/scrub")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getScrubStatus(@RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(Map.of(
+                "progress", storageIntegrityScrubber.getProgress(),
+                "mismatchCount", storageIntegrityScrubber.countMismatches(),
+                "mismatches", storageIntegrityScrubber.findMismatches(Math.clamp(limit, 1, 1000))
+        ));
+    }
+
+    /**
+     * Start orphaned upload file collection in background (Admin only, 409 if already running)
+     */
+    @PostMapping("/api/ledger/integrity/gc")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> collectOrphanFiles() {
+        boolean started = orphanFileCollector.start();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(Map.of("started", started));
+    }
+
+    /**
+     * Orphaned upload file collection status and last result (Admin only)
+     */
+    @GetMapping("/api/ledger/integrity/gc")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<OrphanFileCollector.GcStatus> getOrphanFileCollectionStatus() {
+        return ResponseEntity.ok(orphanFileCollector.getStatus());
+    }
+
     private LedgerResponse toResponse(LedgerEntry entry) {
         return new LedgerResponse(
                 entry.getId(),
@@ -15,7 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
@@ -32,7 +31,7 @@ public class ReceiptController {
     public ResponseEntity<ReceiptResponse> create(
             @PathVariable Long orgId,
             @Valid @ModelAttribute ReceiptCreateRequest request,
-            @RequestParam("file") MultipartFile file) throws IOException {
+            @RequestParam("file") MultipartFile file) {
         
         ReceiptResult result = recordReceiptUseCase.execute(
                 new RecordReceiptCommand(
@@ -44,7 +43,7 @@ public class ReceiptController {
                         request.merchantBusinessNumber(),
                         request.category(),
                         request.description(),
-                        file.getBytes(),
+                        file,
                         file.getOriginalFilename()
                 )
         );
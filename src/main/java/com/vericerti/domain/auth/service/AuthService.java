@@ -11,7 +11,9 @@ import com.vericerti.infrastructure.exception.AuthenticationException;
 import com.vericerti.infrastructure.exception.DuplicateException;
 import com.vericerti.infrastructure.exception.EntityNotFoundException;
 import com.vericerti.infrastructure.security.JwtTokenProvider;
+import com.vericerti.infrastructure.security.LoginAttemptLimiter;
 import com.vericerti.infrastructure.security.RefreshTokenService;
+import com.vericerti.infrastructure.security.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,7 +31,9 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
     private final AuthenticationManager authenticationManager;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     @Transactional
     public SignupResult signup(SignupCommand command) {
@@ -49,16 +53,25 @@ public class AuthService {
         return new SignupResult(member.getId(), member.getEmailValue().orElse(""));
     }
 
-    @Transactional
+    /**
+     * 트랜잭션 없이 실행 (BCrypt 대기열에서 최대 수 초 기다리는 동안 DB 커넥션을 잡지 않음)
+     * - 회원 조회는 각 리포지토리 호출의 짧은 읽기 트랜잭션으로 처리
+     */
     public TokenResult login(LoginCommand command) {
+        // 시도 횟수 제한 → BCrypt 검증(전용 스레드 풀, 포화 시 429)
+        loginAttemptLimiter.acquire(command.email(), command.clientIp());
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(command.email(), command.password())
         );
+        loginAttemptLimiter.reset(command.email());
 
         Member member = memberRepository.findByEmail(command.email())
                 .orElseThrow(() -> EntityNotFoundException.user(command.email()));
+        if (!member.isActive()) {
+            throw AuthenticationException.invalidCredentials();
+        }
 
-        String accessToken = jwtTokenProvider.createAccessToken(member.getId(), member.getEmailValue().orElseThrow());
+        String accessToken = jwtTokenProvider.createAccessToken(member.getId(), member.getEmailValue().orElseThrow(), member.getRole());
         String refreshToken = jwtTokenProvider.createRefreshToken(member.getId());
 
         refreshTokenService.saveRefreshToken(member.getId(), refreshToken);
@@ -69,20 +82,18 @@ public class AuthService {
 
     @Transactional
     public TokenResult refresh(String oldRefreshToken) {
-        if (!jwtTokenProvider.validateToken(oldRefreshToken)) {
-            throw AuthenticationException.invalidToken();
-        }
-
-        String tokenType = jwtTokenProvider.getTokenType(oldRefreshToken);
-        if (!JwtTokenProvider.TOKEN_TYPE_REFRESH.equals(tokenType)) {
-            throw AuthenticationException.invalidToken();
-        }
-
-        Long memberId = jwtTokenProvider.getMemberIdFromToken(oldRefreshToken);
+        Long memberId = jwtTokenProvider.parse(oldRefreshToken)
+                .filter(JwtTokenProvider.VerifiedToken::isRefreshToken)
+                .map(JwtTokenProvider.VerifiedToken::memberId)
+                .orElseThrow(AuthenticationException::invalidToken);
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> EntityNotFoundException.user(memberId));
+        // 정지/탈퇴한 회원은 남아 있는 refresh token으로도 새 access token을 받지 못함
+        if (!member.isActive()) {
+            throw AuthenticationException.invalidToken();
+        }
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(member.getId(), member.getEmailValue().orElseThrow());
+        String newAccessToken = jwtTokenProvider.createAccessToken(member.getId(), member.getEmailValue().orElseThrow(), member.getRole());
         String newRefreshToken = jwtTokenProvider.createRefreshToken(member.getId());
 
         boolean rotated = refreshTokenService.validateAndRotate(memberId, oldRefreshToken, newRefreshToken);
@@ -94,8 +105,21 @@ public class AuthService {
         return new TokenResult(newAccessToken, newRefreshToken);
     }
 
-    public void logout(Long memberId) {
-        refreshTokenService.deleteRefreshToken(memberId);
+    /**
+     * 이 기기의 refresh token 삭제와 access token 폐기 (다른 기기의 토큰은 그대로)
+     *
+     * @param accessToken  요청에 사용한 access token
+     * @param refreshToken 쿠키로 받은 refresh token (없으면 refresh token은 그대로 둠)
+     */
+    public void logout(Long memberId, String accessToken, String refreshToken) {
+        if (refreshToken != null) {
+            refreshTokenService.deleteRefreshToken(memberId, refreshToken);
+        }
+        if (accessToken != null) {
+            jwtTokenProvider.parseAccessToken(accessToken)
+                    .filter(token -> token.memberId().equals(memberId))
+                    .ifPresent(tokenRevocationList::revoke);
+        }
         log.info("event=user_logout memberId={}", memberId);
     }
 }
@@ -7,13 +7,16 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 @Entity
 @Table(name = "ledger_entries", indexes = {
     @Index(name = "idx_ledger_tx_hash", columnList = "blockchain_tx_hash"),
     @Index(name = "idx_ledger_org_date", columnList = "organization_id, recordedAt"),
-    @Index(name = "idx_ledger_status", columnList = "status")
+    @Index(name = "idx_ledger_status", columnList = "status"),
+    @Index(name = "idx_ledger_file_url", columnList = "fileUrl")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,6 +49,18 @@ public class LedgerEntry {
     @AttributeOverride(name = "value", column = @Column(name = "blockchain_tx_hash", length = 66))
     private TxHash blockchainTxHash;
 
+    /**
+     * Merkle 일괄 등록 시 앵커된 루트 (0x 포함 66자)
+     */
+    @Column(name = "merkle_root", length = 66)
+    private String merkleRoot;
+
+    /**
+     * Merkle 포함 증명 (leaf → root 형제 노드, 쉼표 구분 0x hex)
+     */
+    @Column(name = "merkle_proof", columnDefinition = "TEXT")
+    private String merkleProof;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -70,6 +85,40 @@ public class LedgerEntry {
         return Optional.ofNullable(blockchainTxHash).map(TxHash::getValue);
     }
 
+    public List<String> getMerkleProofNodes() {
+        if (merkleProof == null || merkleProof.isBlank()) {
+            return List.of();
+        }
+        return Arrays.asList(merkleProof.split(","));
+    }
+
+    public boolean isBatchAnchored() {
+        return merkleRoot != null;
+    }
+
+    /**
+     * Attach the Merkle inclusion proof of a batch anchoring.
+     * Only allowed from PENDING status. A later batch overwrites an earlier one.
+     *
+     * @param merkleRoot anchored Merkle root
+     * @param proof      sibling nodes from leaf to root
+     * @throws IllegalStateTransitionException if current status is not PENDING
+     */
+    public void attachMerkleProof(String merkleRoot, List<String> proof) {
+        if (this.status != LedgerStatus.PENDING) {
+            throw new IllegalStateTransitionException(
+                this.status.name(),
+                LedgerStatus.PENDING.name()
+            );
+        }
+        if (merkleRoot == null || merkleRoot.isBlank()) {
+            throw new IllegalArgumentException("Merkle root cannot be empty");
+        }
+
+        this.merkleRoot = merkleRoot;
+        this.merkleProof = String.join(",", proof);
+    }
+
     /**
      * Mark this entry as recorded on the blockchain.
      * Only allowed from PENDING status.
@@ -125,6 +174,8 @@ public class LedgerEntry {
         
         this.status = LedgerStatus.PENDING;
         this.blockchainTxHash = null;
+        this.merkleRoot = null;
+        this.merkleProof = null;
     }
 
     public boolean isPending() {
@@ -0,0 +1,72 @@
+package com.vericerti.domain.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 블록체인 제출 대기 (transactional outbox)
+ * - LedgerEntry가 PENDING이 되는 트랜잭션에서 함께 기록, 제출되면 삭제
+ * - availableAt: 다음에 claim할 수 있는 시각 (claim 시 lease 만료 시각, 실패 시 재시도 시각으로 갱신)
+ * - deadAt: outbox.max-attempts번 실패해 더 이상 claim하지 않는 행 (dead letter, 엔트리는 FAILED)
+ */
+@Entity
+@Table(name = "ledger_outbox", indexes = {
+    @Index(name = "idx_ledger_outbox_available", columnList = "available_at, id"),
+    @Index(name = "idx_ledger_outbox_entry", columnList = "entry_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class LedgerOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entry_id", nullable = false)
+    private Long entryId;
+
+    /**
+     * 여러 인스턴스가 organizationId 파티션별로 나눠 처리
+     */
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "dead_at")
+    private LocalDateTime deadAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.availableAt == null) {
+            this.availableAt = this.createdAt;
+        }
+    }
+
+    public static LedgerOutbox of(LedgerEntry entry) {
+        return LedgerOutbox.builder()
+                .entryId(entry.getId())
+                .organizationId(entry.getOrganizationId())
+                .build();
+    }
+
+    /**
+     * leaseUntil까지 다른 dispatcher가 가져가지 않도록 표시
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.availableAt = leaseUntil;
+    }
+}
@@ -0,0 +1,57 @@
+package com.vericerti.domain.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 블록체인 이벤트(HashRegistered, RootRegistered)를 로컬에 미러링한 등록 기록
+ * 검증 시 엔트리별 eth_call 대신 이 테이블을 조회
+ * 컨트랙트 주소별로 구분 (재배포 후에는 새 컨트랙트에 등록된 기록만 인정)
+ */
+@Entity
+@Table(name = "registered_hashes", indexes = {
+    @Index(name = "idx_registered_hash_block", columnList = "block_number")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_registered_hash_contract_value", columnNames = {"contract_address", "hash_value"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class RegisteredHash {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 0x 없는 64자 소문자 hex (ledger_entries.data_hash와 같은 형식)
+     */
+    @Column(name = "hash_value", nullable = false, length = 64)
+    private String hashValue;
+
+    /**
+     * 이벤트를 발생시킨 컨트랙트 주소 (0x 포함 소문자)
+     */
+    @Column(name = "contract_address", nullable = false, length = 42)
+    private String contractAddress;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RegisteredHashType type;
+
+    @Column(name = "organization_id")
+    private Long organizationId;
+
+    @Column(name = "tx_hash", nullable = false, length = 66)
+    private String txHash;
+
+    @Column(name = "block_number", nullable = false)
+    private Long blockNumber;
+
+    /**
+     * 블록 timestamp (epoch seconds)
+     */
+    @Column(nullable = false)
+    private Long registeredAt;
+}
@@ -0,0 +1,6 @@
+package com.vericerti.domain.ledger.entity;
+
+public enum RegisteredHashType {
+    DATA_HASH,      // registerHash로 개별 등록된 데이터 해시
+    MERKLE_ROOT     // registerRoot로 일괄 등록된 Merkle 루트
+}
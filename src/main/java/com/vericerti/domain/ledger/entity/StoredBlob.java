@@ -0,0 +1,44 @@
+package com.vericerti.domain.ledger.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 파일 1개와 이를 참조하는 LedgerEntry 수
+ * content-addressed 저장소에서는 같은 내용의 업로드가 하나의 파일을 공유하므로 refCount가 1보다 커짐
+ * - 증가: LedgerService.createEntry (엔트리 저장과 같은 트랜잭션, 롤백되면 함께 취소)
+ * - 감소/회수: OrphanFileCollector가 ledger_entries 기준으로 다시 계산하고, 0이 된 파일은 회수 후 기록 삭제
+ */
+@Entity
+@Table(name = "stored_blobs", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_stored_blob_file_url", columnNames = "file_url")
+}, indexes = {
+    @Index(name = "idx_stored_blob_data_hash", columnList = "data_hash")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class StoredBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_url", nullable = false, length = 500)
+    private String fileUrl;
+
+    @Column(name = "data_hash", nullable = false, length = 64)
+    private String dataHash;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
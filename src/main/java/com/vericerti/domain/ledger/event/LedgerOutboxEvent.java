@@ -0,0 +1,6 @@
+package com.vericerti.domain.ledger.event;
+
+/**
+ * outbox 행이 기록됨 (커밋 후 같은 인스턴스의 dispatcher를 즉시 깨움)
+ */
+public record LedgerOutboxEvent(Long entryId) {}
@@ -2,18 +2,71 @@ package com.vericerti.domain.ledger.repository;
 
 import com.vericerti.domain.ledger.entity.LedgerEntry;
 import com.vericerti.domain.ledger.entity.LedgerStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
     List<LedgerEntry> findByOrganizationIdOrderByRecordedAtDesc(Long organizationId);
     List<LedgerEntry> findByStatus(LedgerStatus status);
+
+    /**
+     * id 기준 keyset 페이지 조회 (OFFSET 없이 afterId 이후 limit개)
+     */
+    List<LedgerEntry> findByStatusAndIdGreaterThanOrderByIdAsc(LedgerStatus status, Long afterId, Limit limit);
+
+    /**
+     * 파일이 있는 엔트리 keyset 페이지 조회 (무결성 검사용)
+     */
+    List<LedgerEntry> findByFileUrlIsNotNullAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * @return 주어진 파일 URL 중 엔트리가 참조하는 것 (고아 파일 GC용 일괄 조회)
+     */
+    @Query("SELECT DISTINCT e.fileUrl FROM LedgerEntry e WHERE e.fileUrl IN :fileUrls")
+    Set<String> findReferencedFileUrls(@Param("fileUrls") Collection<String> fileUrls);
     
-    @Query("SELECT e FROM LedgerEntry e WHERE e.blockchainTxHash.value = :txHash")
-    Optional<LedgerEntry> findByBlockchainTxHash(@Param("txHash") String txHash);
+    /**
+     * 재시도 대상 FAILED 엔트리 id keyset 조회 (조건이 null이면 해당 필터 없음, to는 미포함)
+     */
+    @Query("""
+            SELECT e.id FROM LedgerEntry e
+            WHERE e.status = :status
+              AND e.id > :afterId
+              AND (:organizationId IS NULL OR e.organizationId = :organizationId)
+              AND (:from IS NULL OR e.recordedAt >= :from)
+              AND (:to IS NULL OR e.recordedAt < :to)
+            ORDER BY e.id
+            """)
+    List<Long> findIdsByStatus(@Param("status") LedgerStatus status,
+                               @Param("organizationId") Long organizationId,
+                               @Param("from") LocalDateTime from,
+                               @Param("to") LocalDateTime to,
+                               @Param("afterId") Long afterId,
+                               Limit limit);
+
+    /**
+     * FAILED → PENDING 일괄 전환 (LedgerEntry.retry()와 같이 이전 제출 정보 초기화, 엔티티 로드 없음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE ledger_entries
+            SET status = 'PENDING', blockchain_tx_hash = NULL, merkle_root = NULL, merkle_proof = NULL
+            WHERE id IN (:ids) AND status = 'FAILED'
+            """, nativeQuery = true)
+    int retryFailed(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Merkle 일괄 등록 시 여러 엔트리가 같은 txHash를 공유하므로 List로 조회
+     */
+    @Query("SELECT e FROM LedgerEntry e WHERE e.blockchainTxHash.value = :txHash ORDER BY e.id")
+    List<LedgerEntry> findByBlockchainTxHash(@Param("txHash") String txHash);
 }
 
@@ -0,0 +1,94 @@
+package com.vericerti.domain.ledger.repository;
+
+import com.vericerti.domain.ledger.entity.LedgerOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface LedgerOutboxRepository extends JpaRepository<LedgerOutbox, Long> {
+
+    /**
+     * claim 가능한 행을 최대 limit개 잠금 (다른 트랜잭션이 잠근 행은 기다리지 않고 건너뜀)
+     */
+    @Query(value = """
+            SELECT * FROM ledger_outbox
+            WHERE available_at <= :now
+              AND dead_at IS NULL
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<LedgerOutbox> lockAvailable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * lockAvailable + 이 인스턴스가 소유한 파티션(organization_id % partitions)만
+     */
+    @Query(value = """
+            SELECT * FROM ledger_outbox
+            WHERE available_at <= :now
+              AND dead_at IS NULL
+              AND MOD(organization_id, :partitions) IN (:owned)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<LedgerOutbox> lockAvailableInPartitions(@Param("now") LocalDateTime now,
+                                                 @Param("partitions") int partitions,
+                                                 @Param("owned") Collection<Integer> owned,
+                                                 @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE LedgerOutbox o SET o.attempts = o.attempts + 1, o.availableAt = :availableAt WHERE o.id IN :ids")
+    int reschedule(@Param("ids") Collection<Long> ids, @Param("availableAt") LocalDateTime availableAt);
+
+    /**
+     * 최대 시도 횟수를 넘긴 행을 dead letter로 표시 (이후 claim 대상에서 제외)
+     */
+    @Modifying
+    @Query("UPDATE LedgerOutbox o SET o.attempts = o.attempts + 1, o.deadAt = :deadAt WHERE o.id IN :ids")
+    int deadLetter(@Param("ids") Collection<Long> ids, @Param("deadAt") LocalDateTime deadAt);
+
+    /**
+     * FAILED 재시도 전에 이전 dead letter 행 정리 (insertForPendingEntries가 새 행을 넣을 수 있도록)
+     */
+    @Modifying
+    @Query("DELETE FROM LedgerOutbox o WHERE o.entryId IN :entryIds AND o.deadAt IS NOT NULL")
+    int deleteDeadLetters(@Param("entryIds") Collection<Long> entryIds);
+
+    /**
+     * outbox 행이 없는 PENDING 엔트리에 행 추가 (outbox 도입 전 엔트리, 기동 시 1회)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO ledger_outbox (entry_id, organization_id, attempts, available_at, created_at)
+            SELECT e.id, e.organization_id, 0, :now, :now FROM ledger_entries e
+            WHERE e.status = 'PENDING'
+              AND NOT EXISTS (SELECT 1 FROM ledger_outbox o WHERE o.entry_id = e.id)
+            """, nativeQuery = true)
+    int backfillPending(@Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 엔트리 중 PENDING이고 outbox 행이 없는 것에 행 추가 (FAILED 일괄 재시도용)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO ledger_outbox (entry_id, organization_id, attempts, available_at, created_at)
+            SELECT e.id, e.organization_id, 0, :now, :now FROM ledger_entries e
+            WHERE e.id IN (:entryIds) AND e.status = 'PENDING'
+              AND NOT EXISTS (SELECT 1 FROM ledger_outbox o WHERE o.entry_id = e.id)
+            """, nativeQuery = true)
+    int insertForPendingEntries(@Param("entryIds") Collection<Long> entryIds, @Param("now") LocalDateTime now);
+
+    long countByEntryId(Long entryId);
+
+    long countByDeadAtIsNullAndAvailableAtLessThanEqual(LocalDateTime now);
+
+    long countByDeadAtIsNullAndAttemptsGreaterThan(int attempts);
+
+    long countByDeadAtIsNotNull();
+}
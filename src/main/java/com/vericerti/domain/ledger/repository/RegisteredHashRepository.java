@@ -0,0 +1,11 @@
+package com.vericerti.domain.ledger.repository;
+
+import com.vericerti.domain.ledger.entity.RegisteredHash;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RegisteredHashRepository extends JpaRepository<RegisteredHash, Long> {
+    List<RegisteredHash> findByContractAddressAndHashValueIn(String contractAddress, Collection<String> hashValues);
+}
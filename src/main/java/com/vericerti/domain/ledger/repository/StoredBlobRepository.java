@@ -0,0 +1,50 @@
+package com.vericerti.domain.ledger.repository;
+
+import com.vericerti.domain.ledger.entity.StoredBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, Long> {
+    Optional<StoredBlob> findByFileUrl(String fileUrl);
+
+    /**
+     * 참조 1개 추가 (처음 보는 파일이면 refCount 1로 생성, 동시 업로드에도 원자적)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO stored_blobs (file_url, data_hash, size, ref_count, created_at)
+            VALUES (:fileUrl, :dataHash, :size, 1, NOW(6))
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+            """, nativeQuery = true)
+    int addReference(@Param("fileUrl") String fileUrl,
+                     @Param("dataHash") String dataHash,
+                     @Param("size") long size);
+
+    /**
+     * 참조 수를 실제로 파일을 참조하는 LedgerEntry 수로 다시 계산 (고아 파일 GC가 batch마다 실행)
+     * 엔트리가 사라진 파일은 0이 됨
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE stored_blobs b
+            SET b.ref_count = (SELECT COUNT(*) FROM ledger_entries e WHERE e.file_url = b.file_url)
+            WHERE b.file_url IN (:fileUrls)
+            """, nativeQuery = true)
+    int recountReferences(@Param("fileUrls") Collection<String> fileUrls);
+
+    /**
+     * 회수한 파일의 기록 삭제 (그 사이 다시 참조된 파일은 유지)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM stored_blobs WHERE file_url IN (:fileUrls) AND ref_count = 0", nativeQuery = true)
+    int deleteUnreferenced(@Param("fileUrls") Collection<String> fileUrls);
+}
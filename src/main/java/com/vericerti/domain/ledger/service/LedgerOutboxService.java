@@ -0,0 +1,123 @@
+package com.vericerti.domain.ledger.service;
+
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.entity.LedgerOutbox;
+import com.vericerti.domain.ledger.repository.LedgerEntryRepository;
+import com.vericerti.domain.ledger.repository.LedgerOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 블록체인 제출 outbox (claim → 제출 → complete / reschedule / deadLetter)
+ * 잠금은 claim 트랜잭션 동안만 유지하고, 제출(RPC)은 트랜잭션 밖에서 lease로 보호
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerOutboxService {
+
+    private final LedgerOutboxRepository ledgerOutboxRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+
+    /**
+     * claim 가능한 행을 최대 limit개 가져오고 lease 동안 다른 인스턴스가 가져가지 않도록 표시
+     */
+    @Transactional
+    public List<LedgerOutbox> claim(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        return claimAll(ledgerOutboxRepository.lockAvailable(now, limit), now.plus(lease));
+    }
+
+    /**
+     * claim(limit, lease)와 같지만 organizationId % partitions 가 owned에 속한 행만
+     */
+    @Transactional
+    public List<LedgerOutbox> claim(int limit, Duration lease, int partitions, Set<Integer> owned) {
+        if (owned.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return claimAll(ledgerOutboxRepository.lockAvailableInPartitions(now, partitions, owned, limit),
+                now.plus(lease));
+    }
+
+    private List<LedgerOutbox> claimAll(List<LedgerOutbox> rows, LocalDateTime leaseUntil) {
+        rows.forEach(row -> row.claim(leaseUntil));
+        return rows;
+    }
+
+    /**
+     * 제출 완료 (또는 더 이상 제출할 필요 없음) → 삭제
+     */
+    @Transactional
+    public void complete(Collection<Long> outboxIds) {
+        if (!outboxIds.isEmpty()) {
+            ledgerOutboxRepository.deleteAllByIdInBatch(outboxIds);
+        }
+    }
+
+    /**
+     * 제출 실패 → delay 후 다시 claim 가능
+     */
+    @Transactional
+    public void reschedule(Collection<Long> outboxIds, Duration delay) {
+        if (!outboxIds.isEmpty()) {
+            ledgerOutboxRepository.reschedule(outboxIds, LocalDateTime.now().plus(delay));
+        }
+    }
+
+    /**
+     * 최대 시도 횟수만큼 제출에 실패 → 행은 dead letter로 남기고 엔트리는 FAILED
+     * FAILED 일괄 재시도(LedgerService.retryFailed)로 다시 outbox에 넣을 수 있음
+     */
+    @Transactional
+    public void deadLetter(Collection<LedgerOutbox> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        ledgerOutboxRepository.deadLetter(rows.stream().map(LedgerOutbox::getId).toList(), LocalDateTime.now());
+        for (LedgerEntry entry : ledgerEntryRepository.findAllById(rows.stream().map(LedgerOutbox::getEntryId).toList())) {
+            if (entry.isPending()) {
+                entry.markAsFailed();
+            }
+            log.warn("event=ledger_outbox_dead_lettered entryId={}", entry.getId());
+        }
+    }
+
+    /**
+     * 모니터링용 outbox 깊이
+     */
+    @Transactional(readOnly = true)
+    public OutboxDepth depth() {
+        return new OutboxDepth(
+                ledgerOutboxRepository.count(),
+                ledgerOutboxRepository.countByDeadAtIsNullAndAvailableAtLessThanEqual(LocalDateTime.now()),
+                ledgerOutboxRepository.countByDeadAtIsNullAndAttemptsGreaterThan(0),
+                ledgerOutboxRepository.countByDeadAtIsNotNull());
+    }
+
+    @Transactional
+    public int backfillPending() {
+        int inserted = ledgerOutboxRepository.backfillPending(LocalDateTime.now());
+        if (inserted > 0) {
+            log.info("event=ledger_outbox_backfilled entries={}", inserted);
+        }
+        return inserted;
+    }
+
+    /**
+     * @param total        outbox 행 수 (제출 대기 + claim 중 + dead letter)
+     * @param available    지금 claim 가능한 행 수
+     * @param retrying     제출에 한 번 이상 실패해 재시도 대기 중인 행 수
+     * @param deadLettered 최대 시도 횟수를 넘겨 더 이상 제출하지 않는 행 수
+     */
+    public record OutboxDepth(long total, long available, long retrying, long deadLettered) {}
+}
@@ -3,17 +3,30 @@ package com.vericerti.domain.ledger.service;
 import com.vericerti.application.command.CreateLedgerEntryCommand;
 import com.vericerti.domain.common.vo.DataHash;
 import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.entity.LedgerOutbox;
 import com.vericerti.domain.ledger.entity.LedgerStatus;
+import com.vericerti.domain.ledger.entity.StoredBlob;
+import com.vericerti.domain.ledger.event.LedgerOutboxEvent;
 import com.vericerti.domain.ledger.repository.LedgerEntryRepository;
+import com.vericerti.domain.ledger.repository.LedgerOutboxRepository;
+import com.vericerti.domain.ledger.repository.StoredBlobRepository;
 import com.vericerti.domain.organization.repository.OrganizationRepository;
 import com.vericerti.infrastructure.exception.EntityNotFoundException;
+import com.vericerti.infrastructure.exception.StorageException;
 import com.vericerti.infrastructure.storage.FileStorageService;
+import com.vericerti.infrastructure.storage.StoredFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -24,6 +37,9 @@ public class LedgerService {
     private final LedgerEntryRepository ledgerEntryRepository;
     private final OrganizationRepository organizationRepository;
     private final FileStorageService fileStorageService;
+    private final StoredBlobRepository storedBlobRepository;
+    private final LedgerOutboxRepository ledgerOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public LedgerEntry createEntry(CreateLedgerEntryCommand command) {
@@ -31,18 +47,30 @@ public class LedgerService {
             throw EntityNotFoundException.organization(command.organizationId());
         }
 
-        String dataHash = fileStorageService.calculateHash(command.fileContent());
-        String fileUrl = fileStorageService.store(command.fileContent(), command.filename());
+        // 저장하면서 해시를 함께 계산 (파일 전체를 메모리에 올리지 않음)
+        StoredFile stored;
+        try (InputStream content = command.fileContent().getInputStream()) {
+            stored = fileStorageService.store(content, command.filename());
+        } catch (IOException e) {
+            throw StorageException.storeFailed(command.filename(), e);
+        }
+        // 파일을 참조하는 엔트리 수 기록 (content-addressed 모드에서는 여러 엔트리가 한 파일을 공유)
+        // 엔트리 저장과 같은 트랜잭션이라 롤백되면 참조도 함께 취소
+        storedBlobRepository.addReference(stored.fileUrl(), stored.dataHash(), stored.size());
 
         LedgerEntry entry = LedgerEntry.builder()
                 .organizationId(command.organizationId())
                 .entityType(command.entityType())
                 .entityId(command.entityId())
-                .dataHash(DataHash.of(dataHash))
-                .fileUrl(fileUrl)
+                .dataHash(DataHash.of(stored.dataHash()))
+                .fileUrl(stored.fileUrl())
                 .build();
         LedgerEntry saved = ledgerEntryRepository.save(entry);
 
+        // 같은 트랜잭션에서 제출 대기 기록 → 커밋되면 dispatcher가 바로 제출
+        ledgerOutboxRepository.save(LedgerOutbox.of(saved));
+        eventPublisher.publishEvent(new LedgerOutboxEvent(saved.getId()));
+
         log.info("event=ledger_entry_created orgId={} entryId={} entityType={}", 
                 command.organizationId(), saved.getId(), command.entityType());
         return saved;
@@ -56,9 +84,17 @@ public class LedgerService {
         return ledgerEntryRepository.findByOrganizationIdOrderByRecordedAtDesc(organizationId);
     }
 
+    /**
+     * 파일 다운로드 ETag용 (저장된 파일의 DataHash)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findDataHashByFileUrl(String fileUrl) {
+        return storedBlobRepository.findByFileUrl(fileUrl).map(StoredBlob::getDataHash);
+    }
+
     @Transactional(readOnly = true)
     public Optional<LedgerEntry> findByTxHash(String txHash) {
-        return ledgerEntryRepository.findByBlockchainTxHash(txHash);
+        return ledgerEntryRepository.findByBlockchainTxHash(txHash).stream().findFirst();
     }
 
     /**
@@ -69,6 +105,16 @@ public class LedgerService {
         return ledgerEntryRepository.findByStatus(LedgerStatus.PENDING);
     }
 
+    /**
+     * outbox dispatcher용 (주어진 엔트리 중 아직 PENDING인 것)
+     */
+    @Transactional(readOnly = true)
+    public List<LedgerEntry> findPendingByIds(Collection<Long> entryIds) {
+        return ledgerEntryRepository.findAllById(entryIds).stream()
+                .filter(LedgerEntry::isPending)
+                .toList();
+    }
+
     @Transactional
     public void markAsRecorded(Long entryId, String txHash) {
         LedgerEntry entry = ledgerEntryRepository.findById(entryId)
@@ -77,6 +123,21 @@ public class LedgerService {
         log.info("event=ledger_recorded entryId={} txHash={}", entryId, txHash);
     }
 
+    /**
+     * Merkle 일괄 등록 후 엔트리별 포함 증명 저장
+     *
+     * @param merkleRoot       앵커된 Merkle 루트
+     * @param proofsByEntryId  entryId → leaf에서 루트까지의 형제 노드
+     */
+    @Transactional
+    public void attachMerkleProofs(String merkleRoot, Map<Long, List<String>> proofsByEntryId) {
+        List<LedgerEntry> entries = ledgerEntryRepository.findAllById(proofsByEntryId.keySet());
+        for (LedgerEntry entry : entries) {
+            entry.attachMerkleProof(merkleRoot, proofsByEntryId.get(entry.getId()));
+        }
+        log.info("event=ledger_merkle_attached root={} entries={}", merkleRoot, entries.size());
+    }
+
     @Transactional
     public void markAsFailed(Long entryId) {
         LedgerEntry entry = ledgerEntryRepository.findById(entryId)
@@ -85,6 +146,64 @@ public class LedgerService {
         log.info("event=ledger_failed entryId={}", entryId);
     }
 
+    /**
+     * 검증 결과 일괄 반영 (IN 조회 1회 + batch UPDATE, 짧은 트랜잭션)
+     * 그 사이 다른 경로로 이미 처리된(PENDING이 아닌) 엔트리는 건너뜀
+     *
+     * @return RECORDED로 전환한 엔트리 수
+     */
+    @Transactional
+    public int markAllAsRecorded(Map<Long, String> txHashByEntryId) {
+        int updated = 0;
+        for (LedgerEntry entry : ledgerEntryRepository.findAllById(txHashByEntryId.keySet())) {
+            if (!entry.isPending()) {
+                continue;
+            }
+            String txHash = txHashByEntryId.get(entry.getId());
+            entry.markAsRecorded(txHash);
+            updated++;
+            log.info("event=ledger_recorded entryId={} txHash={}", entry.getId(), txHash);
+        }
+        return updated;
+    }
+
+    /**
+     * @return FAILED로 전환한 엔트리 수 (PENDING이 아닌 엔트리는 건너뜀)
+     */
+    @Transactional
+    public int markAllAsFailed(Collection<Long> entryIds) {
+        int updated = 0;
+        for (LedgerEntry entry : ledgerEntryRepository.findAllById(entryIds)) {
+            if (!entry.isPending()) {
+                continue;
+            }
+            entry.markAsFailed();
+            updated++;
+            log.info("event=ledger_failed entryId={}", entry.getId());
+        }
+        return updated;
+    }
+
+    /**
+     * FAILED 엔트리를 PENDING으로 되돌리고 outbox에 다시 기록 (bulk UPDATE + INSERT ... SELECT, 엔티티 로드 없음)
+     * 커밋되면 dispatcher를 한 번 깨워 바로 제출
+     *
+     * @return 다시 대기열에 넣은 엔트리 수
+     */
+    @Transactional
+    public int retryFailed(List<Long> entryIds) {
+        if (entryIds.isEmpty()) {
+            return 0;
+        }
+        int retried = ledgerEntryRepository.retryFailed(entryIds);
+        if (retried > 0) {
+            ledgerOutboxRepository.deleteDeadLetters(entryIds);
+            ledgerOutboxRepository.insertForPendingEntries(entryIds, LocalDateTime.now());
+            eventPublisher.publishEvent(new LedgerOutboxEvent(entryIds.getFirst()));
+        }
+        return retried;
+    }
+
     /**
      * 데이터 해시로 검증
      */
@@ -103,6 +103,18 @@ public class Member {
         this.withdrawnAt = LocalDateTime.now();
     }
 
+    /**
+     * Change this member's role.
+     * @param role New role
+     */
+    public void changeRole(MemberRole role) {
+        if (this.status == MemberStatus.WITHDRAWN) {
+            throw MemberOperationException.cannotModifyWithdrawn();
+        }
+
+        this.role = role;
+    }
+
     public boolean isActive() {
         return this.status == MemberStatus.ACTIVE;
     }
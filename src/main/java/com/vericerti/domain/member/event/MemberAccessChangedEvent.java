@@ -0,0 +1,6 @@
+package com.vericerti.domain.member.event;
+
+/**
+ * 회원 상태나 역할이 바뀜 (커밋 후 발급된 access token 폐기)
+ */
+public record MemberAccessChangedEvent(Long memberId) {}
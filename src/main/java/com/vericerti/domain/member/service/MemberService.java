@@ -1,10 +1,13 @@
 package com.vericerti.domain.member.service;
 
 import com.vericerti.domain.member.entity.Member;
+import com.vericerti.domain.member.entity.MemberRole;
+import com.vericerti.domain.member.event.MemberAccessChangedEvent;
 import com.vericerti.domain.member.repository.MemberRepository;
 import com.vericerti.infrastructure.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Member findById(Long id) {
@@ -31,4 +35,38 @@ public class MemberService {
     public boolean existsByEmail(String email) {
         return memberRepository.existsByEmail(email);
     }
+
+    /**
+     * 상태/역할 변경은 커밋 후 기존 access token을 폐기 (MemberAccessChangedEvent)
+     */
+    @Transactional
+    public void suspend(Long id, String reason) {
+        Member member = findById(id);
+        member.suspend(reason);
+        eventPublisher.publishEvent(new MemberAccessChangedEvent(id));
+        log.info("event=member_suspended memberId={}", id);
+    }
+
+    @Transactional
+    public void reactivate(Long id) {
+        Member member = findById(id);
+        member.reactivate();
+        log.info("event=member_reactivated memberId={}", id);
+    }
+
+    @Transactional
+    public void withdraw(Long id) {
+        Member member = findById(id);
+        member.withdraw();
+        eventPublisher.publishEvent(new MemberAccessChangedEvent(id));
+        log.info("event=member_withdrawn memberId={}", id);
+    }
+
+    @Transactional
+    public void changeRole(Long id, MemberRole role) {
+        Member member = findById(id);
+        member.changeRole(role);
+        eventPublisher.publishEvent(new MemberAccessChangedEvent(id));
+        log.info("event=member_role_changed memberId={} role={}", id, role);
+    }
 }
@@ -1,15 +1,24 @@
 package com.vericerti.infrastructure.blockchain;
 
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Redis에서 블록체인 컨트랙트 주소를 읽어오는 서비스
  * Hardhat 배포 스크립트가 Redis에 저장한 주소를 가져옴
+ * - 주소는 메모리에 캐시하고, 변경 알림(pub/sub 또는 keyspace notification)을 받으면 즉시 다시 읽음
+ * - 알림을 놓쳐도 contract-address-cache-ttl이 지나면 다시 읽음
  */
 @Slf4j
 @Service
@@ -18,21 +27,65 @@ public class BlockchainContractService {
 
     private static final String CONTRACT_ADDRESS_KEY = "blockchain:contract:address";
     private static final String CONTRACT_INFO_KEY = "blockchain:contract:info";
+    private static final String CONTRACT_ADDRESS_CHANGED_CHANNEL = "blockchain:contract:address:changed";
 
     private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final BlockchainProperties blockchainProperties;
+
+    private volatile CachedAddress cached;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> refresh(),
+                List.of(
+                        new ChannelTopic(CONTRACT_ADDRESS_CHANGED_CHANNEL),
+                        // notify-keyspace-events가 켜진 Redis라면 SET만으로도 갱신
+                        new PatternTopic("__keyspace@*__:" + CONTRACT_ADDRESS_KEY)
+                )
+        );
+    }
 
     public Optional<String> getContractAddress() {
+        CachedAddress current = cached;
+        if (current == null || current.isExpired(current.failed()
+                ? blockchainProperties.getContractAddressRetryDelay()
+                : blockchainProperties.getContractAddressCacheTtl())) {
+            current = refresh();
+        }
+        return current.address();
+    }
+
+    /**
+     * Redis에서 주소를 다시 읽어 캐시 교체
+     * 조회 실패 시 기존 주소를 유지하고 실패 시각을 기록 → contract-address-retry-delay 동안 Redis를 다시 호출하지 않음
+     */
+    public CachedAddress refresh() {
+        CachedAddress previous = cached;
         try {
             String address = redisTemplate.opsForValue().get(CONTRACT_ADDRESS_KEY);
-            if (address != null && !address.isBlank()) {
-                log.debug("Contract address from Redis: {}", address);
-                return Optional.of(address);
+            Optional<String> loaded = (address != null && !address.isBlank()) ? Optional.of(address) : Optional.empty();
+
+            if (previous == null || !previous.address().equals(loaded)) {
+                if (loaded.isPresent()) {
+                    log.info("Contract address from Redis: {}", loaded.get());
+                } else {
+                    log.warn("Contract address not found in Redis (key: {})", CONTRACT_ADDRESS_KEY);
+                }
             }
-            log.warn("Contract address not found in Redis (key: {})", CONTRACT_ADDRESS_KEY);
-            return Optional.empty();
+
+            CachedAddress refreshed = new CachedAddress(loaded, System.currentTimeMillis(), false);
+            cached = refreshed;
+            return refreshed;
+
         } catch (Exception e) {
             log.error("Failed to get contract address from Redis: {}", e.getMessage());
-            return Optional.empty();
+            // Redis 장애 중에는 마지막으로 읽은 주소를 계속 사용하고, 매 호출마다 Redis를 두드리지 않도록 실패 시각 기록
+            CachedAddress failed = new CachedAddress(
+                    previous != null ? previous.address() : Optional.empty(), System.currentTimeMillis(), true);
+            cached = failed;
+            return failed;
         }
     }
 
@@ -49,4 +102,15 @@ public class BlockchainContractService {
     public boolean isContractDeployed() {
         return getContractAddress().isPresent();
     }
+
+    /**
+     * @param loadedAt 마지막 조회 시각 (실패한 조회 포함)
+     * @param failed   마지막 조회가 실패함 (address는 그 이전에 읽은 값)
+     */
+    public record CachedAddress(Optional<String> address, long loadedAt, boolean failed) {
+
+        boolean isExpired(Duration ttl) {
+            return System.currentTimeMillis() - loadedAt >= ttl.toMillis();
+        }
+    }
 }
@@ -0,0 +1,264 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.entity.RegisteredHash;
+import com.vericerti.domain.ledger.entity.RegisteredHashType;
+import com.vericerti.domain.ledger.repository.RegisteredHashRepository;
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import com.vericerti.infrastructure.exception.BlockchainException;
+import com.vericerti.infrastructure.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * LedgerRegistry 이벤트 인덱서
+ * - eth_getLogs를 block-range 단위로 페이지 조회해 HashRegistered/RootRegistered를 registered_hashes에 미러링
+ * - confirmation.depth 블록 확인을 받은 구간까지만 인덱싱 (reorg로 사라질 수 있는 최근 블록은 다음 실행에서 처리)
+ * - 마지막 처리 블록과 등록 기록은 컨트랙트 주소별로 저장 (재배포 시 새 주소로 처음부터 다시 인덱싱)
+ * - 검증 시 엔트리별 eth_call 대신 findRegistered()로 DB 1회 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlockchainEventIndexer {
+
+    private static final String LAST_BLOCK_KEY_PREFIX = "blockchain:indexer:last-block:";
+
+    private static final Event HASH_REGISTERED = new Event("HashRegistered", Arrays.asList(
+            new TypeReference<Bytes32>(true) {},
+            new TypeReference<Uint256>(true) {},
+            new TypeReference<Uint256>() {},
+            new TypeReference<Address>() {}
+    ));
+
+    private static final Event ROOT_REGISTERED = new Event("RootRegistered", Arrays.asList(
+            new TypeReference<Bytes32>(true) {},
+            new TypeReference<Uint256>() {},
+            new TypeReference<Uint256>() {},
+            new TypeReference<Address>() {}
+    ));
+
+    private static final String HASH_REGISTERED_TOPIC = EventEncoder.encode(HASH_REGISTERED);
+    private static final String ROOT_REGISTERED_TOPIC = EventEncoder.encode(ROOT_REGISTERED);
+
+    private final Web3jService web3jService;
+    private final RegisteredHashRepository registeredHashRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final BlockchainProperties blockchainProperties;
+    private final PartitionCoordinator partitionCoordinator;
+
+    public boolean isEnabled() {
+        return blockchainProperties.getIndexer().isEnabled();
+    }
+
+    /**
+     * 15초마다 마지막 처리 블록 이후 확정된 블록까지의 이벤트를 인덱싱 (실행당 최대 max-ranges-per-run 구간)
+     * 클러스터에서는 leader만 실행
+     */
+    @Scheduled(fixedDelay = 15000)
+    public void indexNewEvents() {
+        if (!isEnabled() || !web3jService.isInitialized() || !partitionCoordinator.isLeader()) {
+            return;
+        }
+
+        String contractAddress = web3jService.getContractAddress();
+        if (contractAddress == null || contractAddress.isBlank()) {
+            return;
+        }
+
+        BlockchainProperties.Indexer indexer = blockchainProperties.getIndexer();
+        String lastBlockKey = LAST_BLOCK_KEY_PREFIX + contractAddress.toLowerCase();
+
+        try {
+            // RECORDED 판정과 같은 기준: head - block + 1 >= confirmation.depth
+            int depth = Math.max(1, blockchainProperties.getConfirmation().getDepth());
+            BigInteger confirmedHead = web3jService.getBlockNumber().subtract(BigInteger.valueOf(depth - 1L));
+            String lastBlock = redisTemplate.opsForValue().get(lastBlockKey);
+            BigInteger from = lastBlock != null
+                    ? new BigInteger(lastBlock).add(BigInteger.ONE)
+                    : BigInteger.valueOf(indexer.getStartBlock());
+
+            int ranges = 0;
+            while (from.compareTo(confirmedHead) <= 0 && ranges++ < indexer.getMaxRangesPerRun()) {
+                BigInteger to = from.add(BigInteger.valueOf(indexer.getBlockRange() - 1L)).min(confirmedHead);
+
+                int indexed = indexRange(contractAddress.toLowerCase(), from, to);
+                redisTemplate.opsForValue().set(lastBlockKey, to.toString());
+                if (indexed > 0) {
+                    log.info("Indexed {} registrations from blocks {}-{}", indexed, from, to);
+                }
+
+                from = to.add(BigInteger.ONE);
+            }
+        } catch (Exception e) {
+            log.error("Failed to index blockchain events: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 엔트리 목록을 현재 컨트랙트의 인덱스에서 조회 (DB 1회)
+     * Merkle 일괄 등록 엔트리는 루트가 인덱스에 있고 포함 증명이 로컬에서 맞아야 등록으로 인정
+     * 이전 컨트랙트에 등록된 기록은 인정하지 않음 (재배포 후 새 컨트랙트에는 없는 해시)
+     *
+     * @return entryId → 등록 기록 (인덱스에 없는 엔트리는 포함되지 않음)
+     */
+    public Map<Long, RegisteredHash> findRegistered(List<LedgerEntry> entries) {
+        String contractAddress = web3jService.getContractAddress();
+        if (contractAddress == null || contractAddress.isBlank()) {
+            return Map.of();
+        }
+
+        Map<Long, String> keyByEntryId = new HashMap<>();
+        for (LedgerEntry entry : entries) {
+            String key = entry.isBatchAnchored()
+                    ? normalize(entry.getMerkleRoot())
+                    : normalize(entry.getDataHashValue().orElseThrow());
+            keyByEntryId.put(entry.getId(), key);
+        }
+        if (keyByEntryId.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, RegisteredHash> indexed = registeredHashRepository
+                .findByContractAddressAndHashValueIn(contractAddress.toLowerCase(), Set.copyOf(keyByEntryId.values()))
+                .stream()
+                .collect(Collectors.toMap(RegisteredHash::getHashValue, Function.identity()));
+
+        Map<Long, RegisteredHash> registered = new HashMap<>();
+        for (LedgerEntry entry : entries) {
+            RegisteredHash record = indexed.get(keyByEntryId.get(entry.getId()));
+            if (record == null) {
+                continue;
+            }
+            if (entry.isBatchAnchored()) {
+                if (record.getType() != RegisteredHashType.MERKLE_ROOT || !proofMatches(entry)) {
+                    continue;
+                }
+            } else if (record.getType() != RegisteredHashType.DATA_HASH) {
+                continue;
+            }
+            registered.put(entry.getId(), record);
+        }
+        return registered;
+    }
+
+    private int indexRange(String contractAddress, BigInteger from, BigInteger to) throws IOException {
+        EthFilter filter = new EthFilter(
+                DefaultBlockParameter.valueOf(from),
+                DefaultBlockParameter.valueOf(to),
+                contractAddress
+        );
+        filter.addOptionalTopics(HASH_REGISTERED_TOPIC, ROOT_REGISTERED_TOPIC);
+
+        EthLog response = web3jService.getWeb3j().ethGetLogs(filter).send();
+        if (response.hasError()) {
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_VERIFICATION_FAILED,
+                "eth_getLogs failed: " + response.getError().getMessage());
+        }
+
+        Map<String, RegisteredHash> byHash = new LinkedHashMap<>();
+        for (EthLog.LogResult<?> result : response.getLogs()) {
+            // reorg로 제거된 로그는 인덱싱하지 않음
+            if (result.get() instanceof Log eventLog && !eventLog.isRemoved()) {
+                RegisteredHash registered = toRegisteredHash(contractAddress, eventLog);
+                if (registered != null) {
+                    byHash.putIfAbsent(registered.getHashValue(), registered);
+                }
+            }
+        }
+        if (byHash.isEmpty()) {
+            return 0;
+        }
+
+        // 재처리된 구간의 중복 저장 방지
+        Set<String> existing = registeredHashRepository
+                .findByContractAddressAndHashValueIn(contractAddress, byHash.keySet()).stream()
+                .map(RegisteredHash::getHashValue)
+                .collect(Collectors.toSet());
+        List<RegisteredHash> newRecords = byHash.values().stream()
+                .filter(record -> !existing.contains(record.getHashValue()))
+                .toList();
+
+        registeredHashRepository.saveAll(newRecords);
+        return newRecords.size();
+    }
+
+    private RegisteredHash toRegisteredHash(String contractAddress, Log eventLog) {
+        List<String> topics = eventLog.getTopics();
+        if (topics == null || topics.size() < 2) {
+            return null;
+        }
+
+        String signature = topics.get(0);
+        if (HASH_REGISTERED_TOPIC.equalsIgnoreCase(signature) && topics.size() >= 3) {
+            List<Type> data = FunctionReturnDecoder.decode(
+                    eventLog.getData(), HASH_REGISTERED.getNonIndexedParameters());
+            return RegisteredHash.builder()
+                    .hashValue(normalize(topics.get(1)))
+                    .contractAddress(contractAddress)
+                    .type(RegisteredHashType.DATA_HASH)
+                    .organizationId(Numeric.toBigInt(topics.get(2)).longValue())
+                    .txHash(eventLog.getTransactionHash())
+                    .blockNumber(eventLog.getBlockNumber().longValue())
+                    .registeredAt(((BigInteger) data.get(0).getValue()).longValue())
+                    .build();
+        }
+
+        if (ROOT_REGISTERED_TOPIC.equalsIgnoreCase(signature)) {
+            List<Type> data = FunctionReturnDecoder.decode(
+                    eventLog.getData(), ROOT_REGISTERED.getNonIndexedParameters());
+            return RegisteredHash.builder()
+                    .hashValue(normalize(topics.get(1)))
+                    .contractAddress(contractAddress)
+                    .type(RegisteredHashType.MERKLE_ROOT)
+                    .txHash(eventLog.getTransactionHash())
+                    .blockNumber(eventLog.getBlockNumber().longValue())
+                    .registeredAt(((BigInteger) data.get(1).getValue()).longValue())
+                    .build();
+        }
+
+        return null;
+    }
+
+    private boolean proofMatches(LedgerEntry entry) {
+        List<byte[]> proof = entry.getMerkleProofNodes().stream()
+                .map(Numeric::hexStringToByteArray)
+                .toList();
+        return MerkleTree.verify(
+                Numeric.hexStringToByteArray(entry.getDataHashValue().orElseThrow()),
+                proof,
+                Numeric.hexStringToByteArray(entry.getMerkleRoot())
+        );
+    }
+
+    private static String normalize(String hex) {
+        return Numeric.cleanHexPrefix(hex).toLowerCase();
+    }
+}
@@ -1,38 +1,123 @@
 package com.vericerti.infrastructure.blockchain;
 
 import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.entity.LedgerOutbox;
+import com.vericerti.domain.ledger.event.LedgerOutboxEvent;
+import com.vericerti.domain.ledger.service.LedgerOutboxService;
 import com.vericerti.domain.ledger.service.LedgerService;
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.web3j.utils.Numeric;
 
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
- * 블록체인 제출 스케줄러
- * - PENDING 상태 엔트리를 블록체인에 제출
+ * 블록체인 제출 dispatcher (transactional outbox)
+ * - LedgerService.createEntry와 같은 트랜잭션에서 ledger_outbox 행 기록, 커밋 직후 같은 인스턴스의 dispatcher를 깨움
+ * - FOR UPDATE SKIP LOCKED로 행을 claim하고 claim-timeout 동안 lease → 여러 인스턴스가 동시에 실행해도 중복 제출 없음
+ * - cluster.enabled=true 이면 PartitionCoordinator가 배정한 organizationId 파티션의 행만 claim
+ * - 다른 인스턴스가 기록한 행과 재시도 대상은 outbox.poll-interval-ms마다 확인
+ * - 제출 성공 시 행 삭제, 실패 시 outbox.retry-delay 후 재시도
  * - DB 상태는 변경하지 않음 (검증 후 Sync 스케줄러가 처리)
- * - Redis SET에 제출 정보 저장
+ * - Redis 검증 대기 큐(PendingVerificationQueue)에 제출 정보 저장
+ * - batch.enabled=true 이면 batch.linger마다 Merkle 루트 하나로 일괄 등록 (엔트리별 포함 증명 저장)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BlockchainSubmitScheduler {
 
-    private static final String PENDING_VERIFICATION_KEY = "blockchain:pending:verification";
-
     private final LedgerService ledgerService;
+    private final LedgerOutboxService ledgerOutboxService;
     private final Web3jService web3jService;
     private final LedgerRegistryService ledgerRegistryService;
-    private final StringRedisTemplate redisTemplate;
+    private final PendingVerificationQueue pendingVerificationQueue;
+    private final BlockchainProperties blockchainProperties;
+    private final PartitionCoordinator partitionCoordinator;
+
+    private final Semaphore wakeups = new Semaphore(0);
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    /**
+     * outbox 도입 전 PENDING 엔트리를 outbox에 옮기고 dispatcher 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            ledgerOutboxService.backfillPending();
+        } catch (Exception e) {
+            log.warn("Failed to backfill ledger outbox: {}", e.getMessage());
+        }
+        running = true;
+        dispatcher = Thread.ofPlatform()
+                .name("ledger-outbox-dispatcher")
+                .daemon()
+                .start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    /**
+     * outbox 행이 커밋되면 poll 주기를 기다리지 않고 바로 제출
+     */
+    @TransactionalEventListener
+    public void onOutboxWritten(LedgerOutboxEvent event) {
+        wakeups.release();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                awaitWork();
+                submitPendingToBlockchain();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Ledger outbox dispatch failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void awaitWork() throws InterruptedException {
+        if (blockchainProperties.getBatch().isEnabled()) {
+            // 일괄 등록은 루트 하나에 모을 시간이 필요하므로 커밋마다 깨우지 않음
+            Thread.sleep(blockchainProperties.getBatch().getLinger());
+        } else {
+            wakeups.tryAcquire(blockchainProperties.getOutbox().getPollIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+        wakeups.drainPermits();
+    }
 
     /**
-     * PENDING 상태의 LedgerEntry를 블록체인에 제출 (1분마다)
+     * claim할 outbox 행이 없을 때까지 claim → 제출
      * DB 상태는 변경하지 않음 - 검증 후에 Sync 스케줄러가 변경
      */
-    @Scheduled(fixedDelay = 60000)
     public void submitPendingToBlockchain() {
         if (!web3jService.isInitialized()) {
             log.debug("Web3j not initialized. Skipping blockchain submit.");
@@ -45,51 +130,213 @@ public class BlockchainSubmitScheduler {
             return;
         }
 
-        List<LedgerEntry> pendingEntries = ledgerService.findPendingEntries();
+        BlockchainProperties.Outbox outbox = blockchainProperties.getOutbox();
+        int claimSize = blockchainProperties.getBatch().isEnabled()
+                ? blockchainProperties.getBatch().getMaxSize()
+                : outbox.getBatchSize();
+
+        while (true) {
+            List<LedgerOutbox> claimed = claim(claimSize, outbox.getClaimTimeout());
+            if (claimed.isEmpty()) {
+                return;
+            }
+            submitClaimed(claimed);
+            if (claimed.size() < claimSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 클러스터 모드에서는 이 인스턴스가 lease를 보유한 organizationId 파티션만 claim
+     */
+    private List<LedgerOutbox> claim(int limit, Duration lease) {
+        Set<Integer> owned = partitionCoordinator.ownedPartitions();
+        if (owned == null) {
+            return ledgerOutboxService.claim(limit, lease);
+        }
+        return ledgerOutboxService.claim(limit, lease, blockchainProperties.getCluster().getPartitions(), owned);
+    }
+
+    private void submitClaimed(List<LedgerOutbox> claimed) {
+        Map<Long, List<Long>> outboxIdsByEntryId = claimed.stream()
+                .collect(Collectors.groupingBy(LedgerOutbox::getEntryId,
+                        Collectors.mapping(LedgerOutbox::getId, Collectors.toList())));
+
+        List<LedgerEntry> pendingEntries = ledgerService.findPendingByIds(outboxIdsByEntryId.keySet()).stream()
+                .sorted(Comparator.comparing(LedgerEntry::getId))
+                .toList();
 
-        if (pendingEntries.isEmpty()) {
+        // 이미 제출되어 검증 대기 중인 엔트리 제외 (HMGET 1회)
+        Set<Long> queued = pendingVerificationQueue.findQueued(
+                pendingEntries.stream().map(LedgerEntry::getId).toList());
+        List<LedgerEntry> toSubmit = pendingEntries.stream()
+                .filter(entry -> !queued.contains(entry.getId()))
+                .toList();
+
+        // 더 이상 PENDING이 아니거나 이미 제출된 엔트리의 행은 바로 정리
+        Set<Long> submitting = toSubmit.stream().map(LedgerEntry::getId).collect(Collectors.toSet());
+        ledgerOutboxService.complete(outboxIdsOf(outboxIdsByEntryId, outboxIdsByEntryId.keySet().stream()
+                .filter(entryId -> !submitting.contains(entryId))
+                .toList()));
+
+        if (toSubmit.isEmpty()) {
             return;
         }
 
-        log.info("Found {} pending entries to submit to blockchain", pendingEntries.size());
+        log.info("Claimed {} pending entries to submit to blockchain ({} already awaiting verification)",
+                toSubmit.size(), queued.size());
+
+        List<Long> submitted = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
 
-        for (LedgerEntry entry : pendingEntries) {
-            // 이미 제출 대기 중인지 확인
-            if (isAlreadySubmitted(entry.getId())) {
-                log.debug("Entry {} already submitted, skipping", entry.getId());
-                continue;
+        BigInteger gasPrice = web3jService.getGasProvider().getGasPrice();
+        if (blockchainProperties.getBatch().isEnabled()) {
+            (submitAsMerkleBatch(toSubmit, 0, gasPrice) ? submitted : failed)
+                    .addAll(toSubmit.stream().map(LedgerEntry::getId).toList());
+        } else {
+            for (LedgerEntry entry : toSubmit) {
+                (submitEntry(entry, 0, gasPrice) ? submitted : failed).add(entry.getId());
             }
+        }
 
-            try {
-                String dataHash = entry.getDataHashValue().orElseThrow();
-                if (!dataHash.startsWith("0x")) {
-                    dataHash = "0x" + dataHash;
-                }
-
-                // 블록체인에 제출
-                String txHash = ledgerRegistryService.registerHash(
-                        dataHash,
-                        entry.getOrganizationId()
-                );
-
-                // SET에 저장 (entryId:txHash:retryCount)
-                String member = entry.getId() + ":" + txHash + ":0";
-                redisTemplate.opsForSet().add(PENDING_VERIFICATION_KEY, member);
-                
-                log.info("Entry {} submitted to blockchain. TxHash: {}. Added to verification queue.", 
-                        entry.getId(), txHash);
+        ledgerOutboxService.complete(outboxIdsOf(outboxIdsByEntryId, submitted));
+        rescheduleFailed(claimed, Set.copyOf(failed));
+    }
 
-            } catch (Exception e) {
-                log.error("Failed to submit entry {} to blockchain: {}", entry.getId(), e.getMessage());
+    /**
+     * 제출 실패한 행은 시도 횟수에 따라 outbox.retry-delay부터 지수 backoff (+ jitter)
+     * 이번 실패로 outbox.max-attempts에 도달한 행은 dead letter (엔트리 FAILED)
+     */
+    private void rescheduleFailed(List<LedgerOutbox> claimed, Set<Long> failedEntryIds) {
+        if (failedEntryIds.isEmpty()) {
+            return;
+        }
+        int maxAttempts = blockchainProperties.getOutbox().getMaxAttempts();
+        Map<Boolean, List<LedgerOutbox>> exhausted = claimed.stream()
+                .filter(row -> failedEntryIds.contains(row.getEntryId()))
+                .collect(Collectors.partitioningBy(row -> row.getAttempts() + 1 >= maxAttempts));
+        ledgerOutboxService.deadLetter(exhausted.get(true));
+
+        Map<Integer, List<Long>> outboxIdsByAttempts = exhausted.get(false).stream()
+                .collect(Collectors.groupingBy(LedgerOutbox::getAttempts,
+                        Collectors.mapping(LedgerOutbox::getId, Collectors.toList())));
+        outboxIdsByAttempts.forEach((attempts, outboxIds) -> ledgerOutboxService.reschedule(outboxIds,
+                RetryBackoff.delay(blockchainProperties.getOutbox().getRetryDelay(), attempts,
+                        blockchainProperties.getRetry())));
+    }
+
+    /**
+     * 검증 단계에서 트랜잭션이 mempool에서 사라진 엔트리를 인상된 gas price로 다시 제출
+     * - Merkle 일괄 등록 엔트리는 새 배치로 다시 묶음 (포함 증명도 새 루트로 교체)
+     *
+     * @param retryCount 검증 큐에 기록할 재시도 횟수
+     * @return 다시 제출된 entryId
+     */
+    public Set<Long> resubmit(List<LedgerEntry> entries, int retryCount, BigInteger gasPrice) {
+        Set<Long> resubmitted = new HashSet<>();
+        List<LedgerEntry> batched = entries.stream().filter(LedgerEntry::isBatchAnchored).toList();
+        if (!batched.isEmpty() && submitAsMerkleBatch(batched, retryCount, gasPrice)) {
+            batched.forEach(entry -> resubmitted.add(entry.getId()));
+        }
+        for (LedgerEntry entry : entries) {
+            if (!entry.isBatchAnchored() && submitEntry(entry, retryCount, gasPrice)) {
+                resubmitted.add(entry.getId());
+            }
+        }
+        return resubmitted;
+    }
+
+    private boolean submitEntry(LedgerEntry entry, int retryCount, BigInteger gasPrice) {
+        try {
+            String dataHash = entry.getDataHashValue().orElseThrow();
+            if (!dataHash.startsWith("0x")) {
+                dataHash = "0x" + dataHash;
+            }
+
+            // 블록체인에 제출
+            String txHash = ledgerRegistryService.registerHash(
+                    dataHash,
+                    entry.getOrganizationId(),
+                    gasPrice
+            );
+
+            pendingVerificationQueue.enqueue(entry.getId(), txHash, retryCount, verificationDelay());
+
+            log.info("Entry {} submitted to blockchain. TxHash: {}. Added to verification queue.",
+                    entry.getId(), txHash);
+            return true;
+
+        } catch (Exception e) {
+            log.error("Failed to submit entry {} to blockchain: {}", entry.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private List<Long> outboxIdsOf(Map<Long, List<Long>> outboxIdsByEntryId, List<Long> entryIds) {
+        return entryIds.stream()
+                .flatMap(entryId -> outboxIdsByEntryId.getOrDefault(entryId, List.of()).stream())
+                .toList();
+    }
+
+    /**
+     * 대기 엔트리를 Merkle 트리로 묶어 루트만 블록체인에 등록
+     * - 같은 해시는 하나의 leaf를 공유
+     * - 엔트리별 포함 증명을 먼저 DB에 저장한 뒤 루트 트랜잭션 전송
+     *   (전송 후 저장이 실패하면 루트만 체인에 남고 엔트리를 검증할 수 없게 됨)
+     * - 전송이 실패하면 저장된 증명은 쓰이지 않고, 재시도 배치가 새 루트로 덮어씀
+     *
+     * @param batch      claim된 엔트리 (최대 batch.max-size개)
+     * @param retryCount 검증 큐에 기록할 재시도 횟수
+     * @return 제출 성공 여부
+     */
+    private boolean submitAsMerkleBatch(List<LedgerEntry> batch, int retryCount, BigInteger gasPrice) {
+
+        // 해시 → leaf 인덱스 (중복 해시 제거, 순서 유지)
+        Map<String, Integer> leafIndexByHash = new LinkedHashMap<>();
+        List<byte[]> leaves = new ArrayList<>();
+        for (LedgerEntry entry : batch) {
+            String dataHash = entry.getDataHashValue().orElseThrow();
+            if (!leafIndexByHash.containsKey(dataHash)) {
+                leafIndexByHash.put(dataHash, leaves.size());
+                leaves.add(Numeric.hexStringToByteArray(dataHash));
+            }
+        }
+
+        try {
+            MerkleTree tree = MerkleTree.of(leaves);
+            String merkleRoot = Numeric.toHexString(tree.getRoot());
+
+            Map<Long, List<String>> proofsByEntryId = new HashMap<>();
+            for (LedgerEntry entry : batch) {
+                int leafIndex = leafIndexByHash.get(entry.getDataHashValue().orElseThrow());
+                List<String> proof = tree.getProof(leafIndex).stream()
+                        .map(Numeric::toHexString)
+                        .toList();
+                proofsByEntryId.put(entry.getId(), proof);
+            }
+            ledgerService.attachMerkleProofs(merkleRoot, proofsByEntryId);
+
+            String txHash = ledgerRegistryService.registerRoot(merkleRoot, tree.getLeafCount(), gasPrice);
+
+            for (LedgerEntry entry : batch) {
+                pendingVerificationQueue.enqueue(entry.getId(), txHash, retryCount, verificationDelay());
             }
+
+            log.info("{} entries submitted as merkle batch. Root: {}, TxHash: {}. Added to verification queue.",
+                    batch.size(), merkleRoot, txHash);
+            return true;
+
+        } catch (Exception e) {
+            log.error("Failed to submit merkle batch of {} entries: {}", batch.size(), e.getMessage());
+            return false;
         }
     }
 
-    private boolean isAlreadySubmitted(Long entryId) {
-        var members = redisTemplate.opsForSet().members(PENDING_VERIFICATION_KEY);
-        if (members == null) return false;
-        
-        String prefix = entryId + ":";
-        return members.stream().anyMatch(m -> m.startsWith(prefix));
+    /**
+     * 제출 직후부터 receipt 조회 주기마다 확인 (Sync 스케줄러의 confirmation 단계)
+     */
+    private Duration verificationDelay() {
+        return Duration.ofMillis(blockchainProperties.getConfirmation().getPollIntervalMs());
     }
 }
@@ -2,19 +2,33 @@ package com.vericerti.infrastructure.blockchain;
 
 import com.vericerti.domain.ledger.entity.LedgerEntry;
 import com.vericerti.domain.ledger.entity.LedgerStatus;
+import com.vericerti.domain.ledger.entity.RegisteredHash;
 import com.vericerti.domain.ledger.repository.LedgerEntryRepository;
 import com.vericerti.domain.ledger.service.LedgerService;
+import com.vericerti.infrastructure.blockchain.BlockchainVerificationService.VerificationSummary;
+import com.vericerti.infrastructure.blockchain.LedgerRegistryService.VerificationTarget;
+import com.vericerti.infrastructure.blockchain.PendingVerificationQueue.PendingVerification;
+import com.vericerti.infrastructure.config.BlockchainProperties;
 import com.vericerti.infrastructure.exception.BlockchainException;
 import com.vericerti.infrastructure.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
 
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 
 @Slf4j
@@ -22,87 +36,286 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class BlockchainSyncScheduler {
 
-    private static final String PENDING_VERIFICATION_KEY = "blockchain:pending:verification";
+    private static final String DAILY_RUN = "daily";
+    private static final String ADMIN_RUN = "admin";
 
-    private final StringRedisTemplate redisTemplate;
+    private final PendingVerificationQueue pendingVerificationQueue;
     private final LedgerEntryRepository ledgerEntryRepository;
     private final LedgerRegistryService ledgerRegistryService;
     private final LedgerService ledgerService;
     private final Web3jService web3jService;
+    private final BlockchainProperties blockchainProperties;
+    private final BlockchainVerificationService blockchainVerificationService;
+    private final BlockchainEventIndexer blockchainEventIndexer;
+    private final PartitionCoordinator partitionCoordinator;
+    private final BlockchainSubmitScheduler blockchainSubmitScheduler;
+
+    // 연속으로 RPC 오류가 난 확인 주기 수 (RPC 오류로 되돌리는 항목의 backoff 단계, 성공하면 0)
+    private final AtomicInteger consecutiveRpcFailures = new AtomicInteger();
 
     /**
-     * 5분마다 SET 조회 → 블록체인 검증 → DB 동기화
+     * 제출된 트랜잭션의 receipt를 주기적으로 일괄 조회 (eth_getTransactionReceipt batch)
+     * - status 성공 + confirmation.depth 블록 확인 → RECORDED
+     * - 아직 얕은 블록 / 미채굴 → poll-interval 후 다시 조회
+     * - revert 또는 confirmation.timeout 동안 미채굴 → 해시 검증으로 판정
+     * - 항목은 claimDue로 cluster.claim-timeout 동안 lease → 여러 인스턴스가 나눠 처리
+     * - RPC 동안에는 트랜잭션/커넥션을 잡지 않고, 상태 변경은 마지막에 update-batch-size 단위로 반영
      */
-    @Scheduled(fixedDelay = 300000) // 5분
-    @Transactional
+    @Scheduled(fixedDelayString = "${blockchain.ethereum.confirmation.poll-interval-ms:5000}")
     public void syncVerifiedEntries() {
         if (!web3jService.isInitialized()) {
             return;
         }
 
-        Set<String> members = redisTemplate.opsForSet().members(PENDING_VERIFICATION_KEY);
-        if (members == null || members.isEmpty()) {
+        List<PendingVerification> dueEntries = pendingVerificationQueue.claimDue(
+                blockchainProperties.getVerification().getPollSize(),
+                blockchainProperties.getCluster().getClaimTimeout());
+        if (dueEntries.isEmpty()) {
             return;
         }
 
-        log.info("Syncing {} pending verification entries", members.size());
+        log.debug("Confirming {} due entries ({} queued)", dueEntries.size(), pendingVerificationQueue.size());
 
-        for (String member : members) {
-            processMember(member);
+        Map<String, TransactionReceipt> receipts;
+        BigInteger head;
+        try {
+            // 최신 블록 조회는 receipt batch와 동시에 전송
+            CompletableFuture<EthBlockNumber> headRequest =
+                    web3jService.sendAsync(web3jService.getWeb3j().ethBlockNumber());
+            // Merkle 일괄 등록 엔트리는 txHash를 공유하므로 receipt는 트랜잭션당 1회만 조회
+            // 교체한 엔트리는 교체 전 트랜잭션이 먼저 채굴됐을 수 있으므로 함께 조회
+            receipts = ledgerRegistryService.getTransactionReceipts(dueEntries.stream()
+                    .flatMap(pending -> pending.txHashes().stream())
+                    .collect(Collectors.toSet()));
+            head = headRequest.join().getBlockNumber();
+        } catch (Exception e) {
+            Duration delay = rpcRetryDelay();
+            log.error("Failed to fetch transaction receipts: {}, retrying in {}", e.getMessage(), delay);
+            // lease가 끝나기 전에 되돌리되, 노드 장애 중에는 매 주기 전체를 다시 조회하지 않도록 backoff
+            dueEntries.forEach(pending -> pendingVerificationQueue.enqueue(pending, delay));
+            return;
         }
-    }
 
-    private void processMember(String member) {
-        try {
-            // member 형식: "entryId:txHash:retryCount"
-            String[] parts = member.split(":");
-            if (parts.length < 3) {
-                log.error("Invalid member format: {}", member);
-                redisTemplate.opsForSet().remove(PENDING_VERIFICATION_KEY, member);
-                return;
+        BlockchainProperties.Confirmation confirmation = blockchainProperties.getConfirmation();
+        Duration pollInterval = Duration.ofMillis(confirmation.getPollIntervalMs());
+        long now = System.currentTimeMillis();
+
+        StatusUpdates updates = new StatusUpdates();
+        List<PendingVerification> unconfirmed = new ArrayList<>();
+        for (PendingVerification due : dueEntries) {
+            // 같은 nonce의 트랜잭션 중 하나만 채굴되므로 receipt가 있는 것을 기준으로 판정
+            String minedTxHash = due.txHashes().stream().filter(receipts::containsKey).findFirst().orElse(null);
+            PendingVerification pending = minedTxHash == null ? due : due.minedAs(minedTxHash);
+            TransactionReceipt receipt = minedTxHash == null ? null : receipts.get(minedTxHash);
+            if (receipt == null) {
+                if (now - pending.submittedAt() < confirmation.getTimeout().toMillis()) {
+                    pendingVerificationQueue.enqueue(pending, pollInterval);
+                } else {
+                    unconfirmed.add(pending);
+                }
+                continue;
             }
 
-            Long entryId = Long.parseLong(parts[0]);
-            String txHash = parts[1];
-            int retryCount = Integer.parseInt(parts[2]);
-
-            // 블록체인에서 검증
-            boolean verified = verifyOnBlockchain(entryId);
-
-            if (verified) {
-                // 검증 성공 → DB에 저장 + SET에서 제거
-                ledgerService.markAsRecorded(entryId, txHash);
-                redisTemplate.opsForSet().remove(PENDING_VERIFICATION_KEY, member);
-                log.info("Entry {} verified and recorded. TxHash: {}", entryId, txHash);
-            } else {
-                // 검증 실패 → retry 처리
-                handleVerificationFailure(entryId, txHash, retryCount, member);
+            if (!receipt.isStatusOK()) {
+                unconfirmed.add(pending);
+                continue;
             }
-        } catch (Exception e) {
-            log.error("Failed to process member {}: {}", member, e.getMessage());
+
+            long confirmations = head.subtract(receipt.getBlockNumber()).longValue() + 1;
+            if (confirmations < confirmation.getDepth()) {
+                pendingVerificationQueue.enqueue(pending, pollInterval);
+                continue;
+            }
+
+            processPending(pending, true, false, updates);
         }
+
+        if (!unconfirmed.isEmpty()) {
+            verifyUnconfirmed(unconfirmed, receipts, updates);
+        }
+
+        if (updates.rpcErrors().isEmpty()) {
+            consecutiveRpcFailures.set(0);
+        } else {
+            Duration delay = rpcRetryDelay();
+            log.warn("{} entries could not be verified this round, retrying in {}", updates.rpcErrors().size(), delay);
+            updates.rpcErrors().forEach(pending -> pendingVerificationQueue.enqueue(pending, delay));
+        }
+
+        applyStatusUpdates(updates);
     }
 
-    private void handleVerificationFailure(Long entryId, String txHash, int retryCount, String oldMember) {
-        // 기존 member 제거
-        redisTemplate.opsForSet().remove(PENDING_VERIFICATION_KEY, oldMember);
+    /**
+     * RPC 오류로 되돌리는 항목의 다음 확인 시각: poll-interval부터 연속 실패 주기 수만큼 지수 backoff (+ jitter)
+     */
+    private Duration rpcRetryDelay() {
+        return RetryBackoff.delay(Duration.ofMillis(blockchainProperties.getConfirmation().getPollIntervalMs()),
+                consecutiveRpcFailures.getAndIncrement(), blockchainProperties.getRetry());
+    }
 
-        if (retryCount == 0) {
-            // 첫 실패: 조용히 재시도 예약
-            String newMember = entryId + ":" + txHash + ":1";
-            redisTemplate.opsForSet().add(PENDING_VERIFICATION_KEY, newMember);
-            log.debug("Entry {} verification failed, retry scheduled (attempt 1)", entryId);
+    /**
+     * receipt로 확정할 수 없는 항목은 체인에서 해시 등록 여부를 직접 확인
+     * (중복 등록으로 revert된 경우에도 해시는 이미 체인에 있을 수 있음)
+     * 엔트리는 IN 조회 1회로 미리 읽고, 검증(RPC)은 트랜잭션 밖에서 실행
+     */
+    private void verifyUnconfirmed(List<PendingVerification> unconfirmed, Map<String, TransactionReceipt> receipts,
+                                   StatusUpdates updates) {
+        List<LedgerEntry> entries = ledgerEntryRepository.findAllById(
+                unconfirmed.stream().map(PendingVerification::entryId).toList());
+        Map<Long, LedgerEntry> entriesById = entries.stream()
+                .collect(Collectors.toMap(LedgerEntry::getId, entry -> entry));
+        Map<Long, Boolean> verifiedById = blockchainVerificationService.verifyEntries(entries);
+
+        for (PendingVerification pending : unconfirmed) {
+            if (!entriesById.containsKey(pending.entryId())) {
+                // 삭제된 엔트리 → 확인할 대상이 없으므로 큐에서 제거
+                log.warn("Entry {} no longer exists, removing from verification queue", pending.entryId());
+                pendingVerificationQueue.remove(pending.entryId());
+                continue;
+            }
+            processPending(pending, verifiedById.get(pending.entryId()), receipts.containsKey(pending.txHash()), updates);
+        }
+
+        if (!updates.retries().isEmpty()) {
+            retryFailed(updates.retries(), entriesById);
+        }
+    }
 
-        } else if (retryCount == 1) {
-            // 두 번째 실패: WARNING
-            String newMember = entryId + ":" + txHash + ":2";
-            redisTemplate.opsForSet().add(PENDING_VERIFICATION_KEY, newMember);
-            log.warn("[WARNING] Entry {} verification failed twice, retry scheduled (attempt 2)", entryId);
+    /**
+     * @param verified 검증 결과 (null이면 RPC 오류 → backoff 후 다시 시도)
+     * @param reverted 트랜잭션이 revert됨 (재시도 없이 바로 FAILED)
+     */
+    private void processPending(PendingVerification pending, Boolean verified, boolean reverted,
+                                StatusUpdates updates) {
+        Long entryId = pending.entryId();
+        String txHash = pending.txHash();
+        if (verified == null) {
+            updates.rpcErrors().add(pending);
+            return;
+        }
 
+        if (verified) {
+            // 검증 성공 → DB 반영 후 큐에서 제거
+            updates.recorded().put(entryId, txHash);
+            log.info("Entry {} verified. TxHash: {}", entryId, txHash);
+        } else if (reverted) {
+            updates.failed().add(entryId);
+            log.error("[CRITICAL] Entry {} transaction reverted, marking as FAILED. TxHash: {}", entryId, txHash);
         } else {
-            // 세 번째 실패: CRITICAL + 포기
-            log.error("[CRITICAL] Entry {} verification failed 3 times, marking as FAILED", entryId);
-            ledgerService.markAsFailed(entryId);
+            // 검증 실패 → retry 처리
+            handleVerificationFailure(pending, updates);
+        }
+    }
+
+    /**
+     * 검증 실패: retry.max-attempts에 도달하면 FAILED, 아니면 재시도 대상으로 모음
+     */
+    private void handleVerificationFailure(PendingVerification pending, StatusUpdates updates) {
+        int maxAttempts = blockchainProperties.getRetry().getMaxAttempts();
+        if (pending.retryCount() + 1 >= maxAttempts) {
+            updates.failed().add(pending.entryId());
+            log.error("[CRITICAL] Entry {} verification failed {} times, marking as FAILED",
+                    pending.entryId(), pending.retryCount() + 1);
+            return;
+        }
+        updates.retries().add(pending);
+    }
+
+    /**
+     * 검증 실패 항목 재시도 (txHash당 1회, Merkle 일괄 등록 엔트리는 txHash를 공유)
+     * - 아직 미채굴 → 같은 nonce + 인상된 gas price로 교체 (교체 전 txHash도 계속 receipt 확인)
+     * - mempool에서 사라짐 → 인상된 gas price로 다시 제출
+     * - 그 사이 채굴됨 / gas price 상한 도달 → 교체 없이 다시 확인
+     * 다음 확인은 retry.initial-delay부터 지수 backoff (+ jitter) 후
+     */
+    private void retryFailed(List<PendingVerification> retries, Map<Long, LedgerEntry> entriesById) {
+        BlockchainProperties.Retry retry = blockchainProperties.getRetry();
+        Map<String, List<PendingVerification>> byTxHash = retries.stream()
+                .collect(Collectors.groupingBy(PendingVerification::txHash, LinkedHashMap::new, Collectors.toList()));
+
+        for (Map.Entry<String, List<PendingVerification>> group : byTxHash.entrySet()) {
+            String txHash = group.getKey();
+            List<PendingVerification> pendings = group.getValue();
+            int attempt = pendings.stream().mapToInt(PendingVerification::retryCount).max().orElse(0) + 1;
+            Duration delay = RetryBackoff.delay(retry.getInitialDelay(), attempt - 1, retry);
+            BigInteger gasPrice = RetryBackoff.gasPrice(web3jService.getGasProvider().getGasPrice(), attempt, retry);
+
+            String nextTxHash = txHash;
+            Set<Long> resubmitted = Set.of();
+            try {
+                LedgerRegistryService.Replacement replacement = ledgerRegistryService.replaceTransaction(txHash, gasPrice);
+                switch (replacement.outcome()) {
+                    case REPLACED -> nextTxHash = replacement.txHash();
+                    case DROPPED -> resubmitted = blockchainSubmitScheduler.resubmit(pendings.stream()
+                            .map(pending -> entriesById.get(pending.entryId()))
+                            .filter(entry -> entry != null && entry.isPending())
+                            .toList(), attempt, gasPrice);
+                    case MINED, UNCHANGED -> { }
+                }
+                log.warn("[WARNING] {} entries failed verification (attempt {}), tx {} {} -> {}, next check in {}",
+                        pendings.size(), attempt, txHash, replacement.outcome(), nextTxHash, delay);
+            } catch (Exception e) {
+                log.error("Failed to retry tx {} for {} entries: {}", txHash, pendings.size(), e.getMessage());
+            }
+
+            long now = System.currentTimeMillis();
+            boolean replaced = !nextTxHash.equals(txHash);
+            for (PendingVerification pending : pendings) {
+                if (resubmitted.contains(pending.entryId())) {
+                    continue;   // resubmit에서 새 txHash로 이미 등록
+                }
+                // 교체해도 이전 트랜잭션이 먼저 채굴될 수 있으므로 이전 txHash들도 계속 확인
+                pendingVerificationQueue.enqueue(replaced
+                        ? new PendingVerification(pending.entryId(), nextTxHash, attempt, now, pending.txHashes())
+                        : new PendingVerification(pending.entryId(), txHash, attempt, pending.submittedAt(),
+                                pending.replacedTxHashes()), delay);
+            }
+        }
+    }
+
+    /**
+     * 상태 변경을 update-batch-size개씩 짧은 트랜잭션으로 반영하고, 커밋된 엔트리만 큐에서 제거
+     * (실패한 묶음은 큐에 남아 lease 만료 후 다시 확인)
+     *
+     * @return RECORDED로 전환한 엔트리 수
+     */
+    private int applyStatusUpdates(StatusUpdates updates) {
+        int batchSize = blockchainProperties.getVerification().getUpdateBatchSize();
+
+        int recorded = 0;
+        List<Long> recordedIds = new ArrayList<>(updates.recorded().keySet());
+        for (int from = 0; from < recordedIds.size(); from += batchSize) {
+            List<Long> chunk = recordedIds.subList(from, Math.min(from + batchSize, recordedIds.size()));
+            Map<Long, String> txHashes = new LinkedHashMap<>();
+            chunk.forEach(entryId -> txHashes.put(entryId, updates.recorded().get(entryId)));
+            try {
+                recorded += ledgerService.markAllAsRecorded(txHashes);
+                chunk.forEach(pendingVerificationQueue::remove);
+            } catch (Exception e) {
+                log.error("Failed to record {} entries: {}", chunk.size(), e.getMessage());
+            }
+        }
+
+        List<Long> failedIds = updates.failed();
+        for (int from = 0; from < failedIds.size(); from += batchSize) {
+            List<Long> chunk = failedIds.subList(from, Math.min(from + batchSize, failedIds.size()));
+            try {
+                ledgerService.markAllAsFailed(chunk);
+                chunk.forEach(pendingVerificationQueue::remove);
+            } catch (Exception e) {
+                log.error("Failed to mark {} entries as FAILED: {}", chunk.size(), e.getMessage());
+            }
+        }
+        return recorded;
+    }
+
+    /**
+     * 한 번의 sync에서 모은 상태 변경 (entryId → txHash, FAILED 대상 entryId, 재시도 대상)
+     */
+    private record StatusUpdates(Map<Long, String> recorded, List<Long> failed, List<PendingVerification> retries,
+                                 List<PendingVerification> rpcErrors) {
+        StatusUpdates() {
+            this(new LinkedHashMap<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
         }
     }
 
@@ -110,21 +323,22 @@ public class BlockchainSyncScheduler {
         LedgerEntry entry = ledgerEntryRepository.findById(entryId)
                 .orElseThrow(() -> new IllegalArgumentException("Entry not found: " + entryId));
 
-        String dataHash = entry.getDataHashValue().orElseThrow();
-        if (!dataHash.startsWith("0x")) {
-            dataHash = "0x" + dataHash;
-        }
-
-        LedgerRegistryService.VerificationResult result = ledgerRegistryService.verifyHash(dataHash);
+        VerificationTarget target = BlockchainVerificationService.toVerificationTarget(entry);
+        LedgerRegistryService.VerificationResult result = target.hasProof()
+                ? ledgerRegistryService.verifyHash(target.dataHash(), target.proof(), target.merkleRoot())
+                : ledgerRegistryService.verifyHash(target.dataHash());
         return result.exists();
     }
 
     /**
      * 하루 2번 전체 검증 (06:00, 18:00) - 안전망
+     * keyset 페이지 단위로 진행하며, 중단되면 다음 실행에서 이어서 진행
      */
     @Scheduled(cron = "0 0 6,18 * * *")
-    @Transactional
     public void dailyFullVerification() {
+        if (!partitionCoordinator.isLeader()) {
+            return;
+        }
         if (!web3jService.isInitialized()) {
             log.debug("Web3j not initialized. Skipping daily verification.");
             return;
@@ -132,59 +346,68 @@ public class BlockchainSyncScheduler {
 
         log.info("Starting daily full verification...");
 
-        List<LedgerEntry> recordedEntries = ledgerEntryRepository.findByStatus(LedgerStatus.RECORDED);
-        int verified = 0;
-        int failed = 0;
+        VerificationSummary summary = blockchainVerificationService.verifyAllRecorded(DAILY_RUN);
 
-        for (LedgerEntry entry : recordedEntries) {
-            try {
-                boolean isValid = verifyOnBlockchain(entry.getId());
-                if (isValid) {
-                    verified++;
-                } else {
-                    log.warn("Entry {} hash not found on blockchain!", entry.getId());
-                    failed++;
-                }
-            } catch (Exception e) {
-                log.error("Failed to verify entry {}: {}", entry.getId(), e.getMessage());
-                failed++;
-            }
+        if (summary.complete()) {
+            log.info("Daily verification complete: {} verified, {} failed, {} unverified",
+                    summary.verified(), summary.failed(), summary.unverified());
+        } else {
+            log.warn("Daily verification interrupted: {} verified, {} failed, {} unverified so far",
+                    summary.verified(), summary.failed(), summary.unverified());
         }
-
-        log.info("Daily verification complete: {} verified, {} failed", verified, failed);
     }
 
     /**
      * Admin manual full sync
      */
-    @Transactional
     public SyncResult syncAll() {
         if (!web3jService.isInitialized()) {
             throw new BlockchainException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
         }
 
-        List<LedgerEntry> recordedEntries = ledgerEntryRepository.findByStatus(LedgerStatus.RECORDED);
-        int verified = 0;
-        int failed = 0;
+        VerificationSummary summary = blockchainVerificationService.verifyAllRecorded(ADMIN_RUN);
+        return new SyncResult((int) summary.total(), (int) summary.verified(), (int) summary.failed(),
+                (int) summary.unverified());
+    }
 
-        for (LedgerEntry entry : recordedEntries) {
-            try {
-                boolean isValid = verifyOnBlockchain(entry.getId());
-                if (isValid) verified++;
-                else failed++;
-            } catch (Exception e) {
-                log.error("Sync failed for entry {}: {}", entry.getId(), e.getMessage());
-                failed++;
+    /**
+     * 5분마다 PENDING 전체를 이벤트 인덱스와 대조 (엔트리별 RPC 없음)
+     * - 체인에 이미 등록된 엔트리는 RECORDED로 전환 (검증 큐에서 빠진 엔트리 포함)
+     */
+    @Scheduled(fixedDelay = 300000)
+    public void reconcilePendingWithEventIndex() {
+        if (!blockchainEventIndexer.isEnabled() || !partitionCoordinator.isLeader()) {
+            return;
+        }
+
+        int pageSize = blockchainProperties.getVerification().getPageSize();
+        long lastId = 0;
+        int recorded = 0;
+
+        while (true) {
+            List<LedgerEntry> page = ledgerEntryRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                    LedgerStatus.PENDING, lastId, Limit.of(pageSize));
+            if (page.isEmpty()) {
+                break;
             }
+
+            StatusUpdates updates = new StatusUpdates();
+            for (Map.Entry<Long, RegisteredHash> registered : blockchainEventIndexer.findRegistered(page).entrySet()) {
+                updates.recorded().put(registered.getKey(), registered.getValue().getTxHash());
+            }
+            recorded += applyStatusUpdates(updates);
+
+            lastId = page.get(page.size() - 1).getId();
         }
 
-        return new SyncResult(recordedEntries.size(), verified, failed);
+        if (recorded > 0) {
+            log.info("Reconciled {} pending entries with event index", recorded);
+        }
     }
 
     /**
      * Admin manual single entry sync
      */
-    @Transactional
     public boolean syncEntry(Long entryId) {
         if (!web3jService.isInitialized()) {
             throw new BlockchainException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
@@ -193,5 +416,8 @@ public class BlockchainSyncScheduler {
         return verifyOnBlockchain(entryId);
     }
 
-    public record SyncResult(int total, int verified, int failed) {}
+    /**
+     * @param unverified RPC 오류로 확인하지 못한 엔트리 수 (다음 전체 검증에서 다시 확인)
+     */
+    public record SyncResult(int total, int verified, int failed, int unverified) {}
 }
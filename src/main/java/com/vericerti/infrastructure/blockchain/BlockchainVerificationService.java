@@ -0,0 +1,190 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.entity.LedgerStatus;
+import com.vericerti.domain.ledger.repository.LedgerEntryRepository;
+import com.vericerti.infrastructure.blockchain.LedgerRegistryService.VerificationResult;
+import com.vericerti.infrastructure.blockchain.LedgerRegistryService.VerificationTarget;
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 블록체인 검증 엔진
+ * - 이벤트 인덱스가 켜져 있으면 인덱스에서 먼저 확인하고, 없는 엔트리만 RPC로 검증
+ * - 엔트리 목록을 rpc-batch-size 단위로 나눠 Web3jService.sendAsync로 동시에 검증
+ * - 전체 검증은 id 기준 keyset 페이지 단위로 진행 (DB 트랜잭션 없이 페이지별 짧은 조회)
+ * - 페이지마다 진행 상황을 Redis에 체크포인트로 저장 → 중단 시 다음 실행에서 이어서 진행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlockchainVerificationService {
+
+    private static final String CHECKPOINT_KEY_PREFIX = "blockchain:verification:checkpoint:";
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerRegistryService ledgerRegistryService;
+    private final BlockchainProperties blockchainProperties;
+    private final StringRedisTemplate redisTemplate;
+    private final BlockchainEventIndexer blockchainEventIndexer;
+
+    /**
+     * @return entryId → 블록체인 등록 여부 (RPC 오류가 난 묶음의 엔트리, 대상별 오류로 확인하지 못한 엔트리는 포함되지 않음)
+     */
+    public Map<Long, Boolean> verifyEntries(List<LedgerEntry> entries) {
+        Map<Long, Boolean> verifiedById = new HashMap<>();
+        verify(entries).forEach((entryId, result) -> {
+            if (!result.unknown()) {
+                verifiedById.put(entryId, result.exists());
+            }
+        });
+        return verifiedById;
+    }
+
+    /**
+     * @return entryId → 검증 결과 (RPC 오류가 난 묶음의 엔트리는 포함되지 않음, 대상별 오류는 UNKNOWN)
+     */
+    private Map<Long, VerificationResult> verify(List<LedgerEntry> entries) {
+        int batchSize = blockchainProperties.getVerification().getRpcBatchSize();
+        Map<Long, VerificationResult> resultsById = new HashMap<>();
+
+        // 이벤트 인덱스에 있는 엔트리는 RPC 없이 확인, 없는 엔트리만 체인에 직접 조회
+        List<LedgerEntry> remaining = entries;
+        if (blockchainEventIndexer.isEnabled()) {
+            Set<Long> indexed = blockchainEventIndexer.findRegistered(entries).keySet();
+            indexed.forEach(entryId -> resultsById.put(entryId, new VerificationResult(true, 0)));
+            remaining = entries.stream()
+                    .filter(entry -> !indexed.contains(entry.getId()))
+                    .toList();
+        }
+
+        List<CompletableFuture<Map<Long, VerificationResult>>> futures = new ArrayList<>();
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            futures.add(verifyChunk(remaining.subList(from, Math.min(from + batchSize, remaining.size()))));
+        }
+
+        for (CompletableFuture<Map<Long, VerificationResult>> future : futures) {
+            resultsById.putAll(future.join());
+        }
+        return resultsById;
+    }
+
+    /**
+     * RECORDED 전체를 keyset 페이지 단위로 검증
+     * RPC 오류가 나면 마지막으로 성공한 묶음까지만 체크포인트에 반영하고 중단 (다음 실행에서 이어서 검증)
+     * 묶음 안에서 일부 대상만 오류가 나면 그 엔트리는 미확인(unverified)으로 세고 계속 진행
+     *
+     * @param runName 체크포인트 이름 (같은 이름의 중단된 실행을 이어서 진행)
+     */
+    public VerificationSummary verifyAllRecorded(String runName) {
+        String checkpointKey = CHECKPOINT_KEY_PREFIX + runName;
+        int pageSize = blockchainProperties.getVerification().getPageSize();
+
+        Map<Object, Object> checkpoint = redisTemplate.opsForHash().entries(checkpointKey);
+        long lastId = parseLong(checkpoint.get("lastId"));
+        long verified = parseLong(checkpoint.get("verified"));
+        long failed = parseLong(checkpoint.get("failed"));
+        long unverified = parseLong(checkpoint.get("unverified"));
+        if (lastId > 0) {
+            log.info("Resuming verification '{}' after entry {} ({} verified, {} failed, {} unverified so far)",
+                    runName, lastId, verified, failed, unverified);
+        }
+
+        while (true) {
+            List<LedgerEntry> page = ledgerEntryRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                    LedgerStatus.RECORDED, lastId, Limit.of(pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            Map<Long, VerificationResult> resultsById = verify(page);
+            // 결과가 없는 엔트리(RPC 오류가 난 묶음)부터는 체크포인트를 넘기지 않음
+            int processed = 0;
+            for (LedgerEntry entry : page) {
+                VerificationResult result = resultsById.get(entry.getId());
+                if (result == null) {
+                    break;
+                }
+                if (result.unknown()) {
+                    log.warn("Entry {} could not be verified (RPC error for this call)", entry.getId());
+                    unverified++;
+                } else if (result.exists()) {
+                    verified++;
+                } else {
+                    log.warn("Entry {} hash not found on blockchain!", entry.getId());
+                    failed++;
+                }
+                processed++;
+            }
+
+            if (processed > 0) {
+                lastId = page.get(processed - 1).getId();
+                redisTemplate.opsForHash().putAll(checkpointKey, Map.of(
+                        "lastId", String.valueOf(lastId),
+                        "verified", String.valueOf(verified),
+                        "failed", String.valueOf(failed),
+                        "unverified", String.valueOf(unverified)
+                ));
+            }
+            if (processed < page.size()) {
+                log.warn("Verification '{}' stopped at entry {} after RPC errors, will resume from checkpoint",
+                        runName, page.get(processed).getId());
+                return new VerificationSummary(verified + failed + unverified, verified, failed, unverified, false);
+            }
+        }
+
+        redisTemplate.delete(checkpointKey);
+        return new VerificationSummary(verified + failed + unverified, verified, failed, unverified, true);
+    }
+
+    private CompletableFuture<Map<Long, VerificationResult>> verifyChunk(List<LedgerEntry> chunk) {
+        return CompletableFuture.completedFuture(chunk)
+                .thenCompose(entries -> ledgerRegistryService.verifyHashesAsync(
+                        entries.stream().map(BlockchainVerificationService::toVerificationTarget).toList()))
+                .thenApply(results -> {
+                    Map<Long, VerificationResult> resultsById = new HashMap<>();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        resultsById.put(chunk.get(i).getId(), results.get(i));
+                    }
+                    return resultsById;
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("Batch verification failed for {} entries starting at {}: {}",
+                            chunk.size(), chunk.get(0).getId(), cause.getMessage());
+                    return Map.of();
+                });
+    }
+
+    static VerificationTarget toVerificationTarget(LedgerEntry entry) {
+        String dataHash = entry.getDataHashValue().orElseThrow();
+        if (!dataHash.startsWith("0x")) {
+            dataHash = "0x" + dataHash;
+        }
+        return entry.isBatchAnchored()
+                ? new VerificationTarget(dataHash, entry.getMerkleProofNodes(), entry.getMerkleRoot())
+                : VerificationTarget.of(dataHash);
+    }
+
+    private long parseLong(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    /**
+     * @param unverified 대상별 RPC 오류로 확인하지 못한 엔트리 수 (실패로 세지 않음)
+     * @param complete   false면 RPC 오류로 중단됨 (체크포인트 유지)
+     */
+    public record VerificationSummary(long total, long verified, long failed, long unverified, boolean complete) {}
+}
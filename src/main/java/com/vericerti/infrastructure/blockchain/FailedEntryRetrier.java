@@ -0,0 +1,226 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.domain.ledger.entity.LedgerStatus;
+import com.vericerti.domain.ledger.repository.LedgerEntryRepository;
+import com.vericerti.domain.ledger.service.LedgerService;
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import com.vericerti.infrastructure.lock.RedisLock;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * FAILED 엔트리 일괄 재시도 (RPC 장애 복구용)
+ * - 조건(단체, 기록 시각 구간)에 맞는 FAILED 엔트리 id를 keyset으로 훑으며
+ *   verification.update-batch-size개씩 bulk UPDATE(→ PENDING) + outbox INSERT, 묶음마다 짧은 트랜잭션
+ * - 커밋된 묶음은 outbox dispatcher가 바로 제출
+ * - 진행 상황은 Redis에 묶음마다 저장, Redis 락(RedisLock)으로 여러 인스턴스 중 하나만 실행
+ * - 묶음을 커밋하기 전마다 락을 연장 → 락을 잃으면 다음 묶음부터 중단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FailedEntryRetrier {
+
+    private static final String PROGRESS_KEY = "blockchain:retry:progress";
+    private static final String LOCK_KEY = "blockchain:retry:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerService ledgerService;
+    private final StringRedisTemplate redisTemplate;
+    private final BlockchainProperties blockchainProperties;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("ledger-failed-retry").daemon().factory());
+
+    /**
+     * 백그라운드로 재시도 시작
+     * 락은 반환 전에 호출 스레드에서 획득 → true면 이 인스턴스가 실제로 실행 중
+     *
+     * @return 이 인스턴스 또는 다른 인스턴스에서 이미 실행 중이면 false
+     */
+    public boolean start(RetryFilter filter) {
+        filter.validate();
+        if (!started.compareAndSet(false, true)) {
+            return false;
+        }
+        RedisLock lock = RedisLock.tryAcquire(redisTemplate, LOCK_KEY, LOCK_TTL).orElse(null);
+        if (lock == null) {
+            started.set(false);
+            log.info("event=ledger_failed_retry_skipped reason=running_elsewhere");
+            return false;
+        }
+        try {
+            coordinator.execute(() -> {
+                try {
+                    retry(filter, lock);
+                } catch (Exception e) {
+                    log.error("event=ledger_failed_retry_failed error={}", e.getMessage(), e);
+                } finally {
+                    started.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            lock.release();
+            started.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * 재시도 실행 (호출 스레드에서 끝날 때까지 진행)
+     */
+    RetryProgress retry(RetryFilter filter) {
+        RedisLock lock = RedisLock.tryAcquire(redisTemplate, LOCK_KEY, LOCK_TTL).orElse(null);
+        if (lock == null) {
+            log.info("event=ledger_failed_retry_skipped reason=running_elsewhere");
+            return getProgress();
+        }
+        return retry(filter, lock);
+    }
+
+    private RetryProgress retry(RetryFilter filter, RedisLock lock) {
+        int batchSize = blockchainProperties.getVerification().getUpdateBatchSize();
+        RetryProgress progress = RetryProgress.start(filter, System.currentTimeMillis());
+        saveProgress(progress);
+        log.info("event=ledger_failed_retry_started orgId={} from={} to={}",
+                filter.organizationId(), filter.from(), filter.to());
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Long> ids = ledgerEntryRepository.findIdsByStatus(LedgerStatus.FAILED,
+                        filter.organizationId(), filter.from(), filter.to(), progress.cursor(), Limit.of(batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lock.renew();
+                int retried = ledgerService.retryFailed(ids);
+                progress = progress.advance(ids.getLast(), ids.size(), retried);
+                saveProgress(progress);
+            }
+
+            progress = progress.finish(System.currentTimeMillis());
+            saveProgress(progress);
+            log.info("event=ledger_failed_retry_finished scanned={} retried={}", progress.scanned(), progress.retried());
+            return progress;
+
+        } catch (RedisLock.LockLostException e) {
+            // 락이 만료되어 다른 인스턴스가 시작했으면 그쪽에 맡기고 중단 (진행 상황 기록도 그쪽이 함)
+            log.warn("event=ledger_failed_retry_lock_lost scanned={} retried={}", progress.scanned(), progress.retried());
+            return progress;
+        } finally {
+            lock.release();
+        }
+    }
+
+    public RetryProgress getProgress() {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(PROGRESS_KEY);
+        boolean running = Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_KEY));
+        return RetryProgress.from(fields, running);
+    }
+
+    private void saveProgress(RetryProgress progress) {
+        redisTemplate.opsForHash().putAll(PROGRESS_KEY, progress.toFields());
+    }
+
+    /**
+     * @param organizationId null이면 전체 단체
+     * @param from           기록 시각 하한 (포함, null이면 제한 없음)
+     * @param to             기록 시각 상한 (미포함, null이면 제한 없음)
+     */
+    public record RetryFilter(Long organizationId, LocalDateTime from, LocalDateTime to) {
+
+        void validate() {
+            if (from != null && to != null && !from.isBefore(to)) {
+                throw new IllegalArgumentException("from must be before to");
+            }
+        }
+    }
+
+    /**
+     * @param cursor     마지막으로 처리한 entryId
+     * @param scanned    조건에 맞은 FAILED 엔트리 수
+     * @param retried    PENDING으로 되돌린 엔트리 수 (그 사이 다른 경로로 처리된 엔트리 제외)
+     * @param startedAt  시작 시각 (epoch ms, 0이면 기록 없음)
+     * @param finishedAt 완료 시각 (0이면 진행 중이거나 중단됨)
+     */
+    public record RetryProgress(boolean running, String organizationId, String from, String to,
+                                long cursor, long scanned, long retried, long startedAt, long finishedAt) {
+
+        static RetryProgress start(RetryFilter filter, long startedAt) {
+            return new RetryProgress(true,
+                    filter.organizationId() == null ? "" : filter.organizationId().toString(),
+                    filter.from() == null ? "" : filter.from().toString(),
+                    filter.to() == null ? "" : filter.to().toString(),
+                    0, 0, 0, startedAt, 0);
+        }
+
+        RetryProgress advance(long cursor, int scanned, int retried) {
+            return new RetryProgress(true, organizationId, from, to,
+                    cursor, this.scanned + scanned, this.retried + retried, startedAt, 0);
+        }
+
+        RetryProgress finish(long finishedAt) {
+            return new RetryProgress(false, organizationId, from, to,
+                    cursor, scanned, retried, startedAt, finishedAt);
+        }
+
+        Map<String, String> toFields() {
+            Map<String, String> fields = new HashMap<>();
+            fields.put("organizationId", organizationId);
+            fields.put("from", from);
+            fields.put("to", to);
+            fields.put("cursor", Long.toString(cursor));
+            fields.put("scanned", Long.toString(scanned));
+            fields.put("retried", Long.toString(retried));
+            fields.put("startedAt", Long.toString(startedAt));
+            fields.put("finishedAt", Long.toString(finishedAt));
+            return fields;
+        }
+
+        static RetryProgress from(Map<Object, Object> fields, boolean running) {
+            return new RetryProgress(
+                    running,
+                    stringField(fields, "organizationId"),
+                    stringField(fields, "from"),
+                    stringField(fields, "to"),
+                    longField(fields, "cursor"),
+                    longField(fields, "scanned"),
+                    longField(fields, "retried"),
+                    longField(fields, "startedAt"),
+                    longField(fields, "finishedAt")
+            );
+        }
+
+        private static String stringField(Map<Object, Object> fields, String name) {
+            Object value = fields.get(name);
+            return value == null ? "" : value.toString();
+        }
+
+        private static long longField(Map<Object, Object> fields, String name) {
+            Object value = fields.get(name);
+            return value == null ? 0 : Long.parseLong(value.toString());
+        }
+    }
+}
@@ -11,40 +11,58 @@ import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.*;
 import org.web3j.abi.datatypes.generated.Bytes32;
 import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
 import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.crypto.Hash;
 import org.web3j.crypto.RawTransaction;
 import org.web3j.crypto.TransactionEncoder;
 import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LedgerRegistryService {
 
+    // 같은 nonce 교체 시 노드가 요구하는 최소 gas price 인상률 (geth 기본 10%)
+    private static final int MIN_REPLACEMENT_BUMP_PERCENT = 10;
+    // nonce 충돌 시 재동기화 후 다시 보내는 횟수 (클러스터 모드에서 다른 인스턴스와 겹칠 수 있음)
+    private static final int MAX_NONCE_RETRIES = 3;
+
     private final Web3jService web3jService;
 
     public String registerHash(String dataHash, Long organizationId) {
-        if (!web3jService.isInitialized()) {
-            throw new BlockchainException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
-        }
+        return registerHash(dataHash, organizationId, web3jService.getGasProvider().getGasPrice());
+    }
 
-        String contractAddress = web3jService.getContractAddress();
-        if (contractAddress == null || contractAddress.isBlank()) {
-            throw new BlockchainException(ErrorCode.BLOCKCHAIN_CONTRACT_NOT_CONFIGURED);
-        }
+    /**
+     * @param gasPrice 재제출 시 인상된 gas price (wei)
+     */
+    public String registerHash(String dataHash, Long organizationId, BigInteger gasPrice) {
+        String contractAddress = requireContractAddress();
 
         try {
             byte[] hashBytes = Numeric.hexStringToByteArray(dataHash);
             if (hashBytes.length != 32) {
-                throw new BlockchainException(ErrorCode.BLOCKCHAIN_INVALID_HASH, 
+                throw new BlockchainException(ErrorCode.BLOCKCHAIN_INVALID_HASH,
                     "Hash must be 32 bytes (64 hex chars)");
             }
 
@@ -57,57 +75,217 @@ public class LedgerRegistryService {
                     Collections.emptyList()
             );
 
-            String encodedFunction = FunctionEncoder.encode(function);
+            String txHash = sendTransaction(contractAddress, function, gasPrice);
+            log.info("Hash registered to blockchain. TxHash: {}", txHash);
+            return txHash;
 
-            BigInteger nonce = web3jService.getWeb3j()
-                    .ethGetTransactionCount(
-                            web3jService.getCredentials().getAddress(),
-                            DefaultBlockParameterName.LATEST
-                    )
-                    .send()
-                    .getTransactionCount();
+        } catch (BlockchainException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to register hash: {}", e.getMessage());
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED,
+                "Failed to register hash to blockchain", e);
+        }
+    }
 
-            BigInteger gasPrice = web3jService.getGasProvider().getGasPrice();
-            BigInteger gasLimit = web3jService.getGasProvider().getGasLimit();
+    /**
+     * Merkle 루트 일괄 등록 (트랜잭션 1건으로 leafCount개 해시를 앵커)
+     */
+    public String registerRoot(String merkleRoot, int leafCount) {
+        return registerRoot(merkleRoot, leafCount, web3jService.getGasProvider().getGasPrice());
+    }
 
-            RawTransaction rawTransaction = RawTransaction.createTransaction(
-                    nonce,
-                    gasPrice,
-                    gasLimit,
-                    contractAddress,
-                    encodedFunction
-            );
+    public String registerRoot(String merkleRoot, int leafCount, BigInteger gasPrice) {
+        String contractAddress = requireContractAddress();
 
-            byte[] signedMessage = TransactionEncoder.signMessage(
-                    rawTransaction,
-                    web3jService.getCredentials()
+        try {
+            byte[] rootBytes = Numeric.hexStringToByteArray(merkleRoot);
+            if (rootBytes.length != 32) {
+                throw new BlockchainException(ErrorCode.BLOCKCHAIN_INVALID_HASH,
+                    "Merkle root must be 32 bytes");
+            }
+
+            Function function = new Function(
+                    "registerRoot",
+                    Arrays.asList(
+                            new Bytes32(rootBytes),
+                            new Uint256(BigInteger.valueOf(leafCount))
+                    ),
+                    Collections.emptyList()
             );
 
-            String hexValue = Numeric.toHexString(signedMessage);
+            String txHash = sendTransaction(contractAddress, function, gasPrice);
+            log.info("Merkle root registered to blockchain. Root: {}, leaves: {}, TxHash: {}",
+                    merkleRoot, leafCount, txHash);
+            return txHash;
 
-            EthSendTransaction response = web3jService.getWeb3j()
-                    .ethSendRawTransaction(hexValue)
-                    .send();
+        } catch (BlockchainException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to register merkle root: {}", e.getMessage());
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED,
+                "Failed to register merkle root to blockchain", e);
+        }
+    }
 
-            if (response.hasError()) {
-                throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED, 
-                    "Transaction error: " + response.getError().getMessage());
-            }
+    public VerificationResult verifyHash(String dataHash) {
+        String contractAddress = requireContractAddress();
 
-            String txHash = response.getTransactionHash();
-            log.info("Hash registered to blockchain. TxHash: {}", txHash);
-            return txHash;
+        try {
+            return callVerification(contractAddress, verifyHashFunction(dataHash));
 
         } catch (BlockchainException e) {
             throw e;
         } catch (Exception e) {
-            log.error("Failed to register hash: {}", e.getMessage());
-            throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED, 
-                "Failed to register hash to blockchain", e);
+            log.error("Failed to verify hash: {}", e.getMessage());
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_VERIFICATION_FAILED,
+                "Failed to verify hash on blockchain", e);
         }
     }
 
-    public VerificationResult verifyHash(String dataHash) {
+    /**
+     * Merkle 포함 증명 기반 검증 (일괄 등록된 엔트리용)
+     */
+    public VerificationResult verifyHash(String dataHash, List<String> proof, String merkleRoot) {
+        String contractAddress = requireContractAddress();
+
+        try {
+            return callVerification(contractAddress, verifyHashWithProofFunction(dataHash, proof, merkleRoot));
+
+        } catch (BlockchainException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to verify hash with proof: {}", e.getMessage());
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_VERIFICATION_FAILED,
+                "Failed to verify hash with merkle proof on blockchain", e);
+        }
+    }
+
+    /**
+     * 여러 해시를 JSON-RPC batch 요청 1회로 검증
+     * - 증명이 있는 대상은 verifyHashWithProof, 없으면 verifyHash eth_call
+     * - 결과는 targets와 같은 순서
+     * - 대상별 오류(error 응답, 디코딩 실패, 응답 누락, 잘못된 해시)는 그 대상만 UNKNOWN (batch 전체를 실패시키지 않음)
+     */
+    public List<VerificationResult> verifyHashes(List<VerificationTarget> targets) {
+        try {
+            return verifyHashesAsync(targets).join();
+
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BlockchainException blockchainException) {
+                throw blockchainException;
+            }
+            log.error("Failed to verify hashes in batch: {}", e.getMessage());
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_VERIFICATION_FAILED,
+                "Failed to verify hashes on blockchain", e.getCause());
+        }
+    }
+
+    /**
+     * verifyHashes의 비동기 버전 (Web3jService.sendAsync, 여러 batch를 동시에 보낼 때 사용)
+     */
+    public CompletableFuture<List<VerificationResult>> verifyHashesAsync(List<VerificationTarget> targets) {
+        String contractAddress = requireContractAddress();
+        if (targets.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        List<Function> functions = new ArrayList<>(targets.size());
+        BatchRequest batch = web3jService.getWeb3j().newBatch();
+        Map<Long, Integer> indexByRequestId = new HashMap<>();
+
+        for (VerificationTarget target : targets) {
+            Function function;
+            try {
+                function = target.hasProof()
+                        ? verifyHashWithProofFunction(target.dataHash(), target.proof(), target.merkleRoot())
+                        : verifyHashFunction(target.dataHash());
+            } catch (RuntimeException e) {
+                log.warn("Skipping invalid verification target {}: {}", target.dataHash(), e.getMessage());
+                function = null;
+            }
+            if (function != null) {
+                Request<?, EthCall> request = ethCallRequest(contractAddress, function);
+                indexByRequestId.put(request.getId(), functions.size());
+                batch.add(request);
+            }
+            functions.add(function);
+        }
+        if (batch.getRequests().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.nCopies(targets.size(), VerificationResult.UNKNOWN));
+        }
+
+        return web3jService.sendAsync(batch).thenApply(batchResponse -> {
+            VerificationResult[] results = new VerificationResult[targets.size()];
+            for (Response<?> response : batchResponse.getResponses()) {
+                Integer index = indexByRequestId.get(response.getId());
+                if (index == null) {
+                    continue;
+                }
+                try {
+                    results[index] = decodeVerification((EthCall) response, functions.get(index));
+                } catch (RuntimeException e) {
+                    log.warn("Batch verification failed for hash {}: {}", targets.get(index).dataHash(), e.getMessage());
+                    results[index] = VerificationResult.UNKNOWN;
+                }
+            }
+
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null) {
+                    if (functions.get(i) != null) {
+                        log.warn("Missing batch response for hash: {}", targets.get(i).dataHash());
+                    }
+                    results[i] = VerificationResult.UNKNOWN;
+                }
+            }
+
+            log.debug("Batch hash verification: {} hashes", targets.size());
+            return Arrays.asList(results);
+        });
+    }
+
+    /**
+     * 트랜잭션 receipt를 JSON-RPC batch 1회로 조회
+     *
+     * @return txHash → receipt (아직 채굴되지 않았거나 노드가 모르는 트랜잭션은 포함되지 않음)
+     */
+    public Map<String, TransactionReceipt> getTransactionReceipts(Collection<String> txHashes) {
+        if (!web3jService.isInitialized()) {
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
+        }
+        if (txHashes.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            BatchRequest batch = web3jService.getWeb3j().newBatch();
+            Map<Long, String> txHashByRequestId = new HashMap<>();
+            for (String txHash : txHashes) {
+                Request<?, EthGetTransactionReceipt> request =
+                        web3jService.getWeb3j().ethGetTransactionReceipt(txHash);
+                txHashByRequestId.put(request.getId(), txHash);
+                batch.add(request);
+            }
+
+            Map<String, TransactionReceipt> receipts = new HashMap<>();
+            for (Response<?> response : web3jService.sendAsync(batch).join().getResponses()) {
+                String txHash = txHashByRequestId.get(response.getId());
+                if (txHash == null || response.hasError()) {
+                    continue;
+                }
+                ((EthGetTransactionReceipt) response).getTransactionReceipt()
+                        .ifPresent(receipt -> receipts.put(txHash, receipt));
+            }
+            return receipts;
+
+        } catch (Exception e) {
+            log.error("Failed to fetch transaction receipts: {}", e.getMessage());
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_VERIFICATION_FAILED,
+                "Failed to fetch transaction receipts", e);
+        }
+    }
+
+    private String requireContractAddress() {
         if (!web3jService.isInitialized()) {
             throw new BlockchainException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
         }
@@ -116,60 +294,293 @@ public class LedgerRegistryService {
         if (contractAddress == null || contractAddress.isBlank()) {
             throw new BlockchainException(ErrorCode.BLOCKCHAIN_CONTRACT_NOT_CONFIGURED);
         }
+        return contractAddress;
+    }
 
-        try {
-            byte[] hashBytes = Numeric.hexStringToByteArray(dataHash);
-            if (hashBytes.length != 32) {
-                throw new BlockchainException(ErrorCode.BLOCKCHAIN_INVALID_HASH, 
-                    "Hash must be 32 bytes");
+    /**
+     * 서명 후 전송. nonce는 Web3jService의 할당기에서 받으므로 전송 전 eth_getTransactionCount 왕복이 없음
+     * nonce 충돌 시 재동기화 후 최대 MAX_NONCE_RETRIES번 재전송
+     */
+    private String sendTransaction(String contractAddress, Function function, BigInteger gasPrice) throws Exception {
+        String encodedFunction = FunctionEncoder.encode(function);
+        BigInteger gasLimit = web3jService.getGasProvider().getGasLimit();
+
+        for (int attempt = 0; ; attempt++) {
+            BigInteger nonce = web3jService.allocateNonce();
+            String signedTransaction = signTransaction(contractAddress, encodedFunction, nonce, gasPrice, gasLimit);
+
+            EthSendTransaction response;
+            try {
+                response = web3jService.getWeb3j()
+                        .ethSendRawTransaction(signedTransaction)
+                        .send();
+            } catch (Exception e) {
+                // 노드에 도달했는지 알 수 없으므로 앞으로만 재동기화 (공백이 생기면 이후 nonce too high에서 되돌림)
+                web3jService.resyncNonce();
+                throw e;
             }
 
-            Function function = new Function(
-                    "verifyHash",
-                    Collections.singletonList(new Bytes32(hashBytes)),
-                    Arrays.asList(
-                            new TypeReference<Bool>() {},
-                            new TypeReference<Uint256>() {}
-                    )
-            );
+            if (!response.hasError()) {
+                return response.getTransactionHash();
+            }
 
-            String encodedFunction = FunctionEncoder.encode(function);
-
-            EthCall response = web3jService.getWeb3j()
-                    .ethCall(
-                            Transaction.createEthCallTransaction(
-                                    web3jService.getCredentials().getAddress(),
-                                    contractAddress,
-                                    encodedFunction
-                            ),
-                            DefaultBlockParameterName.LATEST
-                    )
-                    .send();
+            String errorMessage = response.getError().getMessage();
+            if (isAlreadyKnown(errorMessage)) {
+                // 다른 노드로 failover 재전송된 같은 트랜잭션 → 이미 mempool에 있음
+                return Hash.sha3(signedTransaction);
+            }
+            if (isNonceGap(errorMessage)) {
+                web3jService.resetNonce();
+            } else {
+                web3jService.resyncNonce();
+            }
+            if (attempt < MAX_NONCE_RETRIES && isNonceCollision(errorMessage)) {
+                log.warn("Nonce {} rejected ({}). Retrying with resynced nonce.", nonce, errorMessage);
+                continue;
+            }
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED,
+                "Transaction error: " + errorMessage);
+        }
+    }
 
-            if (response.hasError()) {
-                throw new BlockchainException(ErrorCode.BLOCKCHAIN_VERIFICATION_FAILED, 
-                    "Call failed: " + response.getError().getMessage());
+    /**
+     * 아직 채굴되지 않은 트랜잭션을 같은 nonce, 같은 호출 데이터 + 더 높은 gas price로 다시 서명해 교체
+     * (노드는 gas price가 약 10% 이상 오른 같은 nonce 트랜잭션만 받아 mempool의 기존 트랜잭션을 대체)
+     *
+     * @param gasPrice 교체 트랜잭션 gas price (wei)
+     */
+    public Replacement replaceTransaction(String txHash, BigInteger gasPrice) {
+        try {
+            Optional<org.web3j.protocol.core.methods.response.Transaction> found = web3jService.getWeb3j()
+                    .ethGetTransactionByHash(txHash)
+                    .send()
+                    .getTransaction();
+            if (found.isEmpty()) {
+                return new Replacement(Replacement.Outcome.DROPPED, txHash);
             }
 
-            List<Type> results = FunctionReturnDecoder.decode(
-                    response.getValue(),
-                    function.getOutputParameters()
-            );
+            org.web3j.protocol.core.methods.response.Transaction original = found.get();
+            if (original.getBlockNumberRaw() != null) {
+                return new Replacement(Replacement.Outcome.MINED, txHash);
+            }
+            BigInteger minimum = original.getGasPrice()
+                    .multiply(BigInteger.valueOf(100 + MIN_REPLACEMENT_BUMP_PERCENT))
+                    .divide(BigInteger.valueOf(100));
+            if (gasPrice.compareTo(minimum) < 0) {
+                return new Replacement(Replacement.Outcome.UNCHANGED, txHash);
+            }
 
-            boolean exists = (Boolean) results.get(0).getValue();
-            BigInteger timestamp = (BigInteger) results.get(1).getValue();
+            String signedTransaction = signTransaction(original.getTo(), original.getInput(),
+                    original.getNonce(), gasPrice, original.getGas());
+            EthSendTransaction response = web3jService.getWeb3j()
+                    .ethSendRawTransaction(signedTransaction)
+                    .send();
 
-            log.debug("Hash verification: exists={}, timestamp={}", exists, timestamp);
-            return new VerificationResult(exists, timestamp.longValue());
+            if (!response.hasError()) {
+                log.info("Transaction {} replaced by {} (nonce {}, gas price {} -> {})",
+                        txHash, response.getTransactionHash(), original.getNonce(), original.getGasPrice(), gasPrice);
+                return new Replacement(Replacement.Outcome.REPLACED, response.getTransactionHash());
+            }
+
+            String errorMessage = response.getError().getMessage();
+            if (isAlreadyKnown(errorMessage)) {
+                return new Replacement(Replacement.Outcome.REPLACED, Hash.sha3(signedTransaction));
+            }
+            if (isNonceError(errorMessage)) {
+                // 조회 이후 원래 트랜잭션(또는 이전 교체본)이 채굴됨
+                return new Replacement(Replacement.Outcome.MINED, txHash);
+            }
+            if (errorMessage != null && errorMessage.toLowerCase().contains("underpriced")) {
+                return new Replacement(Replacement.Outcome.UNCHANGED, txHash);
+            }
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED,
+                "Replacement transaction error: " + errorMessage);
 
         } catch (BlockchainException e) {
             throw e;
         } catch (Exception e) {
-            log.error("Failed to verify hash: {}", e.getMessage());
-            throw new BlockchainException(ErrorCode.BLOCKCHAIN_VERIFICATION_FAILED, 
-                "Failed to verify hash on blockchain", e);
+            log.error("Failed to replace transaction {}: {}", txHash, e.getMessage());
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED,
+                "Failed to replace transaction", e);
+        }
+    }
+
+    private String signTransaction(String contractAddress, String encodedFunction, BigInteger nonce,
+                                   BigInteger gasPrice, BigInteger gasLimit) {
+        RawTransaction rawTransaction = RawTransaction.createTransaction(
+                nonce,
+                gasPrice,
+                gasLimit,
+                contractAddress,
+                encodedFunction
+        );
+
+        byte[] signedMessage = TransactionEncoder.signMessage(
+                rawTransaction,
+                web3jService.getCredentials()
+        );
+
+        return Numeric.toHexString(signedMessage);
+    }
+
+    private boolean isNonceError(String errorMessage) {
+        if (errorMessage == null) {
+            return false;
         }
+        String message = errorMessage.toLowerCase();
+        return message.contains("nonce too low")
+                || message.contains("nonce too high")
+                || message.contains("nonce has already been used");
     }
 
-    public record VerificationResult(boolean exists, long timestamp) {}
+    /**
+     * 할당한 nonce가 노드의 다음 nonce보다 앞서 있음 (앞선 전송이 노드에 도달하지 않아 공백이 생김)
+     */
+    private boolean isNonceGap(String errorMessage) {
+        if (errorMessage == null) {
+            return false;
+        }
+        String message = errorMessage.toLowerCase();
+        return message.contains("nonce too high")
+                || message.contains("nonce too far in future")
+                || message.contains("nonce gap");
+    }
+
+    /**
+     * 새 트랜잭션 전송 시 할당한 nonce를 이미 다른 트랜잭션이 쓰고 있음
+     * - 채굴됨: nonce too low 등
+     * - mempool에 같은 nonce의 다른 트랜잭션이 있음: replacement transaction underpriced
+     */
+    private boolean isNonceCollision(String errorMessage) {
+        return isNonceError(errorMessage)
+                || (errorMessage != null && errorMessage.toLowerCase().contains("replacement transaction underpriced"));
+    }
+
+    private boolean isAlreadyKnown(String errorMessage) {
+        if (errorMessage == null) {
+            return false;
+        }
+        String message = errorMessage.toLowerCase();
+        return message.contains("already known") || message.contains("known transaction");
+    }
+
+    private Function verifyHashFunction(String dataHash) {
+        byte[] hashBytes = Numeric.hexStringToByteArray(dataHash);
+        if (hashBytes.length != 32) {
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_INVALID_HASH,
+                "Hash must be 32 bytes");
+        }
+
+        return new Function(
+                "verifyHash",
+                Collections.singletonList(new Bytes32(hashBytes)),
+                Arrays.asList(
+                        new TypeReference<Bool>() {},
+                        new TypeReference<Uint256>() {}
+                )
+        );
+    }
+
+    private Function verifyHashWithProofFunction(String dataHash, List<String> proof, String merkleRoot) {
+        byte[] hashBytes = Numeric.hexStringToByteArray(dataHash);
+        byte[] rootBytes = Numeric.hexStringToByteArray(merkleRoot);
+        if (hashBytes.length != 32 || rootBytes.length != 32) {
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_INVALID_HASH,
+                "Hash and merkle root must be 32 bytes");
+        }
+
+        List<Bytes32> proofNodes = proof.stream()
+                .map(node -> new Bytes32(Numeric.hexStringToByteArray(node)))
+                .toList();
+
+        return new Function(
+                "verifyHashWithProof",
+                Arrays.asList(
+                        new Bytes32(hashBytes),
+                        new DynamicArray<>(Bytes32.class, proofNodes),
+                        new Bytes32(rootBytes)
+                ),
+                Arrays.asList(
+                        new TypeReference<Bool>() {},
+                        new TypeReference<Uint256>() {}
+                )
+        );
+    }
+
+    private Request<?, EthCall> ethCallRequest(String contractAddress, Function function) {
+        return web3jService.getWeb3j()
+                .ethCall(
+                        Transaction.createEthCallTransaction(
+                                web3jService.getCredentials().getAddress(),
+                                contractAddress,
+                                FunctionEncoder.encode(function)
+                        ),
+                        DefaultBlockParameterName.LATEST
+                );
+    }
+
+    private VerificationResult callVerification(String contractAddress, Function function) throws Exception {
+        EthCall response = ethCallRequest(contractAddress, function).send();
+        VerificationResult result = decodeVerification(response, function);
+
+        log.debug("Hash verification: exists={}, timestamp={}", result.exists(), result.timestamp());
+        return result;
+    }
+
+    private VerificationResult decodeVerification(EthCall response, Function function) {
+        if (response.hasError()) {
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_VERIFICATION_FAILED,
+                "Call failed: " + response.getError().getMessage());
+        }
+
+        List<Type> results = FunctionReturnDecoder.decode(
+                response.getValue(),
+                function.getOutputParameters()
+        );
+
+        boolean exists = (Boolean) results.get(0).getValue();
+        BigInteger timestamp = (BigInteger) results.get(1).getValue();
+        return new VerificationResult(exists, timestamp.longValue());
+    }
+
+    /**
+     * @param unknown 이 대상만 RPC 오류로 확인하지 못함 (exists는 의미 없음)
+     */
+    public record VerificationResult(boolean exists, long timestamp, boolean unknown) {
+
+        public static final VerificationResult UNKNOWN = new VerificationResult(false, 0, true);
+
+        public VerificationResult(boolean exists, long timestamp) {
+            this(exists, timestamp, false);
+        }
+    }
+
+    /**
+     * 트랜잭션 교체 결과
+     *
+     * @param txHash REPLACED면 교체 트랜잭션, 그 외에는 원래 트랜잭션
+     */
+    public record Replacement(Outcome outcome, String txHash) {
+
+        public enum Outcome {
+            REPLACED,   // 같은 nonce + 높은 gas price로 교체
+            MINED,      // 이미 채굴됨 → receipt 확인만 다시
+            DROPPED,    // mempool에서 사라짐 → 새 nonce로 다시 제출 필요
+            UNCHANGED   // gas price 상한 도달 또는 인상폭 부족 → 그대로 대기
+        }
+    }
+
+    /**
+     * 일괄 검증 대상 (merkleRoot가 있으면 포함 증명으로 검증)
+     */
+    public record VerificationTarget(String dataHash, List<String> proof, String merkleRoot) {
+
+        public static VerificationTarget of(String dataHash) {
+            return new VerificationTarget(dataHash, List.of(), null);
+        }
+
+        public boolean hasProof() {
+            return merkleRoot != null;
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package com.vericerti.infrastructure.blockchain;
+
+import org.web3j.crypto.Hash;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 데이터 해시 묶음으로 만드는 Merkle 트리
+ * - leaf = keccak256(dataHash)
+ * - 부모 = keccak256(작은 값 || 큰 값) (정렬된 쌍, LedgerRegistry.verifyHashWithProof와 동일)
+ * - 홀수 개 노드는 마지막 노드를 그대로 상위 레벨로 올림
+ */
+public final class MerkleTree {
+
+    private final List<List<byte[]>> levels;
+
+    private MerkleTree(List<List<byte[]>> levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * @param dataHashes 32바이트 데이터 해시 목록 (순서가 leaf 인덱스)
+     */
+    public static MerkleTree of(List<byte[]> dataHashes) {
+        if (dataHashes == null || dataHashes.isEmpty()) {
+            throw new IllegalArgumentException("Merkle tree requires at least one leaf");
+        }
+
+        List<byte[]> leaves = new ArrayList<>(dataHashes.size());
+        for (byte[] dataHash : dataHashes) {
+            if (dataHash == null || dataHash.length != 32) {
+                throw new IllegalArgumentException("Leaf must be 32 bytes");
+            }
+            leaves.add(leafHash(dataHash));
+        }
+
+        List<List<byte[]>> levels = new ArrayList<>();
+        levels.add(leaves);
+
+        List<byte[]> current = leaves;
+        while (current.size() > 1) {
+            List<byte[]> next = new ArrayList<>((current.size() + 1) / 2);
+            for (int i = 0; i < current.size(); i += 2) {
+                if (i + 1 < current.size()) {
+                    next.add(hashPair(current.get(i), current.get(i + 1)));
+                } else {
+                    next.add(current.get(i));
+                }
+            }
+            levels.add(next);
+            current = next;
+        }
+
+        return new MerkleTree(levels);
+    }
+
+    public byte[] getRoot() {
+        return levels.get(levels.size() - 1).get(0).clone();
+    }
+
+    public int getLeafCount() {
+        return levels.get(0).size();
+    }
+
+    /**
+     * @param leafIndex leaf 인덱스 (of()에 전달한 순서)
+     * @return leaf에서 루트까지의 형제 노드 목록
+     */
+    public List<byte[]> getProof(int leafIndex) {
+        if (leafIndex < 0 || leafIndex >= getLeafCount()) {
+            throw new IndexOutOfBoundsException("Leaf index out of range: " + leafIndex);
+        }
+
+        List<byte[]> proof = new ArrayList<>();
+        int index = leafIndex;
+        for (int depth = 0; depth < levels.size() - 1; depth++) {
+            List<byte[]> level = levels.get(depth);
+            int siblingIndex = (index % 2 == 0) ? index + 1 : index - 1;
+            // 홀수 레벨의 마지막 노드는 형제 없이 올라감
+            if (siblingIndex < level.size()) {
+                proof.add(level.get(siblingIndex).clone());
+            }
+            index /= 2;
+        }
+        return Collections.unmodifiableList(proof);
+    }
+
+    /**
+     * 컨트랙트 호출 없이 포함 증명을 로컬에서 검증
+     */
+    public static boolean verify(byte[] dataHash, List<byte[]> proof, byte[] root) {
+        byte[] computed = leafHash(dataHash);
+        for (byte[] sibling : proof) {
+            computed = hashPair(computed, sibling);
+        }
+        return Arrays.equals(computed, root);
+    }
+
+    static byte[] leafHash(byte[] dataHash) {
+        return Hash.sha3(dataHash);
+    }
+
+    static byte[] hashPair(byte[] a, byte[] b) {
+        byte[] combined = new byte[64];
+        if (Arrays.compareUnsigned(a, b) < 0) {
+            System.arraycopy(a, 0, combined, 0, 32);
+            System.arraycopy(b, 0, combined, 32, 32);
+        } else {
+            System.arraycopy(b, 0, combined, 0, 32);
+            System.arraycopy(a, 0, combined, 32, 32);
+        }
+        return Hash.sha3(combined);
+    }
+}
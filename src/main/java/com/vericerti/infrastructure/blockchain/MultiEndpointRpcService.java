@@ -0,0 +1,295 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.web3j.protocol.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 RPC 노드를 묶은 web3j 전송 계층
+ * - 노드별 지연(EWMA)과 연속 실패로 순위를 매기고, 실패한 노드는 failure-cooldown 동안 후순위
+ * - 쓰기(eth_sendRawTransaction): 순위대로 하나씩 시도 (서명된 트랜잭션이라 재전송해도 같은 txHash)
+ * - PENDING nonce 조회는 쓰기와 같은 경로: 마지막으로 쓰기를 받은 노드에 먼저 보내 mempool 기준을 맞춤
+ * - 읽기: 1순위 노드가 지연 백분위(hedge-percentile) 안에 응답하지 않으면 다음 노드에도 요청, 먼저 온 응답 사용
+ */
+@Slf4j
+public class MultiEndpointRpcService extends Service {
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    private final List<Endpoint> endpoints;
+    private final OkHttpClient httpClient;
+    private final BlockchainProperties.Rpc rpc;
+
+    // 마지막으로 쓰기(또는 PENDING nonce 조회)에 성공한 노드
+    private volatile Endpoint sendEndpoint;
+
+    public MultiEndpointRpcService(List<String> urls, OkHttpClient httpClient, BlockchainProperties.Rpc rpc) {
+        super(false);
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("At least one RPC endpoint is required");
+        }
+        this.endpoints = urls.stream().map(Endpoint::new).toList();
+        this.httpClient = httpClient;
+        this.rpc = rpc;
+    }
+
+    @Override
+    protected InputStream performIO(String payload) throws IOException {
+        byte[] body = isSendPath(payload) ? sendWithFailover(payload) : sendHedged(payload);
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {
+        // HTTP 클라이언트는 Web3jService가 소유
+    }
+
+    /**
+     * @return 건강한 노드(지연 낮은 순) → 쿨다운 중인 노드(복귀 임박 순)
+     */
+    List<Endpoint> rankedEndpoints() {
+        long now = System.currentTimeMillis();
+        List<Endpoint> ranked = new ArrayList<>(endpoints);
+        ranked.sort(Comparator
+                .comparing((Endpoint endpoint) -> !endpoint.isHealthy(now))
+                .thenComparingDouble(endpoint -> endpoint.isHealthy(now) ? endpoint.score() : endpoint.unhealthyUntil()));
+        return ranked;
+    }
+
+    /**
+     * 쓰기와 PENDING nonce 조회는 hedge하지 않고 같은 노드로 보냄
+     * (노드마다 mempool이 달라 다른 노드의 PENDING nonce로 서명하면 nonce가 겹치거나 비어 있음)
+     */
+    private boolean isSendPath(String payload) {
+        return payload.contains("\"eth_sendRawTransaction\"")
+                || payload.contains("\"eth_sendTransaction\"")
+                || (payload.contains("\"eth_getTransactionCount\"") && payload.contains("\"pending\""));
+    }
+
+    /**
+     * @return 마지막 쓰기 노드(건강할 때) → 나머지는 순위대로
+     */
+    List<Endpoint> sendEndpoints() {
+        List<Endpoint> ranked = rankedEndpoints();
+        Endpoint sticky = sendEndpoint;
+        if (sticky != null && sticky.isHealthy(System.currentTimeMillis())) {
+            ranked.remove(sticky);
+            ranked.add(0, sticky);
+        }
+        return ranked;
+    }
+
+    private byte[] sendWithFailover(String payload) throws IOException {
+        IOException lastError = null;
+        for (Endpoint endpoint : sendEndpoints()) {
+            long started = System.nanoTime();
+            try (Response response = newCall(endpoint, payload).execute()) {
+                byte[] body = readBody(response);
+                endpoint.recordSuccess(elapsedMillis(started));
+                sendEndpoint = endpoint;
+                return body;
+            } catch (IOException e) {
+                markFailed(endpoint, e);
+                lastError = e;
+            }
+        }
+        throw lastError;
+    }
+
+    private byte[] sendHedged(String payload) throws IOException {
+        List<Endpoint> ranked = rankedEndpoints();
+        BlockingQueue<Attempt> outcomes = new LinkedBlockingQueue<>();
+        List<Call> calls = new ArrayList<>();
+        IOException lastError = null;
+        int finished = 0;
+
+        try {
+            calls.add(launch(ranked.get(0), payload, outcomes));
+            while (finished < calls.size()) {
+                boolean canHedge = calls.size() < ranked.size();
+                Attempt attempt = canHedge
+                        ? outcomes.poll(hedgeDelayMillis(ranked.get(calls.size() - 1)), TimeUnit.MILLISECONDS)
+                        : outcomes.take();
+
+                if (attempt == null) {
+                    // 응답 지연 → 다음 노드에 같은 요청
+                    log.debug("Hedging RPC read to {}", ranked.get(calls.size()).url());
+                    calls.add(launch(ranked.get(calls.size()), payload, outcomes));
+                    continue;
+                }
+
+                finished++;
+                if (attempt.body() != null) {
+                    return attempt.body();
+                }
+                lastError = attempt.error();
+                if (finished == calls.size() && canHedge) {
+                    // 진행 중인 요청이 모두 실패 → 바로 다음 노드로
+                    calls.add(launch(ranked.get(calls.size()), payload, outcomes));
+                }
+            }
+            throw lastError;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for RPC response");
+        } finally {
+            calls.forEach(Call::cancel);
+        }
+    }
+
+    private Call launch(Endpoint endpoint, String payload, BlockingQueue<Attempt> outcomes) {
+        Call call = newCall(endpoint, payload);
+        long started = System.nanoTime();
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    byte[] body = readBody(response);
+                    endpoint.recordSuccess(elapsedMillis(started));
+                    outcomes.add(new Attempt(body, null));
+                } catch (IOException e) {
+                    onFailure(call, e);
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) {
+                    // hedge에서 진 요청: 실패로 보지 않고 걸린 시간만 지연 통계에 반영
+                    endpoint.recordLatency(elapsedMillis(started));
+                } else {
+                    markFailed(endpoint, e);
+                }
+                outcomes.add(new Attempt(null, e));
+            }
+        });
+        return call;
+    }
+
+    private Call newCall(Endpoint endpoint, String payload) {
+        Request request = new Request.Builder()
+                .url(endpoint.url())
+                .post(RequestBody.create(payload, JSON))
+                .build();
+        return httpClient.newCall(request);
+    }
+
+    private byte[] readBody(Response response) throws IOException {
+        ResponseBody body = response.body();
+        if (!response.isSuccessful() || body == null) {
+            throw new IOException("Invalid response received: " + response.code() + "; " + response.message());
+        }
+        return body.bytes();
+    }
+
+    private void markFailed(Endpoint endpoint, IOException e) {
+        endpoint.recordFailure(rpc.getFailureCooldown().toMillis());
+        log.warn("RPC endpoint {} failed: {}", endpoint.url(), e.getMessage());
+    }
+
+    private long hedgeDelayMillis(Endpoint endpoint) {
+        long min = rpc.getHedgeMinDelay().toMillis();
+        long max = rpc.getHedgeMaxDelay().toMillis();
+        long percentile = endpoint.percentileMillis(rpc.getHedgePercentile());
+        return percentile < 0 ? max : Math.clamp(percentile, min, max);
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    private record Attempt(byte[] body, IOException error) {}
+
+    /**
+     * 노드별 상태: 최근 지연 표본(백분위 계산용), EWMA 지연, 연속 실패, 쿨다운 종료 시각
+     */
+    static final class Endpoint {
+
+        private static final int WINDOW = 128;
+        private static final int MIN_SAMPLES = 10;
+        private static final double EWMA_ALPHA = 0.2;
+
+        private final String url;
+        private final long[] latencies = new long[WINDOW];
+        private int samples;
+        private int cursor;
+        private double ewmaMillis;
+        private int consecutiveFailures;
+        private long unhealthyUntil;
+
+        Endpoint(String url) {
+            this.url = url;
+        }
+
+        String url() {
+            return url;
+        }
+
+        synchronized void recordSuccess(long millis) {
+            recordLatency(millis);
+            consecutiveFailures = 0;
+            unhealthyUntil = 0;
+        }
+
+        synchronized void recordLatency(long millis) {
+            latencies[cursor] = millis;
+            cursor = (cursor + 1) % WINDOW;
+            samples = Math.min(samples + 1, WINDOW);
+            ewmaMillis = ewmaMillis == 0 ? millis : EWMA_ALPHA * millis + (1 - EWMA_ALPHA) * ewmaMillis;
+        }
+
+        synchronized void recordFailure(long cooldownMillis) {
+            consecutiveFailures++;
+            unhealthyUntil = System.currentTimeMillis() + cooldownMillis;
+        }
+
+        synchronized boolean isHealthy(long now) {
+            return now >= unhealthyUntil;
+        }
+
+        synchronized long unhealthyUntil() {
+            return unhealthyUntil;
+        }
+
+        /**
+         * 낮을수록 우선 (최근 실패가 있으면 지연에 가중치)
+         */
+        synchronized double score() {
+            return ewmaMillis * (1 + consecutiveFailures);
+        }
+
+        /**
+         * @return 최근 지연의 백분위 (표본이 부족하면 -1)
+         */
+        synchronized long percentileMillis(double percentile) {
+            if (samples < MIN_SAMPLES) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(latencies, samples);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * samples) - 1;
+            return sorted[Math.max(0, Math.min(index, samples - 1))];
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 여러 인스턴스 간 블록체인 작업 분할 (Redis)
+ * - ZSET blockchain:cluster:members         instanceId (score = heartbeat 만료 시각 epoch ms)
+ * - STR  blockchain:cluster:partition:{p}   파티션 lease 소유 instanceId (PX lease-ttl)
+ * - 살아 있는 멤버 중 rendezvous hash로 파티션 담당을 정하고, lease를 얻은 파티션만 처리
+ *   → 인스턴스가 추가/장애로 빠져도 해당 인스턴스의 파티션만 이동, 장애 시 lease-ttl 후 다른 인스턴스가 인계
+ * - 파티션 = organizationId % partitions, 파티션 0 소유자가 전체 검증/인덱싱 같은 단일 실행 작업 담당 (leader)
+ * - cluster.enabled=false 이면 이 인스턴스가 모든 파티션 소유 (Redis 사용 안 함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionCoordinator {
+
+    private static final String MEMBERS_KEY = "blockchain:cluster:members";
+    private static final String PARTITION_KEY_PREFIX = "blockchain:cluster:partition:";
+    private static final int LEADER_PARTITION = 0;
+
+    // 비어 있으면 획득, 내 것이면 연장
+    private static final RedisScript<Long> ACQUIRE_OR_RENEW = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+              return 1
+            end
+            if owner == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 내 것일 때만 해제
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final BlockchainProperties blockchainProperties;
+
+    private final String instanceId = hostname() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    private volatile Ownership ownership = new Ownership(Set.of(), 0);
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    public void start() {
+        if (!isClusterEnabled()) {
+            return;
+        }
+        heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("blockchain-cluster-heartbeat").daemon().factory());
+        // 스케줄러 스레드가 긴 작업에 묶여도 lease가 끊기지 않도록 전용 스레드에서 갱신
+        heartbeat.scheduleWithFixedDelay(this::rebalance,
+                0, cluster().getHeartbeatIntervalMs(), TimeUnit.MILLISECONDS);
+        log.info("event=cluster_joined instanceId={} partitions={}", instanceId, cluster().getPartitions());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeat == null) {
+            return;
+        }
+        heartbeat.shutdownNow();
+        try {
+            // 종료 시 바로 인계되도록 lease와 멤버십 반납
+            for (Integer partition : ownership.partitions()) {
+                release(partition);
+            }
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, instanceId);
+        } catch (Exception e) {
+            log.warn("event=cluster_leave_failed error={}", e.getMessage());
+        }
+    }
+
+    public boolean isClusterEnabled() {
+        return cluster().isEnabled();
+    }
+
+    public int partitionOf(Long organizationId) {
+        return Math.floorMod(organizationId, cluster().getPartitions());
+    }
+
+    /**
+     * @return 이 인스턴스가 lease를 보유한 파티션 (cluster 비활성화 시 null = 전체)
+     */
+    public Set<Integer> ownedPartitions() {
+        if (!isClusterEnabled()) {
+            return null;
+        }
+        Ownership current = ownership;
+        // 갱신이 밀려 lease가 만료됐을 수 있으면 아무것도 소유하지 않은 것으로 취급
+        return System.currentTimeMillis() < current.validUntil() ? current.partitions() : Set.of();
+    }
+
+    public boolean owns(Long organizationId) {
+        Set<Integer> owned = ownedPartitions();
+        return owned == null || owned.contains(partitionOf(organizationId));
+    }
+
+    /**
+     * 전체 검증, 이벤트 인덱싱 등 클러스터에서 한 인스턴스만 실행할 작업 담당 여부
+     */
+    public boolean isLeader() {
+        Set<Integer> owned = ownedPartitions();
+        return owned == null || owned.contains(LEADER_PARTITION);
+    }
+
+    /**
+     * heartbeat 갱신 → 살아 있는 멤버로 담당 파티션 계산 → 담당 파티션 lease 획득/연장, 나머지 반납
+     */
+    void rebalance() {
+        try {
+            long leaseMillis = cluster().getLeaseTtl().toMillis();
+            long now = System.currentTimeMillis();
+
+            redisTemplate.opsForZSet().add(MEMBERS_KEY, instanceId, now + leaseMillis);
+            redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, 0, now);
+            Set<String> members = redisTemplate.opsForZSet().rangeByScore(MEMBERS_KEY, now, Double.MAX_VALUE);
+            List<String> live = members == null ? List.of(instanceId) : List.copyOf(members);
+
+            Set<Integer> owned = new HashSet<>();
+            for (int partition = 0; partition < cluster().getPartitions(); partition++) {
+                if (instanceId.equals(ownerOf(partition, live))) {
+                    if (acquireOrRenew(partition, leaseMillis)) {
+                        owned.add(partition);
+                    }
+                } else {
+                    release(partition);
+                }
+            }
+
+            Set<Integer> previous = ownership.partitions();
+            ownership = new Ownership(Set.copyOf(owned), now + leaseMillis);
+            if (!previous.equals(owned)) {
+                log.info("event=cluster_rebalanced instanceId={} members={} partitions={}",
+                        instanceId, live.size(), owned.stream().sorted().toList());
+            }
+        } catch (Exception e) {
+            // 갱신 실패 → 기존 lease는 validUntil 이후 자동으로 무효
+            log.warn("event=cluster_heartbeat_failed error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * rendezvous(HRW) hash: (멤버, 파티션) 점수가 가장 높은 멤버가 담당
+     */
+    static String ownerOf(int partition, List<String> members) {
+        String owner = null;
+        long best = -1;
+        for (String member : members) {
+            CRC32 crc = new CRC32();
+            crc.update((member + "#" + partition).getBytes(StandardCharsets.UTF_8));
+            long score = crc.getValue();
+            if (score > best || (score == best && member.compareTo(owner) < 0)) {
+                best = score;
+                owner = member;
+            }
+        }
+        return owner;
+    }
+
+    private boolean acquireOrRenew(int partition, long leaseMillis) {
+        Long result = redisTemplate.execute(ACQUIRE_OR_RENEW,
+                List.of(PARTITION_KEY_PREFIX + partition), instanceId, Long.toString(leaseMillis));
+        return result != null && result == 1;
+    }
+
+    private void release(int partition) {
+        redisTemplate.execute(RELEASE, List.of(PARTITION_KEY_PREFIX + partition), instanceId);
+    }
+
+    private BlockchainProperties.Cluster cluster() {
+        return blockchainProperties.getCluster();
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    private record Ownership(Set<Integer> partitions, long validUntil) {}
+}
@@ -0,0 +1,249 @@
+package com.vericerti.infrastructure.blockchain;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 블록체인 제출 후 검증 대기 큐 (Redis)
+ * - HASH  blockchain:pending:verification:entries  entryId → "txHash:retryCount:submittedAt[:교체 전 txHash,...]"
+ * - ZSET  blockchain:pending:verification:due      entryId (score = 검증 예정 시각 epoch ms)
+ * 제출 여부는 HEXISTS/HMGET으로 O(1), 만료 항목은 ZRANGEBYSCORE로 개수 제한 조회
+ * 여러 인스턴스가 폴링할 때는 claimDue로 항목을 lease (score를 lease 만료 시각으로 이동)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingVerificationQueue {
+
+    private static final String ENTRIES_KEY = "blockchain:pending:verification:entries";
+    private static final String DUE_KEY = "blockchain:pending:verification:due";
+    private static final String LEGACY_SET_KEY = "blockchain:pending:verification";
+
+    // 만료 항목 조회 + score를 lease 만료 시각으로 갱신
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<String>> CLAIM_DUE = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], 0, ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, id in ipairs(ids) do
+              redis.call('ZADD', KEYS[1], 'XX', ARGV[3], id)
+            end
+            return ids
+            """, (Class<List<String>>) (Class) List.class);
+
+    // HASH 값 기록 + ZSET 예정 시각 갱신을 한 번에 (둘 중 하나만 남는 상태 방지)
+    private static final RedisScript<Long> ENQUEUE = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>("""
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return redis.call('HDEL', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 이전 형식(SET, "entryId:txHash:retryCount")에 남아 있는 항목을 새 구조로 이전
+     */
+    @PostConstruct
+    public void migrateLegacySet() {
+        try {
+            Set<String> legacyMembers = redisTemplate.opsForSet().members(LEGACY_SET_KEY);
+            if (legacyMembers == null || legacyMembers.isEmpty()) {
+                return;
+            }
+            for (String member : legacyMembers) {
+                String[] parts = member.split(":");
+                if (parts.length < 3) {
+                    continue;
+                }
+                enqueue(Long.parseLong(parts[0]), parts[1], Integer.parseInt(parts[2]), Duration.ZERO);
+            }
+            redisTemplate.delete(LEGACY_SET_KEY);
+            log.info("Migrated {} legacy pending verification members", legacyMembers.size());
+        } catch (Exception e) {
+            log.warn("Failed to migrate legacy pending verification set: {}", e.getMessage());
+        }
+    }
+
+    public void enqueue(Long entryId, String txHash, int retryCount, Duration delay) {
+        enqueue(new PendingVerification(entryId, txHash, retryCount, System.currentTimeMillis()), delay);
+    }
+
+    /**
+     * 같은 항목을 다시 예약 (제출 시각 유지)
+     * HASH와 ZSET을 Lua 스크립트 하나로 갱신 → 값만 있고 예정 시각이 없는(영영 조회되지 않는) 항목이 생기지 않음
+     */
+    public void enqueue(PendingVerification pending, Duration delay) {
+        String field = pending.entryId().toString();
+        long dueAt = System.currentTimeMillis() + delay.toMillis();
+        String value = pending.txHash() + ":" + pending.retryCount() + ":" + pending.submittedAt();
+        if (!pending.replacedTxHashes().isEmpty()) {
+            value += ":" + String.join(",", pending.replacedTxHashes());
+        }
+        redisTemplate.execute(ENQUEUE, List.of(ENTRIES_KEY, DUE_KEY), field, value, Long.toString(dueAt));
+    }
+
+    public boolean contains(Long entryId) {
+        return redisTemplate.opsForHash().hasKey(ENTRIES_KEY, entryId.toString());
+    }
+
+    /**
+     * @return 주어진 엔트리 중 이미 큐에 있는 entryId (HMGET 1회)
+     */
+    public Set<Long> findQueued(Collection<Long> entryIds) {
+        if (entryIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Object> fields = entryIds.stream().map(id -> (Object) id.toString()).toList();
+        List<Object> values = redisTemplate.opsForHash().multiGet(ENTRIES_KEY, fields);
+
+        Set<Long> queued = new HashSet<>();
+        int i = 0;
+        for (Long entryId : entryIds) {
+            if (values.get(i++) != null) {
+                queued.add(entryId);
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * 검증 예정 시각이 지난 항목을 최대 limit개 조회 (큐에서 제거하지 않음)
+     */
+    public List<PendingVerification> findDue(int limit) {
+        Set<String> dueIds = redisTemplate.opsForZSet()
+                .rangeByScore(DUE_KEY, 0, System.currentTimeMillis(), 0, limit);
+        if (dueIds == null || dueIds.isEmpty()) {
+            return List.of();
+        }
+        return resolve(dueIds);
+    }
+
+    /**
+     * findDue와 같지만 조회한 항목의 검증 예정 시각을 lease만큼 미뤄 둠 (원자적)
+     * → 여러 인스턴스가 동시에 폴링해도 같은 항목을 중복 조회하지 않음, 처리 중 장애 시 lease 후 다시 노출
+     */
+    public List<PendingVerification> claimDue(int limit, Duration lease) {
+        long now = System.currentTimeMillis();
+        List<String> dueIds = redisTemplate.execute(CLAIM_DUE, List.of(DUE_KEY),
+                Long.toString(now), Long.toString(limit), Long.toString(now + lease.toMillis()));
+        if (dueIds == null || dueIds.isEmpty()) {
+            return List.of();
+        }
+        return resolve(dueIds);
+    }
+
+    private List<PendingVerification> resolve(Collection<String> dueIds) {
+        List<Object> fields = new ArrayList<>(dueIds);
+        List<Object> values = redisTemplate.opsForHash().multiGet(ENTRIES_KEY, fields);
+
+        List<PendingVerification> result = new ArrayList<>(dueIds.size());
+        int i = 0;
+        for (String entryId : dueIds) {
+            Object value = values.get(i++);
+            PendingVerification pending = value == null ? null : parse(entryId, value.toString());
+            if (pending == null) {
+                log.error("Invalid pending verification entry: {} -> {}", entryId, value);
+                remove(entryId);
+                continue;
+            }
+            result.add(pending);
+        }
+        return result;
+    }
+
+    public void remove(Long entryId) {
+        remove(entryId.toString());
+    }
+
+    private void remove(String field) {
+        redisTemplate.execute(REMOVE, List.of(ENTRIES_KEY, DUE_KEY), field);
+    }
+
+    public long size() {
+        Long size = redisTemplate.opsForHash().size(ENTRIES_KEY);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 모니터링용 큐 깊이 (ZCOUNT + 가장 이른 score 1건 조회)
+     */
+    public QueueDepth depth() {
+        long now = System.currentTimeMillis();
+        Long due = redisTemplate.opsForZSet().count(DUE_KEY, 0, now);
+        Set<ZSetOperations.TypedTuple<String>> earliest = redisTemplate.opsForZSet().rangeWithScores(DUE_KEY, 0, 0);
+
+        long lagMillis = 0;
+        if (earliest != null && !earliest.isEmpty()) {
+            Double score = earliest.iterator().next().getScore();
+            lagMillis = score == null ? 0 : Math.max(0, now - score.longValue());
+        }
+        return new QueueDepth(size(), due == null ? 0 : due, lagMillis);
+    }
+
+    private PendingVerification parse(String entryId, String value) {
+        String[] parts = value.split(":");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            long submittedAt = parts.length >= 3 ? Long.parseLong(parts[2]) : System.currentTimeMillis();
+            List<String> replacedTxHashes = parts.length >= 4 ? List.of(parts[3].split(",")) : List.of();
+            return new PendingVerification(Long.parseLong(entryId), parts[0], Integer.parseInt(parts[1]), submittedAt,
+                    replacedTxHashes);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param txHash           마지막으로 보낸 트랜잭션
+     * @param replacedTxHashes 같은 nonce로 교체되기 전 트랜잭션 (교체가 전파되기 전에 채굴될 수 있으므로 함께 확인)
+     */
+    public record PendingVerification(Long entryId, String txHash, int retryCount, long submittedAt,
+                                      List<String> replacedTxHashes) {
+
+        public PendingVerification(Long entryId, String txHash, int retryCount, long submittedAt) {
+            this(entryId, txHash, retryCount, submittedAt, List.of());
+        }
+
+        /**
+         * @return 채굴됐을 수 있는 모든 트랜잭션 (마지막으로 보낸 것 먼저)
+         */
+        public List<String> txHashes() {
+            List<String> txHashes = new ArrayList<>(replacedTxHashes.size() + 1);
+            txHashes.add(txHash);
+            txHashes.addAll(replacedTxHashes);
+            return txHashes;
+        }
+
+        /**
+         * minedTxHash가 채굴됨 → 이후에는 그 트랜잭션만 확인
+         */
+        public PendingVerification minedAs(String minedTxHash) {
+            return new PendingVerification(entryId, minedTxHash, retryCount, submittedAt);
+        }
+    }
+
+    /**
+     * @param queued    검증 대기 중인 엔트리 수
+     * @param due       확인 예정 시각이 지난 엔트리 수
+     * @param lagMillis 가장 오래 밀린 항목이 예정 시각을 넘긴 시간
+     */
+    public record QueueDepth(long queued, long due, long lagMillis) {}
+}
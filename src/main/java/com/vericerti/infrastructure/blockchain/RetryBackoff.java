@@ -0,0 +1,48 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.infrastructure.config.BlockchainProperties;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재시도 간격 / 재제출 gas price 계산
+ * - 간격 = min(max-delay, base × multiplier^attempt) × (1 ± jitter)
+ * - gas price = min(max-gas-price, base × (1 + gas-bump-percent/100)^attempt)
+ */
+final class RetryBackoff {
+
+    private static final BigInteger HUNDRED = BigInteger.valueOf(100);
+
+    private RetryBackoff() {
+    }
+
+    /**
+     * @param attempt 지금까지 실패한 횟수 (0이면 base)
+     */
+    static Duration delay(Duration base, int attempt, BlockchainProperties.Retry retry) {
+        double millis = base.toMillis() * Math.pow(retry.getMultiplier(), Math.max(0, attempt));
+        millis = Math.min(millis, retry.getMaxDelay().toMillis());
+
+        double jitter = retry.getJitter();
+        if (jitter > 0) {
+            millis *= 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        }
+        return Duration.ofMillis(Math.max(0, Math.round(millis)));
+    }
+
+    /**
+     * @param attempt 재제출 횟수 (0이면 base)
+     */
+    static BigInteger gasPrice(BigInteger base, int attempt, BlockchainProperties.Retry retry) {
+        BigInteger max = retry.getMaxGasPrice();
+        BigInteger factor = HUNDRED.add(BigInteger.valueOf(retry.getGasBumpPercent()));
+
+        BigInteger price = base;
+        for (int i = 0; i < attempt && price.compareTo(max) < 0; i++) {
+            price = price.multiply(factor).divide(HUNDRED);
+        }
+        return price.min(max);
+    }
+}
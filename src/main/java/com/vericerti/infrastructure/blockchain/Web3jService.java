@@ -4,41 +4,101 @@ import com.vericerti.infrastructure.config.BlockchainProperties;
 import com.vericerti.infrastructure.exception.BlockchainException;
 import com.vericerti.infrastructure.exception.ErrorCode;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.web3j.crypto.Credentials;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.http.HttpService;
 import org.web3j.tx.gas.DefaultGasProvider;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class Web3jService {
 
+    private static final String NONCE_KEY_PREFIX = "blockchain:nonce:";
+
+    // 다음 nonce를 반환하고 1 증가 (키가 없으면 ARGV[1]로 시작, ARGV[1]도 비어 있으면 -1)
+    private static final RedisScript<Long> ALLOCATE_NONCE = new DefaultRedisScript<>("""
+            local next = redis.call('GET', KEYS[1])
+            if not next then
+              if ARGV[1] == '' then
+                return -1
+              end
+              next = ARGV[1]
+            end
+            redis.call('SET', KEYS[1], tonumber(next) + 1)
+            return tonumber(next)
+            """, Long.class);
+
+    // 앞으로만 이동: 현재 값과 ARGV[1] 중 큰 값으로 SET (다른 인스턴스가 이미 할당한 nonce를 되돌리지 않음)
+    private static final RedisScript<Long> ADVANCE_NONCE = new DefaultRedisScript<>("""
+            local next = math.max(tonumber(redis.call('GET', KEYS[1]) or '0'), tonumber(ARGV[1]))
+            redis.call('SET', KEYS[1], next)
+            return next
+            """, Long.class);
+
     private final BlockchainProperties blockchainProperties;
     private final BlockchainContractService blockchainContractService;
+    private final StringRedisTemplate redisTemplate;
+
+    // DefaultGasProvider는 불변이므로 하나만 생성해 공유
+    private final DefaultGasProvider gasProvider = new DefaultGasProvider();
 
     private Web3j web3j;
     private Credentials credentials;
     private boolean initialized = false;
 
+    // sendAsync 전용: 요청마다 가상 스레드, 동시 요청 수는 rpc.max-concurrent-requests로 제한
+    private ExecutorService rpcExecutor;
+    private Semaphore rpcPermits;
+
+    // 로컬 nonce 할당기: 다음에 사용할 nonce (null이면 노드와 재동기화 필요, 클러스터 모드에서는 Redis 사용)
+    private final Object nonceLock = new Object();
+    private BigInteger nextNonce;
+
     @PostConstruct
     public void init() {
-        String networkUrl = blockchainProperties.getNetworkUrl();
+        List<String> networkUrls = blockchainProperties.getNetworkUrls();
         String privateKey = blockchainProperties.getPrivateKey();
 
-        if (networkUrl == null || networkUrl.isBlank()) {
+        if (networkUrls.isEmpty()) {
             log.warn("Blockchain network URL not configured. Web3j disabled.");
             return;
         }
 
         try {
-            this.web3j = Web3j.build(new HttpService(networkUrl));
-            
+            OkHttpClient httpClient = buildHttpClient();
+            this.web3j = Web3j.build(networkUrls.size() == 1
+                    ? new HttpService(networkUrls.get(0), httpClient)
+                    : new MultiEndpointRpcService(networkUrls, httpClient, blockchainProperties.getRpc()));
+            this.rpcExecutor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("web3j-rpc-", 0).factory());
+            this.rpcPermits = new Semaphore(blockchainProperties.getRpc().getMaxConcurrentRequests());
+
             if (privateKey != null && !privateKey.isBlank()) {
                 this.credentials = Credentials.create(privateKey);
                 log.info("Web3j initialized with account: {}", credentials.getAddress());
@@ -47,12 +107,46 @@ public class Web3jService {
             }
             
             this.initialized = true;
-            log.info("Web3j connected to: {}", networkUrl);
+            log.info("Web3j connected to: {}", networkUrls);
         } catch (Exception e) {
             log.error("Failed to initialize Web3j: {}", e.getMessage());
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        if (rpcExecutor != null) {
+            rpcExecutor.shutdownNow();
+        }
+        if (web3j != null) {
+            web3j.shutdown();
+        }
+    }
+
+    /**
+     * 모든 RPC 요청이 공유하는 HTTP 클라이언트
+     * - 커넥션 풀 + keep-alive로 요청마다 TCP/TLS 연결을 새로 맺지 않음
+     * - HTTPS 노드는 ALPN으로 HTTP/2 협상 (지원하지 않으면 HTTP/1.1)
+     */
+    private OkHttpClient buildHttpClient() {
+        BlockchainProperties.Rpc rpc = blockchainProperties.getRpc();
+        // 비동기 hedge 요청이 dispatcher 기본 상한(호스트당 5)에 막히지 않도록 맞춤
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(rpc.getMaxConcurrentRequests());
+        dispatcher.setMaxRequestsPerHost(rpc.getMaxConcurrentRequests());
+
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(
+                        rpc.getMaxIdleConnections(), rpc.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS))
+                .connectTimeout(rpc.getConnectTimeout())
+                .readTimeout(rpc.getReadTimeout())
+                .writeTimeout(rpc.getReadTimeout())
+                .callTimeout(rpc.getCallTimeout())
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
     public boolean isInitialized() {
         return initialized;
     }
@@ -71,7 +165,133 @@ public class Web3jService {
     }
 
     public DefaultGasProvider getGasProvider() {
-        return new DefaultGasProvider();
+        return gasProvider;
+    }
+
+    /**
+     * 요청을 가상 스레드에서 전송 (블로킹 send()를 스케줄러 스레드 밖에서 동시에 실행)
+     */
+    public <T extends Response<?>> CompletableFuture<T> sendAsync(Request<?, T> request) {
+        return supplyAsync(request::send);
+    }
+
+    public CompletableFuture<BatchResponse> sendAsync(BatchRequest batch) {
+        return supplyAsync(batch::send);
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(RpcCall<T> call) {
+        if (!initialized || web3j == null) {
+            return CompletableFuture.failedFuture(new BlockchainException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED));
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            rpcPermits.acquireUninterruptibly();
+            try {
+                return call.send();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                rpcPermits.release();
+            }
+        }, rpcExecutor);
+    }
+
+    /**
+     * 다음 트랜잭션 nonce를 메모리에서 할당
+     * - 최초 1회(또는 재동기화 요청 후)만 PENDING 기준 nonce를 조회
+     * - 이후에는 RPC 없이 증가시켜 여러 트랜잭션을 동시에 전송 가능
+     * - 클러스터 모드에서는 여러 인스턴스가 같은 키로 서명하므로 서명 주소별 Redis 카운터에서 할당
+     */
+    public BigInteger allocateNonce() {
+        if (isSharedNonce()) {
+            return allocateSharedNonce();
+        }
+        synchronized (nonceLock) {
+            if (nextNonce == null) {
+                nextNonce = fetchPendingNonce();
+            }
+            BigInteger allocated = nextNonce;
+            nextNonce = nextNonce.add(BigInteger.ONE);
+            return allocated;
+        }
+    }
+
+    /**
+     * nonce too low, 충돌 또는 전송 실패 후 PENDING 블록 상태 기준으로 다시 맞춤
+     * - 클러스터 모드에서는 앞으로만 이동 (PENDING nonce는 다른 인스턴스가 방금 할당했지만
+     *   아직 노드에 도착하지 않은 nonce를 모르므로, 그대로 SET하면 같은 nonce를 다시 나눠줌)
+     */
+    public void resyncNonce() {
+        if (isSharedNonce()) {
+            BigInteger pending = fetchPendingNonce();
+            Long next = redisTemplate.execute(ADVANCE_NONCE, List.of(nonceKey()), pending.toString());
+            log.info("Shared nonce resynced: pending={}, next={}", pending, next);
+            return;
+        }
+        resetLocalNonce();
+    }
+
+    /**
+     * nonce too high(공백) 오류로 카운터가 노드보다 앞서 있음이 확인됐을 때만 호출
+     * - 클러스터 모드에서도 PENDING nonce로 되돌림 (공백을 메우지 않으면 이후 트랜잭션이 모두 대기)
+     */
+    public void resetNonce() {
+        if (isSharedNonce()) {
+            BigInteger pending = fetchPendingNonce();
+            redisTemplate.opsForValue().set(nonceKey(), pending.toString());
+            log.warn("Shared nonce reset to {} after nonce gap", pending);
+            return;
+        }
+        resetLocalNonce();
+    }
+
+    private void resetLocalNonce() {
+        synchronized (nonceLock) {
+            BigInteger previous = nextNonce;
+            nextNonce = fetchPendingNonce();
+            log.info("Nonce resynced: {} -> {}", previous, nextNonce);
+        }
+    }
+
+    private boolean isSharedNonce() {
+        return blockchainProperties.getCluster().isEnabled() && redisTemplate != null;
+    }
+
+    /**
+     * 키가 없을 때만 노드의 PENDING nonce를 조회해 시작값으로 넘김 (동시에 시작해도 먼저 SET한 값을 따름)
+     */
+    private BigInteger allocateSharedNonce() {
+        List<String> keys = List.of(nonceKey());
+        Long allocated = redisTemplate.execute(ALLOCATE_NONCE, keys, "");
+        if (allocated == null || allocated < 0) {
+            allocated = redisTemplate.execute(ALLOCATE_NONCE, keys, fetchPendingNonce().toString());
+        }
+        if (allocated == null) {
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED, "Failed to allocate nonce");
+        }
+        return BigInteger.valueOf(allocated);
+    }
+
+    private String nonceKey() {
+        if (credentials == null) {
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
+        }
+        return NONCE_KEY_PREFIX + credentials.getAddress().toLowerCase();
+    }
+
+    /**
+     * 여러 노드를 쓰는 경우 MultiEndpointRpcService가 이 조회를 hedge하지 않고 트랜잭션을 보낼 노드로 보냄
+     */
+    private BigInteger fetchPendingNonce() {
+        if (!initialized || web3j == null || credentials == null) {
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_NOT_INITIALIZED);
+        }
+        try {
+            return web3j.ethGetTransactionCount(credentials.getAddress(), DefaultBlockParameterName.PENDING)
+                    .send()
+                    .getTransactionCount();
+        } catch (Exception e) {
+            throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED, e);
+        }
     }
 
     public BigInteger getBlockNumber() {
@@ -84,4 +304,9 @@ public class Web3jService {
             throw new BlockchainException(ErrorCode.BLOCKCHAIN_TRANSACTION_FAILED, e);
         }
     }
+
+    @FunctionalInterface
+    private interface RpcCall<T> {
+        T send() throws IOException;
+    }
 }
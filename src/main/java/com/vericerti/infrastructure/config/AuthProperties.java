@@ -0,0 +1,43 @@
+package com.vericerti.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 로그인/비밀번호 해싱 보호 설정
+ * application.yml의 auth.* 설정을 매핑
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth")
+public class AuthProperties {
+
+    private PasswordHashing passwordHashing = new PasswordHashing();
+    private LoginThrottle loginThrottle = new LoginThrottle();
+
+    @Getter
+    @Setter
+    public static class PasswordHashing {
+        private int threads = 0;                            // 0이면 CPU 코어 수의 절반 (최소 1)
+        private int queueCapacity = 64;                     // 대기 가능한 해싱 작업 수, 넘치면 429
+        private Duration timeout = Duration.ofSeconds(5);   // 대기 포함 최대 처리 시간, 넘으면 429
+
+        public int resolveThreads() {
+            return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class LoginThrottle {
+        private boolean enabled = true;
+        private Duration window = Duration.ofMinutes(5);    // 시도 횟수 집계 구간
+        private int maxAttemptsPerEmail = 10;               // 구간 내 이메일별 최대 시도
+        private int maxAttemptsPerIp = 100;                 // 구간 내 IP별 최대 시도
+    }
+}
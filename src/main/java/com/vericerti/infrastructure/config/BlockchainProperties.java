@@ -5,12 +5,123 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 @Getter
 @Setter
 @Configuration
 @ConfigurationProperties(prefix = "blockchain.ethereum")
 public class BlockchainProperties {
-    private String networkUrl;
+    private String networkUrl;  // 쉼표로 구분하면 여러 노드 사용 (failover + hedged read)
     private String contractAddress;
+    private Duration contractAddressCacheTtl = Duration.ofSeconds(60);  // Redis 주소 캐시 (변경 알림을 놓쳤을 때의 상한)
+    private Duration contractAddressRetryDelay = Duration.ofSeconds(5); // Redis 조회 실패 후 다시 시도하기까지 대기
     private String privateKey;
+
+    private Rpc rpc = new Rpc();
+    private Batch batch = new Batch();
+    private Verification verification = new Verification();
+    private Indexer indexer = new Indexer();
+    private Confirmation confirmation = new Confirmation();
+    private Outbox outbox = new Outbox();
+    private Cluster cluster = new Cluster();
+    private Retry retry = new Retry();
+
+    /**
+     * network-url(쉼표 구분 문자열)을 노드 URL 목록으로 변환
+     */
+    public List<String> getNetworkUrls() {
+        if (networkUrl == null || networkUrl.isBlank()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(networkUrl.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    @Getter
+    @Setter
+    public static class Rpc {
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private Duration callTimeout = Duration.ofSeconds(60);   // 요청 1건 전체 제한 시간
+        private int maxIdleConnections = 16;                      // 커넥션 풀에 유지할 유휴 커넥션 수
+        private Duration keepAlive = Duration.ofMinutes(5);       // 유휴 커넥션 유지 시간
+        private int maxConcurrentRequests = 32;                   // sendAsync 동시 요청 상한
+        private double hedgePercentile = 0.95;                    // 이 백분위 지연을 넘기면 다음 노드에 hedge 요청
+        private Duration hedgeMinDelay = Duration.ofMillis(50);
+        private Duration hedgeMaxDelay = Duration.ofSeconds(2);   // 지연 표본이 부족할 때도 사용
+        private Duration failureCooldown = Duration.ofSeconds(30); // 실패한 노드를 후순위로 두는 시간
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        private boolean enabled = false;   // true: Merkle 루트 일괄 등록, false: 엔트리별 registerHash
+        private int maxSize = 1000;        // 루트 하나에 묶을 최대 엔트리 수
+        private Duration linger = Duration.ofSeconds(60);  // 루트 하나에 모을 시간 (일괄 등록 시에는 즉시 깨우지 않음)
+    }
+
+    @Getter
+    @Setter
+    public static class Verification {
+        private int pollSize = 500;                        // 한 번에 꺼낼 검증 대상 수
+        private int rpcBatchSize = 200;                    // JSON-RPC batch 1회에 담을 eth_call 수
+        private int pageSize = 2000;                       // 전체 검증 시 keyset 페이지 크기
+        private int updateBatchSize = 100;                 // 상태 변경 1 트랜잭션당 엔트리 수
+    }
+
+    @Getter
+    @Setter
+    public static class Indexer {
+        private boolean enabled = false;    // 이벤트 인덱스 기반 검증 사용 여부
+        private long startBlock = 0;        // 최초 인덱싱 시작 블록 (컨트랙트 배포 블록)
+        private int blockRange = 2000;      // eth_getLogs 1회 조회 블록 수
+        private int maxRangesPerRun = 50;   // 한 번 실행에서 처리할 최대 구간 수
+    }
+
+    @Getter
+    @Setter
+    public static class Confirmation {
+        private int depth = 2;                              // RECORDED로 인정할 최소 블록 확인 수
+        private long pollIntervalMs = 5000;                 // receipt 조회 주기
+        private Duration timeout = Duration.ofMinutes(10);  // receipt가 없을 때 해시 검증으로 넘어가기까지 대기
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+        private int batchSize = 100;                           // 한 번에 claim하는 outbox 행 수
+        private long pollIntervalMs = 5000;                    // 다른 인스턴스가 기록한 행 확인 주기 (같은 인스턴스는 커밋 즉시 깨움)
+        private Duration claimTimeout = Duration.ofMinutes(5); // claim 후 이 시간 안에 끝나지 않으면 다른 인스턴스가 다시 가져감
+        private Duration retryDelay = Duration.ofMinutes(1);   // 제출 실패 시 첫 재시도 간격 (이후 retry 설정으로 지수 증가)
+        private int maxAttempts = 10;                          // 제출 최대 시도 횟수 (초과 시 dead letter, 엔트리는 FAILED)
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        private int maxAttempts = 5;                                    // 검증 실패 시 재제출 포함 최대 시도 횟수 (초과 시 FAILED)
+        private Duration initialDelay = Duration.ofMinutes(1);          // 첫 재시도까지 대기
+        private double multiplier = 2.0;                                // 시도마다 대기 시간 배수
+        private Duration maxDelay = Duration.ofHours(1);                // 대기 시간 상한
+        private double jitter = 0.2;                                    // 대기 시간 ±비율 (동시 재시도 분산)
+        private int gasBumpPercent = 20;                                // 재제출마다 gas price 인상률 (노드 교체 조건 10% 이상)
+        private BigInteger maxGasPrice = BigInteger.valueOf(100_000_000_000L); // gas price 상한 (wei, 기본 100 gwei)
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        private boolean enabled = false;                        // true: 여러 인스턴스가 파티션을 나눠 제출/확인
+        private int partitions = 16;                            // organizationId % partitions 로 제출 작업 분할
+        private Duration leaseTtl = Duration.ofSeconds(15);     // 파티션 lease/멤버 heartbeat 만료 (인스턴스 장애 시 인계까지 걸리는 시간)
+        private long heartbeatIntervalMs = 5000;                // lease 갱신 + 재분배 주기
+        private Duration claimTimeout = Duration.ofMinutes(2);  // 검증 대기 항목 claim 후 다른 인스턴스가 다시 가져가기까지의 시간
+    }
 }
@@ -21,6 +21,7 @@ public class FilterProperties {
 
     private Logging logging = new Logging();
     private IpFilter ipFilter = new IpFilter();
+    private TrustedProxies trustedProxies = new TrustedProxies();
     private SlowExecution slowExecution = new SlowExecution();
 
     @Getter
@@ -52,6 +53,25 @@ public class FilterProperties {
         }
     }
 
+    /**
+     * X-Forwarded-For를 믿어도 되는 리버스 프록시/로드밸런서 주소 (IP 또는 CIDR)
+     */
+    @Getter
+    @Setter
+    public static class TrustedProxies {
+        private String addressesString = "";  // 환경변수용 (쉼표 구분), 비어 있으면 X-Forwarded-For 무시
+
+        public List<String> getAddresses() {
+            if (addressesString == null || addressesString.isBlank()) {
+                return new ArrayList<>();
+            }
+            return Arrays.stream(addressesString.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .toList();
+        }
+    }
+
     @Getter
     @Setter
     public static class SlowExecution {
@@ -21,6 +21,10 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiry;
     private long refreshTokenExpiry;
+    private int verifiedTokenCacheSize = 10_000; // 검증된 access token 캐시 상한 (0이면 캐시 안 함)
+    private long revocationRefreshMs = 5000; // access token 폐기 목록 갱신 주기
+    private int maxSessionsPerMember = 10; // 회원당 동시 refresh token(기기) 수
+    private long rotationGraceMs = 10_000; // 회전된 refresh token을 동시 요청 중복으로 허용하는 시간 (0이면 허용 안 함)
 
     // Cookie settings
     private Cookie cookie = new Cookie();
@@ -39,7 +43,7 @@ public class JwtProperties {
     @Setter
     public static class Cookie {
         private String name = "refreshToken";
-        private String path = "/api/auth/refresh";
+        private String path = "/api/auth"; // refresh, logout 모두 쿠키를 받도록
         private String sameSite = "Strict";
         private boolean secure = true;
         private boolean httpOnly = true;
@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @Getter
 @Setter
@@ -12,10 +15,46 @@ import org.springframework.context.annotation.Configuration;
 public class StorageProperties {
     private String type; // local, s3, ipfs
     private LocalStorage local = new LocalStorage();
+    private Scrub scrub = new Scrub();
+    private Gc gc = new Gc();
 
     @Getter
     @Setter
     public static class LocalStorage {
         private String uploadDir;
+        private boolean contentAddressed = false;  // true: SHA-256 해시 경로(ab/cd/abcd...)에 저장, 같은 내용은 한 번만 저장
+    }
+
+    /**
+     * 저장된 파일 무결성 검사 (디스크의 파일을 다시 해시해서 ledger_entries.data_hash와 비교)
+     */
+    @Getter
+    @Setter
+    public static class Scrub {
+        private boolean enabled = false;
+        private String cron = "0 0 3 * * *";                           // 매일 03시 시작 (중단된 검사는 이어서 진행)
+        private int parallelism = 2;                                    // 동시에 해시하는 파일 수
+        private DataSize bandwidth = DataSize.ofMegabytes(20);          // 초당 읽기 상한 (전체 워커 합산, 0이면 무제한)
+        private DataSize bufferSize = DataSize.ofMegabytes(1);          // 워커별 읽기 버퍼
+        private int pageSize = 500;                                     // 한 번에 조회하는 엔트리 수
+    }
+
+    /**
+     * 고아 파일 정리 (어떤 ledger_entries.file_url도 가리키지 않는 업로드 파일)
+     */
+    @Getter
+    @Setter
+    public static class Gc {
+        private boolean enabled = false;
+        private String cron = "0 30 4 * * *";
+        private Mode mode = Mode.QUARANTINE;
+        private Duration gracePeriod = Duration.ofHours(24);            // 이보다 최근에 수정된 파일은 커밋 전일 수 있어 제외
+        private Duration quarantineRetention = Duration.ofDays(30);     // 격리 후 이 기간이 지나면 삭제
+        private int batchSize = 1000;                                   // DB 조회 1회당 파일 수
+
+        public enum Mode {
+            QUARANTINE,  // .orphans/ 로 이동
+            DELETE
+        }
     }
 }
@@ -28,4 +28,12 @@ public class AuthenticationException extends BusinessException {
     public static AuthenticationException tokenReuseDetected() {
         return new AuthenticationException(ErrorCode.TOKEN_REUSE_DETECTED);
     }
+
+    public static AuthenticationException tooManyLoginAttempts() {
+        return new AuthenticationException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
+    public static AuthenticationException busy() {
+        return new AuthenticationException(ErrorCode.AUTHENTICATION_BUSY);
+    }
 }
@@ -28,6 +28,8 @@ public enum ErrorCode {
     TOKEN_EXPIRED("A003", "Token has expired", HttpStatus.UNAUTHORIZED),
     TOKEN_REUSE_DETECTED("A004", "Token reuse detected", HttpStatus.UNAUTHORIZED),
     ACCESS_DENIED("A005", "Access denied", HttpStatus.FORBIDDEN),
+    TOO_MANY_LOGIN_ATTEMPTS("A006", "Too many login attempts, try again later", HttpStatus.TOO_MANY_REQUESTS),
+    AUTHENTICATION_BUSY("A007", "Authentication is busy, try again later", HttpStatus.TOO_MANY_REQUESTS),
     
     // Organization
     ORGANIZATION_NOT_FOUND("O001", "Organization not found", HttpStatus.NOT_FOUND),
@@ -61,6 +63,7 @@ public enum ErrorCode {
     FILE_STORE_FAILED("ST001", "Failed to store file", HttpStatus.INTERNAL_SERVER_ERROR),
     FILE_LOAD_FAILED("ST002", "Failed to load file", HttpStatus.INTERNAL_SERVER_ERROR),
     STORAGE_INITIALIZATION_FAILED("ST003", "Failed to initialize storage", HttpStatus.INTERNAL_SERVER_ERROR),
+    FILE_NOT_FOUND("ST004", "File not found", HttpStatus.NOT_FOUND),
     
     // Blockchain
     BLOCKCHAIN_NOT_INITIALIZED("BC001", "Blockchain service not initialized", HttpStatus.SERVICE_UNAVAILABLE),
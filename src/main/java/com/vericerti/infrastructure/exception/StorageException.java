@@ -21,6 +21,13 @@ public class StorageException extends BusinessException {
         );
     }
 
+    public static StorageException notFound(String fileUrl) {
+        return new StorageException(
+                ErrorCode.FILE_NOT_FOUND,
+                "File not found: " + fileUrl
+        );
+    }
+
     public static StorageException loadFailed(String fileUrl, Throwable cause) {
         return new StorageException(
                 ErrorCode.FILE_LOAD_FAILED,
@@ -0,0 +1,64 @@
+package com.vericerti.infrastructure.filter;
+
+import com.vericerti.infrastructure.config.FilterProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 요청의 클라이언트 IP 추출
+ * - 직접 연결한 주소(remoteAddr)가 app.trusted-proxies에 있을 때만 X-Forwarded-For를 따름
+ * - X-Forwarded-For는 오른쪽부터 보며 신뢰하는 프록시를 건너뛴 첫 주소를 사용
+ *   (왼쪽 항목은 클라이언트가 임의로 넣을 수 있으므로 그대로 믿지 않음)
+ * - 신뢰 프록시가 없으면(기본값) 항상 remoteAddr
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientIpResolver {
+
+    private final FilterProperties filterProperties;
+
+    private volatile CompiledProxies compiled;
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        IpMatcher trustedProxies = trustedProxies();
+        if (!trustedProxies.matches(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor == null || xForwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = xForwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.matches(hop)) {
+                return hop;
+            }
+        }
+        // 모든 항목이 신뢰 프록시면 가장 앞 항목
+        String first = hops.length > 0 ? hops[0].trim() : "";
+        return first.isEmpty() ? remoteAddr : first;
+    }
+
+    /**
+     * 주소 목록이 바뀌었을 때만 다시 컴파일 (설정 재바인딩 반영)
+     */
+    private IpMatcher trustedProxies() {
+        FilterProperties.TrustedProxies trustedProxies = filterProperties.getTrustedProxies();
+        String source = trustedProxies.getAddressesString();
+        CompiledProxies current = compiled;
+        if (current == null || !Objects.equals(current.source(), source)) {
+            current = new CompiledProxies(source, IpMatcher.compile(trustedProxies.getAddresses()));
+            compiled = current;
+        }
+        return current.matcher();
+    }
+
+    private record CompiledProxies(String source, IpMatcher matcher) {
+    }
+}
@@ -14,14 +14,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.util.List;
+import java.util.Objects;
 
 /**
  * IP 접근 제어 필터
  * - Allowlist 모드: 허용 IP만 통과
  * - Blocklist 모드: 차단 IP만 거부
+ * - 주소 목록(IPv4/IPv6, CIDR)은 IpMatcher로 한 번 컴파일해 두고 요청마다 trie 조회만 수행
  */
 @Slf4j
 @Component
@@ -30,6 +29,9 @@ import java.util.List;
 public class IpAccessFilter extends OncePerRequestFilter {
 
     private final FilterProperties filterProperties;
+    private final ClientIpResolver clientIpResolver;
+
+    private volatile CompiledAddresses compiled;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -43,8 +45,8 @@ public class IpAccessFilter extends OncePerRequestFilter {
             return;
         }
 
-        String clientIp = getClientIp(request);
-        boolean isMatch = isIpInList(clientIp, ipFilter.getAddresses());
+        String clientIp = clientIpResolver.resolve(request);
+        boolean isMatch = matcher(ipFilter).matches(clientIp);
 
         boolean allowed;
         if ("allowlist".equalsIgnoreCase(ipFilter.getMode())) {
@@ -66,63 +68,20 @@ public class IpAccessFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
-
-    private boolean isIpInList(String clientIp, List<String> addresses) {
-        for (String address : addresses) {
-            if (address.contains("/")) {
-                // CIDR 표기법 처리
-                if (isIpInCidr(clientIp, address)) {
-                    return true;
-                }
-            } else {
-                // 단일 IP 비교
-                if (address.equals(clientIp)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     /**
-     * CIDR 표기법으로 IP 범위 체크
-     * 예: 192.168.1.0/24 → 192.168.1.0 ~ 192.168.1.255
+     * 주소 목록이 바뀌었을 때만 다시 컴파일 (설정 재바인딩 반영)
      */
-    private boolean isIpInCidr(String clientIp, String cidr) {
-        try {
-            String[] parts = cidr.split("/");
-            String networkAddress = parts[0];
-            int prefixLength = Integer.parseInt(parts[1]);
-
-            InetAddress clientAddr = InetAddress.getByName(clientIp);
-            InetAddress networkAddr = InetAddress.getByName(networkAddress);
-
-            byte[] clientBytes = clientAddr.getAddress();
-            byte[] networkBytes = networkAddr.getAddress();
-
-            int mask = 0xFFFFFFFF << (32 - prefixLength);
-
-            int clientInt = bytesToInt(clientBytes);
-            int networkInt = bytesToInt(networkBytes);
-
-            return (clientInt & mask) == (networkInt & mask);
-        } catch (UnknownHostException | NumberFormatException e) {
-            log.warn("Invalid CIDR notation: {}", cidr);
-            return false;
+    private IpMatcher matcher(FilterProperties.IpFilter ipFilter) {
+        String source = ipFilter.getAddressesString();
+        CompiledAddresses current = compiled;
+        if (current == null || !Objects.equals(current.source(), source)) {
+            current = new CompiledAddresses(source, IpMatcher.compile(ipFilter.getAddresses()));
+            compiled = current;
+            log.info("IP access list compiled: {} entries (mode: {})", ipFilter.getAddresses().size(), ipFilter.getMode());
         }
+        return current.matcher();
     }
 
-    private int bytesToInt(byte[] bytes) {
-        return ((bytes[0] & 0xFF) << 24) |
-               ((bytes[1] & 0xFF) << 16) |
-               ((bytes[2] & 0xFF) << 8) |
-               (bytes[3] & 0xFF);
+    private record CompiledAddresses(String source, IpMatcher matcher) {
     }
 }
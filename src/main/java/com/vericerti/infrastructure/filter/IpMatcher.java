@@ -0,0 +1,374 @@
+package com.vericerti.infrastructure.filter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * IP/CIDR 목록을 미리 컴파일한 매처 (IPv4, IPv6 각각 binary radix trie)
+ * - 목록 항목은 단일 IP 또는 CIDR (예: 10.0.0.0/8, 2001:db8::/32, ::1)
+ * - IPv4-mapped IPv6(::ffff:a.b.c.d)는 IPv4로 취급
+ * - 조회는 주소 문자열을 직접 파싱해 trie를 따라가므로 요청마다 할당 없음
+ * - 불변 객체라 스레드 간 공유 가능
+ */
+@Slf4j
+public final class IpMatcher {
+
+    private static final int IPV4_BITS = 32;
+    private static final int IPV6_BITS = 128;
+
+    // 파싱 결과 {비트 수(32 또는 128, 실패 시 0), 상위 64비트, 하위 64비트}
+    private static final ThreadLocal<long[]> SCRATCH = ThreadLocal.withInitial(() -> new long[3]);
+
+    private final Trie ipv4;
+    private final Trie ipv6;
+
+    private IpMatcher(Trie ipv4, Trie ipv6) {
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+    }
+
+    /**
+     * 잘못된 항목은 경고 로그 후 건너뜀
+     */
+    public static IpMatcher compile(List<String> addresses) {
+        Trie ipv4 = new Trie();
+        Trie ipv6 = new Trie();
+        long[] parsed = new long[3];
+
+        for (String address : addresses) {
+            int slash = address.indexOf('/');
+            int end = slash < 0 ? address.length() : slash;
+            if (!parse(address, 0, end, parsed, false)) {
+                log.warn("Invalid IP address in access list: {}", address);
+                continue;
+            }
+            int bits = (int) parsed[0];
+            int prefixLength = bits;
+            if (slash >= 0) {
+                try {
+                    prefixLength = Integer.parseInt(address.substring(slash + 1).trim());
+                } catch (NumberFormatException e) {
+                    prefixLength = -1;
+                }
+                if (prefixLength < 0 || prefixLength > bits) {
+                    log.warn("Invalid CIDR notation: {}", address);
+                    continue;
+                }
+            }
+
+            if (bits == IPV6_BITS && prefixLength >= 96 && isIpv4Mapped(parsed[1], parsed[2])) {
+                ipv4.insert(0, parsed[2] & 0xFFFFFFFFL, IPV4_BITS, prefixLength - 96);
+            } else if (bits == IPV4_BITS) {
+                ipv4.insert(0, parsed[2], IPV4_BITS, prefixLength);
+            } else {
+                ipv6.insert(parsed[1], parsed[2], IPV6_BITS, prefixLength);
+            }
+        }
+        return new IpMatcher(ipv4, ipv6);
+    }
+
+    /**
+     * 주소가 목록의 어느 항목에든 포함되면 true (파싱할 수 없는 주소는 false)
+     */
+    public boolean matches(CharSequence ip) {
+        if (ip == null) {
+            return false;
+        }
+        long[] parsed = SCRATCH.get();
+        if (!parse(ip, 0, ip.length(), parsed, true)) {
+            return false;
+        }
+        return parsed[0] == IPV4_BITS
+                ? ipv4.contains(0, parsed[2], IPV4_BITS)
+                : ipv6.contains(parsed[1], parsed[2], IPV6_BITS);
+    }
+
+    private static boolean isIpv4Mapped(long hi, long lo) {
+        return hi == 0 && (lo >>> 32) == 0xFFFFL;
+    }
+
+    /**
+     * ip[from, to)를 파싱해 out에 기록
+     * - 앞뒤 공백, IPv6 대괄호([::1]), zone id(fe80::1%eth0) 허용
+     *
+     * @param unmapIpv4 IPv4-mapped IPv6를 IPv4로 바꿔 기록할지 여부
+     */
+    static boolean parse(CharSequence ip, int from, int to, long[] out, boolean unmapIpv4) {
+        while (from < to && ip.charAt(from) == ' ') {
+            from++;
+        }
+        while (to > from && ip.charAt(to - 1) == ' ') {
+            to--;
+        }
+        if (to - from >= 2 && ip.charAt(from) == '[' && ip.charAt(to - 1) == ']') {
+            from++;
+            to--;
+        }
+        if (from >= to) {
+            return false;
+        }
+
+        boolean hasColon = false;
+        for (int i = from; i < to; i++) {
+            char c = ip.charAt(i);
+            if (c == ':') {
+                hasColon = true;
+            } else if (c == '%') {
+                to = i;
+                break;
+            }
+        }
+
+        if (!hasColon) {
+            long ipv4 = parseIpv4(ip, from, to);
+            if (ipv4 < 0) {
+                return false;
+            }
+            out[0] = IPV4_BITS;
+            out[1] = 0;
+            out[2] = ipv4;
+            return true;
+        }
+        if (!parseIpv6(ip, from, to, out)) {
+            return false;
+        }
+        if (unmapIpv4 && isIpv4Mapped(out[1], out[2])) {
+            out[0] = IPV4_BITS;
+            out[2] &= 0xFFFFFFFFL;
+        }
+        return true;
+    }
+
+    /**
+     * @return 32비트 주소, 형식이 틀리면 -1
+     */
+    private static long parseIpv4(CharSequence ip, int from, int to) {
+        long value = 0;
+        int octets = 0;
+        int octet = -1;
+        for (int i = from; i <= to; i++) {
+            char c = i < to ? ip.charAt(i) : '.';
+            if (c == '.') {
+                if (octet < 0 || ++octets > 4) {
+                    return -1;
+                }
+                value = (value << 8) | octet;
+                octet = -1;
+            } else if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        }
+        return octets == 4 ? value : -1;
+    }
+
+    /**
+     * '::' 앞 그룹(head)과 뒤 그룹(tail)을 각각 128비트로 누적한 뒤 합침
+     * - 마지막 그룹 자리에 IPv4 표기(::ffff:1.2.3.4)가 오면 그룹 2개로 취급
+     */
+    private static boolean parseIpv6(CharSequence ip, int from, int to, long[] out) {
+        int lastColon = -1;
+        for (int i = to - 1; i >= from; i--) {
+            if (ip.charAt(i) == ':') {
+                lastColon = i;
+                break;
+            }
+        }
+        boolean hasDot = false;
+        for (int i = lastColon + 1; i < to; i++) {
+            if (ip.charAt(i) == '.') {
+                hasDot = true;
+                break;
+            }
+        }
+        int hexEnd = hasDot ? lastColon + 1 : to;
+
+        long headHi = 0, headLo = 0, tailHi = 0, tailLo = 0;
+        int headCount = 0, tailCount = 0;
+        boolean compressed = false;
+        int group = 0;
+        int digits = 0;
+
+        int i = from;
+        if (to - from >= 2 && ip.charAt(from) == ':' && ip.charAt(from + 1) == ':') {
+            compressed = true;
+            i = from + 2;
+        } else if (ip.charAt(from) == ':') {
+            return false;
+        }
+
+        for (; i < hexEnd; i++) {
+            char c = ip.charAt(i);
+            if (c == ':') {
+                if (digits == 0) {
+                    // '::'는 한 번만, 그룹 사이 빈 칸은 그 경우에만 허용
+                    if (compressed || i == from) {
+                        return false;
+                    }
+                    compressed = true;
+                    continue;
+                }
+                if (compressed) {
+                    tailHi = (tailHi << 16) | (tailLo >>> 48);
+                    tailLo = (tailLo << 16) | group;
+                    tailCount++;
+                } else {
+                    headHi = (headHi << 16) | (headLo >>> 48);
+                    headLo = (headLo << 16) | group;
+                    headCount++;
+                }
+                group = 0;
+                digits = 0;
+                if (i == hexEnd - 1 && !hasDot) {
+                    // 끝이 ':' 하나로 끝나는 주소 (예: 1::2:)
+                    return false;
+                }
+                continue;
+            }
+            int hex = hexValue(c);
+            if (hex < 0 || ++digits > 4) {
+                return false;
+            }
+            group = (group << 4) | hex;
+        }
+
+        if (hasDot) {
+            if (digits != 0) {
+                return false;
+            }
+            long ipv4 = parseIpv4(ip, lastColon + 1, to);
+            if (ipv4 < 0) {
+                return false;
+            }
+            if (compressed) {
+                tailHi = (tailHi << 32) | (tailLo >>> 32);
+                tailLo = (tailLo << 32) | ipv4;
+                tailCount += 2;
+            } else {
+                headHi = (headHi << 32) | (headLo >>> 32);
+                headLo = (headLo << 32) | ipv4;
+                headCount += 2;
+            }
+        } else if (digits > 0) {
+            if (compressed) {
+                tailHi = (tailHi << 16) | (tailLo >>> 48);
+                tailLo = (tailLo << 16) | group;
+                tailCount++;
+            } else {
+                headHi = (headHi << 16) | (headLo >>> 48);
+                headLo = (headLo << 16) | group;
+                headCount++;
+            }
+        }
+
+        if (!compressed) {
+            if (headCount != 8) {
+                return false;
+            }
+            out[1] = headHi;
+            out[2] = headLo;
+        } else {
+            if (headCount + tailCount > 7) {
+                return false;
+            }
+            // head를 '::'로 생략된 그룹 수만큼 왼쪽으로 밀고 tail과 합침 (head는 최대 7그룹이라 shift >= 16)
+            int shift = 16 * (8 - headCount);
+            long hi;
+            long lo;
+            if (shift >= 64) {
+                hi = shift == 128 ? 0 : headLo << (shift - 64);
+                lo = 0;
+            } else {
+                hi = (headHi << shift) | (headLo >>> (64 - shift));
+                lo = headLo << shift;
+            }
+            out[1] = hi | tailHi;
+            out[2] = lo | tailLo;
+        }
+        out[0] = IPV6_BITS;
+        return true;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * 배열 기반 binary trie
+     * - 노드 0이 루트, children[2 * node + bit] == 0이면 자식 없음 (루트는 누구의 자식도 아님)
+     * - terminal 노드까지 내려오면 그 접두사(CIDR)에 포함
+     */
+    private static final class Trie {
+
+        private int[] children = new int[64];
+        private boolean[] terminal = new boolean[32];
+        private int size = 1;
+
+        void insert(long hi, long lo, int bits, int prefixLength) {
+            int node = 0;
+            for (int i = 0; i < prefixLength; i++) {
+                if (terminal[node]) {
+                    // 더 넓은 범위가 이미 있음
+                    return;
+                }
+                int slot = 2 * node + bit(hi, lo, bits, i);
+                if (children[slot] == 0) {
+                    // newNode()가 배열을 키울 수 있으므로 먼저 호출
+                    int child = newNode();
+                    children[slot] = child;
+                }
+                node = children[slot];
+            }
+            terminal[node] = true;
+        }
+
+        boolean contains(long hi, long lo, int bits) {
+            int node = 0;
+            for (int i = 0; i < bits; i++) {
+                if (terminal[node]) {
+                    return true;
+                }
+                node = children[2 * node + bit(hi, lo, bits, i)];
+                if (node == 0) {
+                    return false;
+                }
+            }
+            return terminal[node];
+        }
+
+        private int newNode() {
+            if (size == terminal.length) {
+                terminal = Arrays.copyOf(terminal, size * 2);
+                children = Arrays.copyOf(children, size * 4);
+            }
+            return size++;
+        }
+
+        /**
+         * 최상위 비트부터 i번째 비트 (IPv4는 lo의 하위 32비트, IPv6는 hi → lo 순)
+         */
+        private static int bit(long hi, long lo, int bits, int i) {
+            if (bits == IPV4_BITS) {
+                return (int) (lo >>> (31 - i)) & 1;
+            }
+            return i < 64
+                    ? (int) (hi >>> (63 - i)) & 1
+                    : (int) (lo >>> (127 - i)) & 1;
+        }
+    }
+}
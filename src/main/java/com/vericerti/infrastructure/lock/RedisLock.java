@@ -0,0 +1,100 @@
+package com.vericerti.infrastructure.lock;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스 중 하나만 실행하는 백그라운드 작업용 Redis 락
+ * - SET NX PX로 획득, 값은 이 실행의 owner (UUID)
+ * - 연장/해제는 Lua 스크립트로 owner를 확인하고 처리 → TTL이 지나 다른 인스턴스가 가져간 락을 연장하거나 지우지 않음
+ * - 작업 중에는 renewIfDue()를 자주 호출 (TTL의 1/3이 지났을 때만 실제로 연장)
+ */
+public final class RedisLock {
+
+    // 내 것일 때만 연장
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 내 것일 때만 해제
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final String owner;
+    private final Duration ttl;
+    private volatile long renewedAt;
+
+    private RedisLock(StringRedisTemplate redisTemplate, String key, String owner, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.owner = owner;
+        this.ttl = ttl;
+        this.renewedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * @return 다른 실행이 락을 갖고 있으면 empty
+     */
+    public static Optional<RedisLock> tryAcquire(StringRedisTemplate redisTemplate, String key, Duration ttl) {
+        String owner = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl))) {
+            return Optional.empty();
+        }
+        return Optional.of(new RedisLock(redisTemplate, key, owner, ttl));
+    }
+
+    /**
+     * TTL만큼 다시 연장
+     *
+     * @throws LockLostException TTL이 지나 락이 만료됐거나 다른 실행이 가져감
+     */
+    public void renew() {
+        Long renewed = redisTemplate.execute(RENEW, List.of(key), owner, Long.toString(ttl.toMillis()));
+        if (renewed == null || renewed == 0) {
+            throw new LockLostException(key);
+        }
+        renewedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 마지막 연장 후 TTL의 1/3이 지났으면 연장
+     */
+    public void renewIfDue() {
+        if (System.currentTimeMillis() - renewedAt >= renewInterval().toMillis()) {
+            renew();
+        }
+    }
+
+    public Duration renewInterval() {
+        return ttl.dividedBy(3);
+    }
+
+    /**
+     * 내 것일 때만 해제 (이미 만료되어 다른 실행이 가져간 락은 그대로 둠)
+     */
+    public void release() {
+        redisTemplate.execute(RELEASE, List.of(key), owner);
+    }
+
+    public static class LockLostException extends RuntimeException {
+
+        public LockLostException(String key) {
+            super("Lock lost: " + key);
+        }
+    }
+}
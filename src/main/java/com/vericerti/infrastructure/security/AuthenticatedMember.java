@@ -0,0 +1,28 @@
+package com.vericerti.infrastructure.security;
+
+import com.vericerti.domain.member.entity.MemberRole;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * access token claim으로 만든 인증 주체 (회원 조회 없이 생성)
+ * - 컨트롤러에서 @AuthenticationPrincipal AuthenticatedMember로 주입
+ */
+public record AuthenticatedMember(Long memberId, String email, MemberRole role) implements AuthenticatedPrincipal {
+
+    static AuthenticatedMember from(JwtTokenProvider.VerifiedToken token) {
+        return new AuthenticatedMember(token.memberId(), token.email(), token.role());
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
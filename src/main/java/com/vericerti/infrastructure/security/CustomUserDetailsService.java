@@ -30,16 +30,5 @@ public class CustomUserDetailsService implements UserDetailsService {
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()))
         );
     }
-
-    public UserDetails loadUserById(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + memberId));
-
-        return new User(
-                member.getEmailValue().orElseThrow(),
-                member.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + member.getRole().name()))
-        );
-    }
 }
 
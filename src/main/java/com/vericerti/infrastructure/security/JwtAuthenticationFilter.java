@@ -7,20 +7,20 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -29,16 +29,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            String tokenType = jwtTokenProvider.getTokenType(token);
+        if (StringUtils.hasText(token)) {
+            // Access Token만 인증에 사용 (검증/파싱 한 번, 최근 검증한 토큰은 캐시)
+            // 인증 주체는 토큰 claim으로 구성, 정지/역할 변경/로그아웃은 폐기 목록으로 반영
+            Optional<JwtTokenProvider.VerifiedToken> verified = jwtTokenProvider.parseAccessToken(token)
+                    .filter(parsed -> !tokenRevocationList.isRevoked(parsed));
 
-            // Access Token만 인증에 사용
-            if ("access".equals(tokenType)) {
-                Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
-                UserDetails userDetails = userDetailsService.loadUserById(memberId);
+            if (verified.isPresent()) {
+                AuthenticatedMember principal = AuthenticatedMember.from(verified.get());
 
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -49,9 +50,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+        return resolveBearerToken(request.getHeader("Authorization"));
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰 추출 (없으면 null)
+     */
+    public static String resolveBearerToken(String authorizationHeader) {
+        if (StringUtils.hasText(authorizationHeader) && authorizationHeader.startsWith("Bearer ")) {
+            return authorizationHeader.substring(7);
         }
         return null;
     }
@@ -1,18 +1,26 @@
 package com.vericerti.infrastructure.security;
 
+import com.vericerti.domain.member.entity.MemberRole;
 import com.vericerti.infrastructure.config.JwtProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JWT Token Provider for creating and validating JWT tokens.
+ * - 서명 키와 parser는 시작 시 한 번만 생성 (둘 다 불변이라 스레드 간 공유)
+ * - 토큰은 parse()로 한 번만 검증/파싱하고, 검증된 access token은 만료 전까지 캐시
+ * - access token에 회원 ID/이메일/역할을 담아 요청마다 회원 조회 없이 인증
  */
 @Component
 @RequiredArgsConstructor
@@ -25,24 +33,40 @@ public class JwtTokenProvider {
     // Claim name constants
     private static final String CLAIM_EMAIL = "email";
     private static final String CLAIM_TYPE = "type";
+    private static final String CLAIM_ROLE = "role";
+    // 표준 iat는 초 단위라 폐기 시각과 같은 초에 발급된 토큰을 구분하지 못함 → ms 단위 발급 시각을 따로 기록
+    private static final String CLAIM_ISSUED_AT_MS = "iat_ms";
 
     private final JwtProperties jwtProperties;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    // 토큰 SHA-256 → 검증 결과 (원문 토큰은 메모리에 두지 않음)
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
-    public String createAccessToken(Long memberId, String email) {
+    public String createAccessToken(Long memberId, String email, MemberRole role) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtProperties.getAccessTokenExpiry());
 
         return Jwts.builder()
                 .subject(String.valueOf(memberId))
                 .claim(CLAIM_EMAIL, email)
+                .claim(CLAIM_ROLE, role.name())
                 .claim(CLAIM_TYPE, TOKEN_TYPE_ACCESS)
+                .claim(CLAIM_ISSUED_AT_MS, now.getTime())
+                .id(UUID.randomUUID().toString())  // 같은 ms에 발급해도 기기마다 다른 토큰 (토큰 단위 폐기)
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -56,37 +80,76 @@ public class JwtTokenProvider {
                 .id(UUID.randomUUID().toString())  // Unique token ID (different even in same second)
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명/만료 검증과 claim 추출을 한 번의 파싱으로 처리
+     *
+     * @return 유효하지 않은 토큰이면 empty
+     */
+    public Optional<VerifiedToken> parse(String token) {
+        return parse(token, TokenHashes.sha256Hex(token));
+    }
+
+    private Optional<VerifiedToken> parse(String token, String tokenHash) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            String role = claims.get(CLAIM_ROLE, String.class);
+            Long issuedAtMs = claims.get(CLAIM_ISSUED_AT_MS, Long.class);
+            return Optional.of(new VerifiedToken(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get(CLAIM_TYPE, String.class),
+                    claims.get(CLAIM_EMAIL, String.class),
+                    role == null ? null : MemberRole.valueOf(role),
+                    issuedAtMs != null ? issuedAtMs
+                            : claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime(),
+                    claims.getExpiration().getTime(),
+                    tokenHash
+            ));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 인증 필터용 access token 검증
+     * - 최근 검증한 토큰은 만료 전까지 캐시에서 바로 반환
+     * - refresh token 등 access가 아닌 토큰, 역할 claim이 없는 토큰은 empty (캐시하지 않음)
+     */
+    public Optional<VerifiedToken> parseAccessToken(String token) {
+        String key = TokenHashes.sha256Hex(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.remove(key);
         }
+
+        Optional<VerifiedToken> verified = parse(token, key)
+                .filter(parsed -> parsed.isAccessToken() && parsed.role() != null);
+        verified.ifPresent(accessToken -> cache(key, accessToken, now));
+        return verified;
+    }
+
+    public boolean validateToken(String token) {
+        return parse(token).isPresent();
     }
 
     public Long getMemberIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
         return Long.parseLong(claims.getSubject());
     }
 
     public String getTokenType(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
         return claims.get(CLAIM_TYPE, String.class);
     }
     
@@ -103,4 +166,41 @@ public class JwtTokenProvider {
     public boolean isRefreshToken(String token) {
         return TOKEN_TYPE_REFRESH.equals(getTokenType(token));
     }
+
+    /**
+     * 캐시 크기 상한 유지: 가득 차면 만료된 항목부터 정리하고, 그래도 가득 차면 비움
+     */
+    private void cache(String key, VerifiedToken token, long now) {
+        int maxSize = jwtProperties.getVerifiedTokenCacheSize();
+        if (maxSize <= 0) {
+            return;
+        }
+        if (verifiedTokens.size() >= maxSize) {
+            verifiedTokens.values().removeIf(cached -> cached.expiresAt() <= now);
+            if (verifiedTokens.size() >= maxSize) {
+                verifiedTokens.clear();
+            }
+        }
+        verifiedTokens.put(key, token);
+    }
+
+    /**
+     * 검증을 통과한 토큰의 claim
+     *
+     * @param role      access token에만 있음 (refresh token은 null)
+     * @param issuedAt  발급 시각 (epoch ms, iat_ms claim이 없는 토큰은 초 단위로 절삭됨)
+     * @param expiresAt 만료 시각 (epoch ms)
+     * @param tokenHash 토큰 원문의 SHA-256 (토큰 단위 폐기용, 원문은 보관하지 않음)
+     */
+    public record VerifiedToken(Long memberId, String type, String email, MemberRole role,
+                                long issuedAt, long expiresAt, String tokenHash) {
+
+        public boolean isAccessToken() {
+            return TOKEN_TYPE_ACCESS.equals(type);
+        }
+
+        public boolean isRefreshToken() {
+            return TOKEN_TYPE_REFRESH.equals(type);
+        }
+    }
 }
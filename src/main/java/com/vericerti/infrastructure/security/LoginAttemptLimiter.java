@@ -0,0 +1,92 @@
+package com.vericerti.infrastructure.security;
+
+import com.vericerti.infrastructure.config.AuthProperties;
+import com.vericerti.infrastructure.exception.AuthenticationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그인 시도 횟수 제한 (이메일별, IP별 Redis 카운터)
+ * - 비밀번호 검증 전에 시도를 먼저 집계하고, 구간(window) 내 한도를 넘으면 429
+ * - 로그인 성공 시 해당 이메일 카운터만 초기화 (IP 카운터는 구간 만료까지 유지)
+ * - Redis 장애 시에는 제한 없이 통과
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginAttemptLimiter {
+
+    private static final String EMAIL_KEY_PREFIX = "auth:login:email:";
+    private static final String IP_KEY_PREFIX = "auth:login:ip:";
+
+    // 키마다 INCR, 처음 생성된 키에만 만료 설정 → 각 키의 시도 횟수 반환
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<Long>> INCREMENT = new DefaultRedisScript<>("""
+            local counts = {}
+            for i, key in ipairs(KEYS) do
+              local count = redis.call('INCR', key)
+              if count == 1 then
+                redis.call('PEXPIRE', key, ARGV[1])
+              end
+              counts[i] = count
+            end
+            return counts
+            """, (Class<List<Long>>) (Class) List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuthProperties authProperties;
+
+    /**
+     * 시도 1회 집계, 한도를 넘었으면 예외
+     *
+     * @param clientIp null이면 이메일 카운터만 집계
+     */
+    public void acquire(String email, String clientIp) {
+        AuthProperties.LoginThrottle throttle = authProperties.getLoginThrottle();
+        if (!throttle.isEnabled()) {
+            return;
+        }
+
+        List<String> keys = clientIp == null
+                ? List.of(emailKey(email))
+                : List.of(emailKey(email), IP_KEY_PREFIX + clientIp);
+
+        List<Long> counts;
+        try {
+            counts = redisTemplate.execute(INCREMENT, keys, Long.toString(throttle.getWindow().toMillis()));
+        } catch (Exception e) {
+            log.warn("event=login_throttle_unavailable error={}", e.getMessage());
+            return;
+        }
+        if (counts == null || counts.isEmpty()) {
+            return;
+        }
+
+        long emailAttempts = counts.get(0);
+        long ipAttempts = counts.size() > 1 ? counts.get(1) : 0;
+        if (emailAttempts > throttle.getMaxAttemptsPerEmail() || ipAttempts > throttle.getMaxAttemptsPerIp()) {
+            log.warn("event=login_throttled email={} ip={} emailAttempts={} ipAttempts={}",
+                    email, clientIp, emailAttempts, ipAttempts);
+            throw AuthenticationException.tooManyLoginAttempts();
+        }
+    }
+
+    public void reset(String email) {
+        try {
+            redisTemplate.delete(emailKey(email));
+        } catch (Exception e) {
+            log.warn("event=login_throttle_reset_failed error={}", e.getMessage());
+        }
+    }
+
+    private static String emailKey(String email) {
+        return EMAIL_KEY_PREFIX + email.trim().toLowerCase(Locale.ROOT);
+    }
+}
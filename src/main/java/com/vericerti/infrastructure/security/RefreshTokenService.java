@@ -1,17 +1,22 @@
 package com.vericerti.infrastructure.security;
 
 import com.vericerti.infrastructure.config.JwtProperties;
-import com.vericerti.infrastructure.exception.BusinessException;
-import com.vericerti.infrastructure.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.time.Duration;
-import java.util.HexFormat;
+import java.util.List;
 
+/**
+ * Refresh Token 저장/회전 (RTR)
+ * - 회원마다 Redis hash 하나: field = 토큰 SHA-256, value = 만료 시각(epoch ms) → 기기별 세션 공존
+ * - 비교와 회전은 Lua 스크립트 한 번으로 원자적으로 처리 (왕복 1회, GET/SET 사이 경합 없음)
+ * - 저장된 적 없거나 이미 회전된 토큰이 오면 재사용으로 보고 그 회원의 세션 전체 폐기
+ * - 단, 회전 직후 rotation-grace-ms 동안은 같은 토큰의 동시 요청(탭 여러 개, 재전송)을 중복으로 보고 허용
+ *   (회전된 토큰 → 후속 토큰 매핑을 짧게 남겨 두고, 후속 토큰이 아직 살아 있을 때만 인정)
+ */
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
@@ -20,45 +25,95 @@ public class RefreshTokenService {
     private final JwtProperties jwtProperties;
 
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private static final String ROTATED_SUFFIX = ":rotated:";
+
+    // 이전 형식(회원당 문자열 하나)은 hash로 옮긴 뒤 처리
+    private static final String MIGRATE_LEGACY = """
+            if redis.call('TYPE', KEYS[1]).ok == 'string' then
+              local legacy = redis.call('GET', KEYS[1])
+              redis.call('DEL', KEYS[1])
+              redis.call('HSET', KEYS[1], legacy, ARGV[1])
+            end
+            """;
+
+    // ARGV: [1] 만료 시각, [2] 현재 시각, [3] TTL(ms), [4] 새 토큰 해시, [5] 회원당 최대 세션 수
+    // 만료된 세션 정리 후, 최대 세션 수를 넘으면 가장 먼저 만료될 세션부터 제거
+    private static final RedisScript<Long> SAVE = new DefaultRedisScript<>(MIGRATE_LEGACY + """
+            local now = tonumber(ARGV[2])
+            local max = tonumber(ARGV[5])
+            local entries = redis.call('HGETALL', KEYS[1])
+            local live = {}
+            for i = 1, #entries, 2 do
+              local expiresAt = tonumber(entries[i + 1])
+              if expiresAt <= now then
+                redis.call('HDEL', KEYS[1], entries[i])
+              else
+                table.insert(live, {entries[i], expiresAt})
+              end
+            end
+            if #live >= max then
+              table.sort(live, function(a, b) return a[2] < b[2] end)
+              for i = 1, #live - max + 1 do
+                redis.call('HDEL', KEYS[1], live[i][1])
+              end
+            end
+            redis.call('HSET', KEYS[1], ARGV[4], ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: [1] 회원 세션 hash, [2] 이전 토큰의 회전 기록
+    // ARGV: [1] 만료 시각, [2] 이전 토큰 해시, [3] TTL(ms), [4] 새 토큰 해시, [5] 회전 유예 시간(ms)
+    // 이전 토큰이 있으면 새 토큰으로 교체하고 회전 기록을 남김(1)
+    // 없으면 유예 시간 안의 중복 요청인지 확인 → 후속 토큰이 살아 있으면 새 토큰만 추가(1), 아니면 재사용으로 보고 세션 전체 폐기(0)
+    private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>(MIGRATE_LEGACY + """
+            if redis.call('HDEL', KEYS[1], ARGV[2]) == 0 then
+              local successor = redis.call('GET', KEYS[2])
+              if successor and redis.call('HEXISTS', KEYS[1], successor) == 1 then
+                redis.call('HSET', KEYS[1], ARGV[4], ARGV[1])
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+                return 1
+              end
+              redis.call('DEL', KEYS[1])
+              return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[4], ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            if tonumber(ARGV[5]) > 0 then
+              redis.call('SET', KEYS[2], ARGV[4], 'PX', ARGV[5])
+            end
+            return 1
+            """, Long.class);
 
     public void saveRefreshToken(Long memberId, String refreshToken) {
-        String key = REFRESH_TOKEN_PREFIX + memberId;
-        String tokenHash = hashToken(refreshToken);
         long ttlMs = jwtProperties.getRefreshTokenExpiry();
-        redisTemplate.opsForValue().set(key, tokenHash, Duration.ofMillis(ttlMs));
+        long now = System.currentTimeMillis();
+        redisTemplate.execute(SAVE, List.of(REFRESH_TOKEN_PREFIX + memberId),
+                Long.toString(now + ttlMs),
+                Long.toString(now),
+                Long.toString(ttlMs),
+                TokenHashes.sha256Hex(refreshToken),
+                Integer.toString(Math.max(1, jwtProperties.getMaxSessionsPerMember())));
     }
 
     public boolean validateAndRotate(Long memberId, String oldToken, String newToken) {
-        String key = REFRESH_TOKEN_PREFIX + memberId;
-        String storedHash = redisTemplate.opsForValue().get(key);
-        String oldHash = hashToken(oldToken);
-
-        // Reuse Detection: Reject if token already invalidated or doesn't match
-        if (storedHash == null || !storedHash.equals(oldHash)) {
-            // Invalidate entire session (security measure)
-            redisTemplate.delete(key);
-            return false;
-        }
-
-        // Rotation: Replace with new token
-        String newHash = hashToken(newToken);
         long ttlMs = jwtProperties.getRefreshTokenExpiry();
-        redisTemplate.opsForValue().set(key, newHash, Duration.ofMillis(ttlMs));
-        return true;
+        String oldHash = TokenHashes.sha256Hex(oldToken);
+        Long rotated = redisTemplate.execute(ROTATE,
+                List.of(REFRESH_TOKEN_PREFIX + memberId, REFRESH_TOKEN_PREFIX + memberId + ROTATED_SUFFIX + oldHash),
+                Long.toString(System.currentTimeMillis() + ttlMs),
+                oldHash,
+                Long.toString(ttlMs),
+                TokenHashes.sha256Hex(newToken),
+                Long.toString(Math.max(0, jwtProperties.getRotationGraceMs())));
+        return Long.valueOf(1).equals(rotated);
     }
 
-    public void deleteRefreshToken(Long memberId) {
+    /**
+     * 제시된 토큰의 기기 세션만 삭제 (다른 기기 세션은 유지)
+     */
+    public void deleteRefreshToken(Long memberId, String refreshToken) {
         String key = REFRESH_TOKEN_PREFIX + memberId;
-        redisTemplate.delete(key);
-    }
-
-    private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes());
-            return HexFormat.of().formatHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new BusinessException(ErrorCode.CRYPTO_ALGORITHM_NOT_AVAILABLE, e);
-        }
+        redisTemplate.opsForHash().delete(key, TokenHashes.sha256Hex(refreshToken));
     }
 }
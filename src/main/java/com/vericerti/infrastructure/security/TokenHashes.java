@@ -0,0 +1,31 @@
+package com.vericerti.infrastructure.security;
+
+import com.vericerti.infrastructure.exception.BusinessException;
+import com.vericerti.infrastructure.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 SHA-256 해시 (스레드별 MessageDigest 재사용)
+ */
+final class TokenHashes {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BusinessException(ErrorCode.CRYPTO_ALGORITHM_NOT_AVAILABLE, e);
+        }
+    });
+
+    private TokenHashes() {
+    }
+
+    static String sha256Hex(String token) {
+        // digest()는 호출 후 상태를 초기화하므로 그대로 재사용 가능
+        return HexFormat.of().formatHex(SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,127 @@
+package com.vericerti.infrastructure.security;
+
+import com.vericerti.domain.member.event.MemberAccessChangedEvent;
+import com.vericerti.infrastructure.config.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * access token 폐기 목록
+ * - 회원 정지/탈퇴, 역할 변경: Redis ZSET(memberId → 폐기 시각)에 기록, 폐기 시각 이전에 발급된 access token은 모두 거부
+ * - 로그아웃: 제시한 토큰만 Redis ZSET(토큰 SHA-256 → 토큰 만료 시각)에 기록 → 다른 기기의 토큰과 재로그인 토큰은 그대로 사용
+ * - 회원 항목은 access token 만료 시간이 지나면, 토큰 항목은 해당 토큰이 만료되면 정리
+ * - 인증 필터는 주기적으로 갱신하는 인스턴스 로컬 스냅샷만 조회 (요청마다 Redis 조회 없음)
+ * - 다른 인스턴스에서 폐기한 토큰은 revocation-refresh-ms 안에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList {
+
+    private static final String REVOKED_KEY = "auth:revoked";
+    private static final String REVOKED_TOKENS_KEY = "auth:revoked:tokens";
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtProperties jwtProperties;
+
+    private volatile Map<Long, Long> revokedAt = Map.of();
+    // 토큰 SHA-256 → 토큰 만료 시각
+    private volatile Map<String, Long> revokedTokens = Map.of();
+
+    /**
+     * 회원이 지금까지 발급받은 access token 전부 폐기
+     */
+    public void revoke(Long memberId) {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(REVOKED_KEY, memberId.toString(), now);
+
+        synchronized (this) {
+            Map<Long, Long> updated = new HashMap<>(revokedAt);
+            updated.merge(memberId, now, Math::max);
+            revokedAt = Map.copyOf(updated);
+        }
+        log.info("event=access_token_revoked memberId={}", memberId);
+    }
+
+    /**
+     * 이 access token 하나만 폐기 (로그아웃)
+     */
+    public void revoke(JwtTokenProvider.VerifiedToken token) {
+        redisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, token.tokenHash(), token.expiresAt());
+
+        synchronized (this) {
+            Map<String, Long> updated = new HashMap<>(revokedTokens);
+            updated.put(token.tokenHash(), token.expiresAt());
+            revokedTokens = Map.copyOf(updated);
+        }
+        log.info("event=access_token_revoked memberId={} scope=token", token.memberId());
+    }
+
+    /**
+     * 회원 정지/탈퇴, 역할 변경이 커밋되면 기존 access token 폐기
+     */
+    @TransactionalEventListener
+    public void onMemberAccessChanged(MemberAccessChangedEvent event) {
+        revoke(event.memberId());
+    }
+
+    public boolean isRevoked(JwtTokenProvider.VerifiedToken token) {
+        if (revokedTokens.containsKey(token.tokenHash())) {
+            return true;
+        }
+        Long revoked = revokedAt.get(token.memberId());
+        // ms 단위 비교 (iat_ms가 없는 이전 토큰은 발급 시각이 초 단위로 내림되어 같은 초면 폐기 대상이 됨)
+        return revoked != null && token.issuedAt() <= revoked;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-refresh-ms:5000}")
+    public void refresh() {
+        try {
+            long now = System.currentTimeMillis();
+            long cutoff = now - jwtProperties.getAccessTokenExpiry();
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, cutoff);
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, 0, now);
+
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    redisTemplate.opsForZSet().rangeWithScores(REVOKED_KEY, 0, -1);
+            Set<ZSetOperations.TypedTuple<String>> tokenEntries =
+                    redisTemplate.opsForZSet().rangeWithScores(REVOKED_TOKENS_KEY, 0, -1);
+            // 조회 중에 로컬에서 revoke()한 항목을 잃지 않도록 현재 스냅샷과 합침 (회원별 최신 시각)
+            synchronized (this) {
+                Map<Long, Long> merged = new HashMap<>(revokedAt);
+                merged.values().removeIf(revoked -> revoked <= cutoff);
+                if (entries != null) {
+                    for (ZSetOperations.TypedTuple<String> entry : entries) {
+                        if (entry.getValue() != null && entry.getScore() != null) {
+                            merged.merge(Long.parseLong(entry.getValue()), entry.getScore().longValue(), Math::max);
+                        }
+                    }
+                }
+                revokedAt = Map.copyOf(merged);
+
+                Map<String, Long> mergedTokens = new HashMap<>(revokedTokens);
+                mergedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+                if (tokenEntries != null) {
+                    for (ZSetOperations.TypedTuple<String> entry : tokenEntries) {
+                        if (entry.getValue() != null && entry.getScore() != null) {
+                            mergedTokens.put(entry.getValue(), entry.getScore().longValue());
+                        }
+                    }
+                }
+                revokedTokens = Map.copyOf(mergedTokens);
+            }
+        } catch (Exception e) {
+            // 갱신 실패 시 직전 스냅샷 유지
+            log.warn("event=revocation_refresh_failed error={}", e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.vericerti.infrastructure.storage;
 
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+
 public interface FileStorageService {
 
     /**
@@ -14,4 +18,20 @@ public interface FileStorageService {
      * @return 저장된 파일 URL
      */
     String store(byte[] content, String filename);
+
+    /**
+     * 스트림을 한 번 읽으면서 해시 계산과 저장을 함께 수행 (파일 전체를 메모리에 올리지 않음)
+     *
+     * @param content  파일 스트림 (호출자가 닫음)
+     * @param filename 원본 파일명
+     * @return 해시와 저장된 파일 URL
+     */
+    StoredFile store(InputStream content, String filename);
+
+    /**
+     * @param fileUrl store()가 반환한 파일 URL
+     * @return 파일 리소스 (내용을 메모리에 읽지 않음, Range 응답에 그대로 사용 가능)
+     * @throws com.vericerti.infrastructure.exception.StorageException 파일이 없거나 저장소 밖 경로일 때
+     */
+    Resource load(String fileUrl);
 }
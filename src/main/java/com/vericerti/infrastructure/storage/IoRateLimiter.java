@@ -0,0 +1,41 @@
+package com.vericerti.infrastructure.storage;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 바이트 상한 (여러 스레드가 공유)
+ * - 읽은 만큼 다음 허용 시각을 뒤로 미루고, 앞선 예약이 있으면 그만큼 대기
+ * - 쉬던 시간은 적립하지 않으므로 순간적인 몰아 읽기(burst) 없음
+ */
+final class IoRateLimiter {
+
+    private final long bytesPerSecond;
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param bytesPerSecond 0 이하이면 제한 없음
+     */
+    IoRateLimiter(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    void acquire(long bytes) throws InterruptedException {
+        if (bytesPerSecond <= 0 || bytes <= 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextFreeNanos < now) {
+                nextFreeNanos = now;
+            }
+            waitNanos = nextFreeNanos - now;
+            nextFreeNanos += TimeUnit.SECONDS.toNanos(bytes) / bytesPerSecond;
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
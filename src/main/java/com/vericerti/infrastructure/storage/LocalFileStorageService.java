@@ -6,35 +6,58 @@ import com.vericerti.infrastructure.exception.StorageException;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.HexFormat;
 import java.util.UUID;
 
+/**
+ * 로컬 디스크 저장소
+ * - 기본: 업로드마다 UUID 파일명 (/files/{uuid}.{ext})
+ * - content-addressed: SHA-256 해시로 경로 결정 (/files/ab/cd/abcd...), 같은 내용은 한 번만 저장
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LocalFileStorageService implements FileStorageService {
 
     private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String TEMP_DIR = ".tmp";
+    private static final String QUARANTINE_DIR = ".orphans";
+    private static final String URL_PREFIX = "/files/";
 
     private final StorageProperties storageProperties;
     private Path uploadPath;
+    private Path tempPath;
+    private Path quarantinePath;
 
     @PostConstruct
     public void init() {
         String uploadDir = storageProperties.getLocal().getUploadDir();
         this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        // 임시 파일은 업로드 디렉토리와 같은 파일시스템에 두어 원자적 이동(rename) 보장
+        this.tempPath = uploadPath.resolve(TEMP_DIR);
+        this.quarantinePath = uploadPath.resolve(QUARANTINE_DIR);
 
         try {
             Files.createDirectories(uploadPath);
-            log.info("event=storage_initialized path={}", uploadPath);
+            Files.createDirectories(tempPath);
+            log.info("event=storage_initialized path={} contentAddressed={}", uploadPath, isContentAddressed());
         } catch (IOException e) {
             throw new StorageException(
                     ErrorCode.STORAGE_INITIALIZATION_FAILED,
@@ -45,18 +68,25 @@ public class LocalFileStorageService implements FileStorageService {
 
     @Override
     public String calculateHash(byte[] content) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
-            byte[] hashBytes = digest.digest(content);
-            return HexFormat.of().formatHex(hashBytes);
-        } catch (NoSuchAlgorithmException e) {
-            // SHA-256 is always available in standard JDK
-            throw new IllegalStateException("SHA-256 algorithm not available", e);
-        }
+        byte[] hashBytes = newDigest().digest(content);
+        return HexFormat.of().formatHex(hashBytes);
     }
 
     @Override
     public String store(byte[] content, String filename) {
+        if (isContentAddressed()) {
+            // 해시를 먼저 알 수 있으므로 이미 있는 내용이면 쓰기 자체를 생략
+            String dataHash = calculateHash(content);
+            String relativePath = shardedPath(dataHash);
+            Path existing = uploadPath.resolve(relativePath);
+            if (Files.exists(existing)) {
+                touch(existing);
+                log.info("event=file_deduplicated original={} stored={}", filename, relativePath);
+                return URL_PREFIX + relativePath;
+            }
+            return store(new ByteArrayInputStream(content), filename).fileUrl();
+        }
+
         String extension = extractExtension(filename);
         String storedFilename = UUID.randomUUID() + extension;
         Path targetPath = uploadPath.resolve(storedFilename);
@@ -67,12 +97,131 @@ public class LocalFileStorageService implements FileStorageService {
                     filename, storedFilename, content.length);
 
             // 상대 경로를 URL 형태로 반환 (로컬 저장소)
-            return "/files/" + storedFilename;
+            return URL_PREFIX + storedFilename;
+        } catch (IOException e) {
+            throw StorageException.storeFailed(filename, e);
+        }
+    }
+
+    /**
+     * 임시 파일에 쓰면서 SHA-256을 함께 계산한 뒤 업로드 디렉토리로 원자적으로 이동
+     * 힙 사용량은 파일 크기와 무관하게 복사 버퍼 하나
+     * content-addressed 모드에서 같은 내용이 이미 있으면 임시 파일만 지우고 기존 경로 반환
+     */
+    @Override
+    public StoredFile store(InputStream content, String filename) {
+        MessageDigest digest = newDigest();
+        Path tempFile = null;
+
+        try {
+            tempFile = Files.createTempFile(tempPath, "upload-", ".part");
+            long size;
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                size = new DigestInputStream(content, digest).transferTo(out);
+            }
+            String dataHash = HexFormat.of().formatHex(digest.digest());
+
+            String relativePath = isContentAddressed()
+                    ? shardedPath(dataHash)
+                    : UUID.randomUUID() + extractExtension(filename);
+            Path targetPath = uploadPath.resolve(relativePath);
+
+            if (isContentAddressed() && Files.exists(targetPath)) {
+                Files.delete(tempFile);
+                touch(targetPath);
+                log.info("event=file_deduplicated original={} stored={} size={}", filename, relativePath, size);
+            } else {
+                Files.createDirectories(targetPath.getParent());
+                // 동시에 같은 내용이 올라와도 rename은 원자적이고 내용이 같으므로 덮어써도 무방
+                Files.move(tempFile, targetPath, StandardCopyOption.ATOMIC_MOVE);
+                log.info("event=file_stored original={} stored={} size={}", filename, relativePath, size);
+            }
+
+            return new StoredFile(dataHash, URL_PREFIX + relativePath, size);
+
         } catch (IOException e) {
+            deleteQuietly(tempFile);
             throw StorageException.storeFailed(filename, e);
         }
     }
 
+    @Override
+    public Resource load(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith(URL_PREFIX)) {
+            throw StorageException.notFound(fileUrl);
+        }
+
+        Path path = uploadPath.resolve(fileUrl.substring(URL_PREFIX.length())).normalize();
+        // ../ 등으로 업로드 디렉토리 밖이나 임시/격리 디렉토리를 가리키는 경로 차단
+        if (!path.startsWith(uploadPath) || path.startsWith(tempPath) || path.startsWith(quarantinePath)
+                || !Files.isRegularFile(path)) {
+            throw StorageException.notFound(fileUrl);
+        }
+        return new FileSystemResource(path);
+    }
+
+    public Path uploadPath() {
+        return uploadPath;
+    }
+
+    public Path tempPath() {
+        return tempPath;
+    }
+
+    public Path quarantinePath() {
+        return quarantinePath;
+    }
+
+    /**
+     * 업로드 디렉토리 안의 파일 경로 → store()가 반환하는 파일 URL
+     */
+    public String toFileUrl(Path path) {
+        return URL_PREFIX + uploadPath.relativize(path.toAbsolutePath().normalize()).toString().replace('\\', '/');
+    }
+
+    /**
+     * 기존 파일을 재사용할 때 수정 시각 갱신
+     * 커밋 전 엔트리가 참조하는 동안 고아 파일 GC의 유예 기간에 걸리지 않도록 함
+     */
+    private void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.warn("event=file_touch_failed path={}", path);
+        }
+    }
+
+    /**
+     * ab/cd/abcd... (앞 2바이트로 2단계 디렉토리 분산)
+     */
+    static String shardedPath(String dataHash) {
+        return dataHash.substring(0, 2) + "/" + dataHash.substring(2, 4) + "/" + dataHash;
+    }
+
+    private boolean isContentAddressed() {
+        return storageProperties.getLocal().isContentAddressed();
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is always available in standard JDK
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("event=temp_file_delete_failed path={}", path);
+        }
+    }
+
     private String extractExtension(String filename) {
         if (filename == null || !filename.contains(".")) {
             return "";
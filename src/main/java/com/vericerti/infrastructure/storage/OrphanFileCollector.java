@@ -0,0 +1,344 @@
+package com.vericerti.infrastructure.storage;
+
+import com.vericerti.domain.ledger.repository.LedgerEntryRepository;
+import com.vericerti.domain.ledger.repository.StoredBlobRepository;
+import com.vericerti.infrastructure.config.StorageProperties;
+import com.vericerti.infrastructure.lock.RedisLock;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 고아 파일 GC
+ * - 유스케이스 트랜잭션이 롤백되면 파일은 이미 디스크에 쓰였지만 LedgerEntry가 없음
+ * - 업로드 디렉토리를 스트리밍으로 훑으며 batch-size개씩 ledger_entries.file_url을 IN 조회
+ * - grace-period보다 오래된 고아만 격리(.orphans/) 또는 삭제, 격리된 파일은 quarantine-retention 후 삭제
+ * - 같은 batch의 stored_blobs 참조 수를 ledger_entries 기준으로 다시 계산하고, 회수한 파일의 기록은 삭제
+ * - .tmp/의 오래된 업로드 잔여 파일(.part)도 함께 삭제
+ * - 스케줄/관리자 요청 모두 전용 스레드에서 백그라운드로 실행, 마지막 실행 결과는 Redis에 저장
+ * - Redis 락(RedisLock)으로 여러 인스턴스 중 하나만 실행, 디렉토리를 훑는 동안 락 연장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanFileCollector {
+
+    private static final String STATUS_KEY = "storage:gc:status";
+    private static final String LOCK_KEY = "storage:gc:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    private final LocalFileStorageService storageService;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final StoredBlobRepository storedBlobRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final StorageProperties storageProperties;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("storage-gc").daemon().factory());
+
+    @Scheduled(cron = "${storage.gc.cron:0 30 4 * * *}")
+    public void scheduledCollect() {
+        if (storageProperties.getGc().isEnabled()) {
+            start();
+        }
+    }
+
+    /**
+     * 백그라운드로 GC 시작 (스케줄러/요청 스레드를 점유하지 않음)
+     * 락은 반환 전에 호출 스레드에서 획득 → true면 이 인스턴스가 실제로 실행 중
+     *
+     * @return 이 인스턴스 또는 다른 인스턴스에서 이미 실행 중이면 false
+     */
+    public boolean start() {
+        if (!started.compareAndSet(false, true)) {
+            return false;
+        }
+        RedisLock lock = RedisLock.tryAcquire(redisTemplate, LOCK_KEY, LOCK_TTL).orElse(null);
+        if (lock == null) {
+            started.set(false);
+            log.info("event=orphan_gc_skipped reason=running_elsewhere");
+            return false;
+        }
+        try {
+            coordinator.execute(() -> {
+                try {
+                    collect(lock);
+                } catch (Exception e) {
+                    log.error("event=orphan_gc_failed error={}", e.getMessage(), e);
+                } finally {
+                    started.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            lock.release();
+            started.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * GC 실행 (호출 스레드에서 끝날 때까지 진행)
+     */
+    GcResult collect() {
+        RedisLock lock = RedisLock.tryAcquire(redisTemplate, LOCK_KEY, LOCK_TTL).orElse(null);
+        if (lock == null) {
+            log.info("event=orphan_gc_skipped reason=running_elsewhere");
+            return new GcResult(0, 0, 0, 0);
+        }
+        return collect(lock);
+    }
+
+    private GcResult collect(RedisLock lock) {
+        StorageProperties.Gc config = storageProperties.getGc();
+        Instant cutoff = Instant.now().minus(config.getGracePeriod());
+        long startedAt = System.currentTimeMillis();
+        saveStatus(new GcResult(0, 0, 0, 0), startedAt, 0);
+
+        Sweep sweep = new Sweep(config, cutoff, lock);
+        try {
+            Files.walkFileTree(storageService.uploadPath(), sweep);
+            sweep.flush();
+
+            long purged = purgeOlderThan(storageService.tempPath(), cutoff, lock)
+                    + purgeOlderThan(storageService.quarantinePath(),
+                            Instant.now().minus(config.getQuarantineRetention()), lock);
+
+            GcResult result = new GcResult(sweep.scanned, sweep.orphans, sweep.removed, purged);
+            saveStatus(result, startedAt, System.currentTimeMillis());
+            log.info("event=orphan_gc_finished mode={} scanned={} orphans={} removed={} purged={}",
+                    config.getMode(), result.scanned(), result.orphans(), result.removed(), result.purged());
+            return result;
+
+        } catch (RedisLock.LockLostException e) {
+            // 락이 만료되어 다른 인스턴스가 시작했으면 그쪽에 맡기고 중단 (결과 기록도 그쪽이 함)
+            log.warn("event=orphan_gc_lock_lost scanned={} removed={}", sweep.scanned, sweep.removed);
+            return new GcResult(sweep.scanned, sweep.orphans, sweep.removed, 0);
+        } catch (IOException | UncheckedIOException e) {
+            log.error("event=orphan_gc_failed error={}", e.getMessage(), e);
+            throw new IllegalStateException("Orphan file GC failed", e);
+        } finally {
+            lock.release();
+        }
+    }
+
+    public GcStatus getStatus() {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(STATUS_KEY);
+        boolean running = Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_KEY));
+        return GcStatus.from(fields, running);
+    }
+
+    private void saveStatus(GcResult result, long startedAt, long finishedAt) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("scanned", Long.toString(result.scanned()));
+        fields.put("orphans", Long.toString(result.orphans()));
+        fields.put("removed", Long.toString(result.removed()));
+        fields.put("purged", Long.toString(result.purged()));
+        fields.put("startedAt", Long.toString(startedAt));
+        fields.put("finishedAt", Long.toString(finishedAt));
+        redisTemplate.opsForHash().putAll(STATUS_KEY, fields);
+    }
+
+    /**
+     * 업로드 디렉토리 순회 (.tmp, .orphans 제외), 유예 기간이 지난 파일을 batch-size개씩 모아 DB 조회
+     */
+    private class Sweep extends SimpleFileVisitor<Path> {
+
+        private final StorageProperties.Gc config;
+        private final FileTime cutoff;
+        private final RedisLock lock;
+        private final Map<String, Path> batch = new LinkedHashMap<>();
+        private long scanned;
+        private long orphans;
+        private long removed;
+
+        Sweep(StorageProperties.Gc config, Instant cutoff, RedisLock lock) {
+            this.config = config;
+            this.cutoff = FileTime.from(cutoff);
+            this.lock = lock;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            if (dir.equals(storageService.tempPath()) || dir.equals(storageService.quarantinePath())) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (!attrs.isRegularFile()) {
+                return FileVisitResult.CONTINUE;
+            }
+            lock.renewIfDue();
+            scanned++;
+            if (attrs.lastModifiedTime().compareTo(cutoff) < 0) {
+                batch.put(storageService.toFileUrl(file), file);
+                if (batch.size() >= config.getBatchSize()) {
+                    flush();
+                }
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException e) {
+            log.warn("event=orphan_gc_visit_failed path={} error={}", file, e.getMessage());
+            return FileVisitResult.CONTINUE;
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            // 파일을 지우기 직전에 락 확인 (락을 잃었으면 다른 인스턴스와 동시에 지우지 않도록 중단)
+            lock.renew();
+            Set<String> referenced = ledgerEntryRepository.findReferencedFileUrls(batch.keySet());
+            storedBlobRepository.recountReferences(batch.keySet());
+
+            List<String> reclaimed = new ArrayList<>();
+            for (Map.Entry<String, Path> file : batch.entrySet()) {
+                if (referenced.contains(file.getKey())) {
+                    continue;
+                }
+                orphans++;
+                if (remove(file.getValue())) {
+                    removed++;
+                    reclaimed.add(file.getKey());
+                }
+            }
+            if (!reclaimed.isEmpty()) {
+                storedBlobRepository.deleteUnreferenced(reclaimed);
+            }
+            batch.clear();
+        }
+
+        private boolean remove(Path file) {
+            try {
+                // 조회 사이에 같은 내용이 다시 업로드되어 재사용(touch)됐으면 보류
+                if (Files.getLastModifiedTime(file).compareTo(cutoff) >= 0) {
+                    return false;
+                }
+                if (config.getMode() == StorageProperties.Gc.Mode.DELETE) {
+                    Files.delete(file);
+                } else {
+                    quarantine(file);
+                }
+                log.info("event=orphan_file_removed mode={} path={}", config.getMode(), file);
+                return true;
+            } catch (IOException e) {
+                log.warn("event=orphan_file_remove_failed path={} error={}", file, e.getMessage());
+                return false;
+            }
+        }
+
+        private void quarantine(Path file) throws IOException {
+            Path uploadPath = storageService.uploadPath();
+            Path target = storageService.quarantinePath().resolve(uploadPath.relativize(file));
+            Files.createDirectories(target.getParent());
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+            // 보관 기간은 격리 시점부터 계산
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+        }
+    }
+
+    /**
+     * @return 삭제한 파일 수
+     */
+    private long purgeOlderThan(Path dir, Instant cutoff, RedisLock lock) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return 0;
+        }
+        FileTime threshold = FileTime.from(cutoff);
+        long[] purged = {0};
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                lock.renewIfDue();
+                if (attrs.isRegularFile() && attrs.lastModifiedTime().compareTo(threshold) < 0) {
+                    try {
+                        Files.deleteIfExists(file);
+                        purged[0]++;
+                    } catch (IOException e) {
+                        log.warn("event=orphan_file_purge_failed path={} error={}", file, e.getMessage());
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return purged[0];
+    }
+
+    /**
+     * @param scanned 업로드 디렉토리에서 확인한 파일 수
+     * @param orphans 유예 기간이 지난 고아 파일 수
+     * @param removed 격리 또는 삭제한 고아 파일 수
+     * @param purged  삭제한 업로드 잔여 파일 + 보관 기간이 지난 격리 파일 수
+     */
+    public record GcResult(long scanned, long orphans, long removed, long purged) {}
+
+    /**
+     * 마지막 실행 결과
+     *
+     * @param running    실행 중 (어느 인스턴스든 락 보유)
+     * @param startedAt  시작 시각 (epoch ms, 0이면 기록 없음)
+     * @param finishedAt 완료 시각 (0이면 진행 중이거나 중단됨)
+     */
+    public record GcStatus(boolean running, long scanned, long orphans, long removed, long purged,
+                           long startedAt, long finishedAt) {
+
+        static GcStatus from(Map<Object, Object> fields, boolean running) {
+            return new GcStatus(
+                    running,
+                    longField(fields, "scanned"),
+                    longField(fields, "orphans"),
+                    longField(fields, "removed"),
+                    longField(fields, "purged"),
+                    longField(fields, "startedAt"),
+                    longField(fields, "finishedAt")
+            );
+        }
+
+        private static long longField(Map<Object, Object> fields, String name) {
+            Object value = fields.get(name);
+            return value == null ? 0 : Long.parseLong(value.toString());
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.vericerti.infrastructure.storage;
+
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.repository.LedgerEntryRepository;
+import com.vericerti.infrastructure.config.StorageProperties;
+import com.vericerti.infrastructure.exception.StorageException;
+import com.vericerti.infrastructure.lock.RedisLock;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 파일 무결성 검사 (scrub)
+ * - ledger_entries를 id keyset으로 훑으면서 파일을 다시 해시해 data_hash와 비교
+ * - 파일 해시는 parallelism개 워커가 큰 버퍼로 순차 읽기, 읽기 속도는 bandwidth로 제한 (운영 트래픽과 병행)
+ * - 진행 상황은 Redis에 페이지마다 저장, 중단되면 다음 실행에서 이어서 진행
+ * - 불일치/누락은 entryId별로 기록, 이후 검사에서 일치하면 기록 삭제, 한 바퀴가 끝나면 삭제된 엔트리의 기록 정리
+ * - Redis 락(RedisLock)으로 여러 인스턴스 중 하나만 실행, 파일 해시를 기다리는 동안 TTL의 1/3마다 락 연장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageIntegrityScrubber {
+
+    private static final String PROGRESS_KEY = "storage:scrub:progress";
+    private static final String MISMATCHES_KEY = "storage:scrub:mismatches";
+    private static final String LOCK_KEY = "storage:scrub:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String MISSING = "MISSING";
+    private static final String UNREADABLE = "UNREADABLE";
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final FileStorageService fileStorageService;
+    private final StringRedisTemplate redisTemplate;
+    private final StorageProperties storageProperties;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("storage-scrub").daemon().factory());
+    // 워커 스레드별 읽기 버퍼 (검사가 끝나면 워커와 함께 회수)
+    private final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(this::newBuffer);
+
+    @Scheduled(cron = "${storage.scrub.cron:0 0 3 * * *}")
+    public void scheduledScrub() {
+        if (storageProperties.getScrub().isEnabled()) {
+            start();
+        }
+    }
+
+    /**
+     * 백그라운드로 검사 시작 (스케줄러 스레드를 점유하지 않음)
+     *
+     * @return 이 인스턴스에서 이미 실행 중이면 false
+     */
+    public boolean start() {
+        if (!started.compareAndSet(false, true)) {
+            return false;
+        }
+        coordinator.execute(() -> {
+            try {
+                scrub();
+            } catch (Exception e) {
+                log.error("event=storage_scrub_failed error={}", e.getMessage(), e);
+            } finally {
+                started.set(false);
+            }
+        });
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * 검사 실행 (호출 스레드에서 끝날 때까지 진행)
+     */
+    ScrubProgress scrub() {
+        RedisLock lock = RedisLock.tryAcquire(redisTemplate, LOCK_KEY, LOCK_TTL).orElse(null);
+        if (lock == null) {
+            log.info("event=storage_scrub_skipped reason=running_elsewhere");
+            return getProgress();
+        }
+
+        StorageProperties.Scrub config = storageProperties.getScrub();
+        IoRateLimiter limiter = new IoRateLimiter(config.getBandwidth().toBytes());
+        ScrubProgress progress = resumeOrStart();
+        log.info("event=storage_scrub_started cursor={} bandwidth={} parallelism={}",
+                progress.cursor(), config.getBandwidth(), config.getParallelism());
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.getParallelism(),
+                Thread.ofPlatform().name("storage-scrub-worker-", 0).daemon().factory());
+        try {
+            while (true) {
+                List<LedgerEntry> page = ledgerEntryRepository.findByFileUrlIsNotNullAndIdGreaterThanOrderByIdAsc(
+                        progress.cursor(), Limit.of(config.getPageSize()));
+                if (page.isEmpty()) {
+                    break;
+                }
+                progress = scrubPage(page, workers, limiter, progress, lock);
+                saveProgress(progress);
+            }
+
+            long pruned = pruneDeletedEntries(config.getPageSize());
+            progress = progress.finish(System.currentTimeMillis());
+            saveProgress(progress);
+            log.info("event=storage_scrub_finished entries={} files={} bytes={} mismatches={} pruned={}",
+                    progress.entries(), progress.files(), progress.bytes(), progress.mismatches(), pruned);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("event=storage_scrub_interrupted cursor={}", progress.cursor());
+        } catch (RedisLock.LockLostException e) {
+            // 다른 인스턴스가 락을 가져갔으면 진행 상황은 그쪽이 이어서 저장하므로 여기서 중단
+            log.warn("event=storage_scrub_lock_lost cursor={}", progress.cursor());
+        } finally {
+            workers.shutdownNow();
+            lock.release();
+        }
+        return progress;
+    }
+
+    public ScrubProgress getProgress() {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(PROGRESS_KEY);
+        boolean running = Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_KEY));
+        return ScrubProgress.from(fields, running);
+    }
+
+    /**
+     * @return 기록된 불일치 (최대 limit개, 순서 보장 없음)
+     */
+    public List<Mismatch> findMismatches(int limit) {
+        List<Mismatch> mismatches = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().count(limit).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(MISMATCHES_KEY, options)) {
+            while (cursor.hasNext() && mismatches.size() < limit) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                mismatches.add(Mismatch.parse(entry.getKey().toString(), entry.getValue().toString()));
+            }
+        }
+        return mismatches;
+    }
+
+    public long countMismatches() {
+        Long size = redisTemplate.opsForHash().size(MISMATCHES_KEY);
+        return size == null ? 0 : size;
+    }
+
+    private ScrubProgress scrubPage(List<LedgerEntry> page, ExecutorService workers, IoRateLimiter limiter,
+                                    ScrubProgress progress, RedisLock lock) throws InterruptedException {
+        // content-addressed 모드에서는 여러 엔트리가 한 파일을 공유하므로 파일 단위로 한 번만 해시
+        Map<String, List<LedgerEntry>> entriesByFile = page.stream()
+                .collect(Collectors.groupingBy(LedgerEntry::getFileUrl, LinkedHashMap::new, Collectors.toList()));
+
+        Map<String, Future<FileDigest>> digests = new LinkedHashMap<>();
+        entriesByFile.keySet().forEach(fileUrl ->
+                digests.put(fileUrl, workers.submit(() -> digest(fileUrl, limiter))));
+
+        long bytes = 0;
+        Map<String, String> mismatches = new HashMap<>();
+        List<Object> matched = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<String, List<LedgerEntry>> file : entriesByFile.entrySet()) {
+            FileDigest digest = await(digests.get(file.getKey()), lock);
+            bytes += digest.size();
+
+            for (LedgerEntry entry : file.getValue()) {
+                String expected = entry.getDataHashValue().orElse("");
+                if (expected.equals(digest.hash())) {
+                    matched.add(entry.getId().toString());
+                    continue;
+                }
+                mismatches.put(entry.getId().toString(),
+                        String.join("|", file.getKey(), expected, digest.hash(), Long.toString(now)));
+                log.error("event=storage_integrity_mismatch entryId={} fileUrl={} expected={} actual={}",
+                        entry.getId(), file.getKey(), expected, digest.hash());
+            }
+        }
+
+        if (!mismatches.isEmpty()) {
+            redisTemplate.opsForHash().putAll(MISMATCHES_KEY, mismatches);
+        }
+        if (!matched.isEmpty()) {
+            // 복구된 파일은 이전 기록 삭제
+            redisTemplate.opsForHash().delete(MISMATCHES_KEY, matched.toArray());
+        }
+
+        return new ScrubProgress(
+                true,
+                page.getLast().getId(),
+                progress.entries() + page.size(),
+                progress.files() + entriesByFile.size(),
+                progress.bytes() + bytes,
+                progress.mismatches() + mismatches.size(),
+                progress.startedAt(),
+                0
+        );
+    }
+
+    private FileDigest digest(String fileUrl, IoRateLimiter limiter) throws InterruptedException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = buffers.get();
+        long size = 0;
+
+        try (ReadableByteChannel channel = fileStorageService.load(fileUrl).readableChannel()) {
+            int read;
+            while ((read = channel.read(buffer.clear())) != -1) {
+                limiter.acquire(read);
+                digest.update(buffer.flip());
+                size += read;
+            }
+            return new FileDigest(HexFormat.of().formatHex(digest.digest()), size);
+        } catch (StorageException e) {
+            return new FileDigest(MISSING, 0);
+        } catch (IOException e) {
+            log.warn("event=storage_scrub_read_failed fileUrl={} error={}", fileUrl, e.getMessage());
+            return new FileDigest(UNREADABLE, size);
+        }
+    }
+
+    /**
+     * 해시 완료를 기다리면서 락 연장 (대역폭 제한으로 큰 파일 하나가 LOCK_TTL보다 오래 걸릴 수 있음)
+     */
+    private FileDigest await(Future<FileDigest> future, RedisLock lock) throws InterruptedException {
+        while (true) {
+            lock.renew();
+            try {
+                return future.get(lock.renewInterval().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 아직 읽는 중 → 연장 후 계속 대기
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("File digest failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * 이후 삭제된 엔트리(또는 파일 참조가 지워진 엔트리)의 불일치 기록 삭제
+     * - keyset 검사는 남아 있는 엔트리만 훑으므로 이런 기록은 일치 판정으로 지워지지 않음
+     *
+     * @return 삭제한 기록 수
+     */
+    private long pruneDeletedEntries(int batchSize) {
+        long pruned = 0;
+        List<Long> batch = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(MISMATCHES_KEY, options)) {
+            while (cursor.hasNext()) {
+                batch.add(Long.parseLong(cursor.next().getKey().toString()));
+                if (batch.size() >= batchSize) {
+                    pruned += pruneBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            pruned += pruneBatch(batch);
+        }
+        return pruned;
+    }
+
+    private long pruneBatch(List<Long> entryIds) {
+        Set<Long> remaining = new HashSet<>();
+        ledgerEntryRepository.findAllById(entryIds).stream()
+                .filter(entry -> entry.getFileUrl() != null)
+                .forEach(entry -> remaining.add(entry.getId()));
+
+        Object[] stale = entryIds.stream()
+                .filter(id -> !remaining.contains(id))
+                .map(Object::toString)
+                .toArray();
+        if (stale.length == 0) {
+            return 0;
+        }
+        log.info("event=storage_scrub_mismatch_pruned count={}", stale.length);
+        return redisTemplate.opsForHash().delete(MISMATCHES_KEY, stale);
+    }
+
+    private ScrubProgress resumeOrStart() {
+        ScrubProgress previous = getProgress();
+        if (previous.startedAt() > 0 && previous.finishedAt() == 0) {
+            return previous;
+        }
+        return new ScrubProgress(true, 0, 0, 0, 0, 0, System.currentTimeMillis(), 0);
+    }
+
+    private void saveProgress(ScrubProgress progress) {
+        redisTemplate.opsForHash().putAll(PROGRESS_KEY, progress.toFields());
+    }
+
+    private ByteBuffer newBuffer() {
+        return ByteBuffer.allocateDirect((int) storageProperties.getScrub().getBufferSize().toBytes());
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record FileDigest(String hash, long size) {}
+
+    /**
+     * @param cursor     마지막으로 검사한 entryId (다음 실행은 그 다음부터)
+     * @param startedAt  이번 검사 시작 시각 (epoch ms, 0이면 기록 없음)
+     * @param finishedAt 완료 시각 (0이면 진행 중이거나 중단됨)
+     */
+    public record ScrubProgress(boolean running, long cursor, long entries, long files, long bytes,
+                                long mismatches, long startedAt, long finishedAt) {
+
+        ScrubProgress finish(long finishedAt) {
+            return new ScrubProgress(false, cursor, entries, files, bytes, mismatches, startedAt, finishedAt);
+        }
+
+        Map<String, String> toFields() {
+            return Map.of(
+                    "cursor", Long.toString(cursor),
+                    "entries", Long.toString(entries),
+                    "files", Long.toString(files),
+                    "bytes", Long.toString(bytes),
+                    "mismatches", Long.toString(mismatches),
+                    "startedAt", Long.toString(startedAt),
+                    "finishedAt", Long.toString(finishedAt)
+            );
+        }
+
+        static ScrubProgress from(Map<Object, Object> fields, boolean running) {
+            return new ScrubProgress(
+                    running,
+                    longField(fields, "cursor"),
+                    longField(fields, "entries"),
+                    longField(fields, "files"),
+                    longField(fields, "bytes"),
+                    longField(fields, "mismatches"),
+                    longField(fields, "startedAt"),
+                    longField(fields, "finishedAt")
+            );
+        }
+
+        private static long longField(Map<Object, Object> fields, String name) {
+            Object value = fields.get(name);
+            return value == null ? 0 : Long.parseLong(value.toString());
+        }
+    }
+
+    /**
+     * @param actualHash 다시 계산한 해시 (파일이 없으면 MISSING, 읽기 실패면 UNREADABLE)
+     */
+    public record Mismatch(Long entryId, String fileUrl, String expectedHash, String actualHash, long detectedAt) {
+
+        static Mismatch parse(String entryId, String value) {
+            String[] parts = value.split("\\|");
+            return new Mismatch(Long.parseLong(entryId), parts[0], parts[1], parts[2], Long.parseLong(parts[3]));
+        }
+    }
+}
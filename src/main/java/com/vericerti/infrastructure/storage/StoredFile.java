@@ -0,0 +1,10 @@
+package com.vericerti.infrastructure.storage;
+
+/**
+ * 저장 결과
+ *
+ * @param dataHash 64자 hex 문자열 (SHA-256, 저장하면서 계산)
+ * @param fileUrl  저장된 파일 URL
+ * @param size     바이트 수
+ */
+public record StoredFile(String dataHash, String fileUrl, long size) {}
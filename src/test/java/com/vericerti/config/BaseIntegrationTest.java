@@ -4,6 +4,9 @@ import com.redis.testcontainers.RedisContainer;
 import com.vericerti.domain.account.repository.AccountRepository;
 import com.vericerti.domain.donation.repository.DonationRepository;
 import com.vericerti.domain.ledger.repository.LedgerEntryRepository;
+import com.vericerti.domain.ledger.repository.LedgerOutboxRepository;
+import com.vericerti.domain.ledger.repository.RegisteredHashRepository;
+import com.vericerti.domain.ledger.repository.StoredBlobRepository;
 import com.vericerti.domain.member.repository.MemberRepository;
 import com.vericerti.domain.organization.repository.OrganizationRepository;
 import com.vericerti.domain.receipt.repository.ReceiptRepository;
@@ -34,6 +37,15 @@ public abstract class BaseIntegrationTest {
     @Autowired
     protected LedgerEntryRepository ledgerEntryRepository;
 
+    @Autowired
+    protected LedgerOutboxRepository ledgerOutboxRepository;
+
+    @Autowired
+    protected RegisteredHashRepository registeredHashRepository;
+
+    @Autowired
+    protected StoredBlobRepository storedBlobRepository;
+
     @Autowired
     protected DonationRepository donationRepository;
 
@@ -69,7 +81,10 @@ public abstract class BaseIntegrationTest {
     @BeforeEach
     void cleanUpDatabase() {
         // 자식 테이블부터 삭제 (외래 키 제약 조건 순서)
+        ledgerOutboxRepository.deleteAll();
         ledgerEntryRepository.deleteAll();
+        registeredHashRepository.deleteAll();
+        storedBlobRepository.deleteAll();
         receiptRepository.deleteAll();
         donationRepository.deleteAll();
         accountRepository.deleteAll();
@@ -0,0 +1,128 @@
+package com.vericerti.controller;
+
+import com.vericerti.application.command.CreateLedgerEntryCommand;
+import com.vericerti.application.command.LoginCommand;
+import com.vericerti.application.command.SignupCommand;
+import com.vericerti.config.BaseIntegrationTest;
+import com.vericerti.domain.auth.service.AuthService;
+import com.vericerti.domain.common.vo.BusinessNumber;
+import com.vericerti.domain.ledger.entity.LedgerEntityType;
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.service.LedgerService;
+import com.vericerti.domain.member.entity.MemberRole;
+import com.vericerti.domain.organization.entity.Organization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.*;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class FileControllerIntegrationTest extends BaseIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private String accessToken;
+    private LedgerEntry entry;
+
+    private static final byte[] CONTENT = "receipt file content for download".getBytes();
+
+    @BeforeEach
+    void setUp() {
+        String email = "test-" + UUID.randomUUID() + "@example.com";
+        authService.signup(new SignupCommand(email, "password123", MemberRole.DONOR));
+        accessToken = authService.login(new LoginCommand(email, "password123")).accessToken();
+
+        Organization testOrg = organizationRepository.save(Organization.builder()
+                .name("테스트 단체")
+                .businessNumber(BusinessNumber.of("BN-" + UUID.randomUUID()))
+                .description("테스트용")
+                .build());
+        entry = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                testOrg.getId(), LedgerEntityType.RECEIPT, 100L, CONTENT, "receipt.pdf"));
+    }
+
+    private String fileUrl() {
+        return "http://localhost:" + port + entry.getFileUrl();
+    }
+
+    private HttpHeaders createAuthHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        return headers;
+    }
+
+    @Test
+    @DisplayName("GET /files/** - 파일 다운로드 + DataHash ETag")
+    void download_shouldReturnFileWithDataHashETag() {
+        // when
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                fileUrl(), HttpMethod.GET, new HttpEntity<>(createAuthHeaders()), byte[].class);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getBody()).isEqualTo(CONTENT),
+                () -> assertThat(response.getHeaders().getETag())
+                        .isEqualTo("\"" + entry.getDataHashValue().orElseThrow() + "\"")
+        );
+    }
+
+    @Test
+    @DisplayName("GET /files/** - Range 요청은 206 부분 응답")
+    void download_withRange_shouldReturnPartialContent() {
+        // given
+        HttpHeaders headers = createAuthHeaders();
+        headers.setRange(HttpRange.parseRanges("bytes=0-6"));
+
+        // when
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                fileUrl(), HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT),
+                () -> assertThat(new String(response.getBody())).isEqualTo("receipt")
+        );
+    }
+
+    @Test
+    @DisplayName("GET /files/** - If-None-Match 일치 시 304")
+    void download_withMatchingETag_shouldReturnNotModified() {
+        // given
+        HttpHeaders headers = createAuthHeaders();
+        headers.setIfNoneMatch("\"" + entry.getDataHashValue().orElseThrow() + "\"");
+
+        // when
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                fileUrl(), HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("GET /files/** - 없는 파일은 404")
+    void download_missingFile_shouldReturnNotFound() {
+        assertThatThrownBy(() -> restTemplate.exchange(
+                "http://localhost:" + port + "/files/missing.pdf",
+                HttpMethod.GET, new HttpEntity<>(createAuthHeaders()), byte[].class))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+    }
+}
@@ -1,13 +1,17 @@
 package com.vericerti.controller;
 
 import com.vericerti.application.command.CreateLedgerEntryCommand;
+import com.vericerti.application.command.LoginCommand;
+import com.vericerti.application.command.SignupCommand;
 import com.vericerti.config.BaseIntegrationTest;
 import com.vericerti.controller.ledger.response.LedgerResponse;
 import com.vericerti.controller.ledger.response.VerifyResponse;
+import com.vericerti.domain.auth.service.AuthService;
 import com.vericerti.domain.common.vo.BusinessNumber;
 import com.vericerti.domain.ledger.entity.LedgerEntityType;
 import com.vericerti.domain.ledger.entity.LedgerEntry;
 import com.vericerti.domain.ledger.service.LedgerService;
+import com.vericerti.domain.member.entity.MemberRole;
 import com.vericerti.domain.organization.entity.Organization;
 import com.vericerti.domain.organization.repository.OrganizationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,15 +20,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class LedgerControllerIntegrationTest extends BaseIntegrationTest {
@@ -40,12 +50,23 @@ class LedgerControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private OrganizationRepository organizationRepository;
 
+    @Autowired
+    private AuthService authService;
+
     private Organization testOrg;
 
     private String baseUrl() {
         return "http://localhost:" + port;
     }
 
+    private HttpEntity<Void> authorized(MemberRole role) {
+        String email = "test-" + UUID.randomUUID() + "@example.com";
+        authService.signup(new SignupCommand(email, "password123", role));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authService.login(new LoginCommand(email, "password123")).accessToken());
+        return new HttpEntity<>(headers);
+    }
+
     @BeforeEach
     void setUp() {
         testOrg = organizationRepository.save(Organization.builder()
@@ -145,6 +166,75 @@ class LedgerControllerIntegrationTest extends BaseIntegrationTest {
                 ()->assertThat(response.getBody().verified()).isFalse()
         );
     }
-}
 
+    @Test
+    @DisplayName("GET /api/ledger/integrity/scrub - ADMIN이 아니면 403")
+    void scrubProgress_withNonAdmin_shouldReturnForbidden() {
+        // given
+        HttpEntity<Void> donor = authorized(MemberRole.DONOR);
+        HttpEntity<Void> admin = authorized(MemberRole.ADMIN);
+        String url = baseUrl() + "/api/ledger/integrity/scrub";
+
+        // when
+        ResponseEntity<Map<String, Object>> adminResponse = restTemplate.exchange(
+                url, HttpMethod.GET, admin, new ParameterizedTypeReference<>() {});
+
+        // then
+        assertAll(
+                () -> assertThatThrownBy(() -> restTemplate.exchange(url, HttpMethod.GET, donor, String.class))
+                        .isInstanceOf(HttpClientErrorException.Forbidden.class),
+                () -> assertThat(adminResponse.getStatusCode()).isEqualTo(HttpStatus.OK)
+        );
+    }
+
+    @Test
+    @DisplayName("GET /api/ledger/sync/queue - ADMIN이 아니면 403")
+    void syncQueueDepth_withNonAdmin_shouldReturnForbidden() {
+        // given
+        HttpEntity<Void> donor = authorized(MemberRole.DONOR);
+        HttpEntity<Void> admin = authorized(MemberRole.ADMIN);
+        String url = baseUrl() + "/api/ledger/sync/queue";
+
+        // when
+        ResponseEntity<Map<String, Object>> adminResponse = restTemplate.exchange(
+                url, HttpMethod.GET, admin, new ParameterizedTypeReference<>() {});
+
+        // then
+        assertAll(
+                () -> assertThatThrownBy(() -> restTemplate.exchange(url, HttpMethod.GET, donor, String.class))
+                        .isInstanceOf(HttpClientErrorException.Forbidden.class),
+                () -> assertThat(adminResponse.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(adminResponse.getBody()).containsKeys("outbox", "verification")
+        );
+    }
+
+    @Test
+    @DisplayName("POST/GET /api/ledger/sync/retry-failed - ADMIN이 아니면 403")
+    void retryFailed_withNonAdmin_shouldReturnForbidden() {
+        // given
+        HttpEntity<Void> donor = authorized(MemberRole.DONOR);
+        String url = baseUrl() + "/api/ledger/sync/retry-failed";
 
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> restTemplate.exchange(url, HttpMethod.POST, donor, String.class))
+                        .isInstanceOf(HttpClientErrorException.Forbidden.class),
+                () -> assertThatThrownBy(() -> restTemplate.exchange(url, HttpMethod.GET, donor, String.class))
+                        .isInstanceOf(HttpClientErrorException.Forbidden.class),
+                () -> assertThat(redisTemplate.hasKey("blockchain:retry:lock")).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("POST /api/ledger/sync/retry-failed - 다른 인스턴스에서 실행 중이면 409")
+    void retryFailed_whileRunningElsewhere_shouldReturnConflict() {
+        // given
+        HttpEntity<Void> admin = authorized(MemberRole.ADMIN);
+        redisTemplate.opsForValue().set("blockchain:retry:lock", "other-instance", Duration.ofMinutes(1));
+
+        // when & then
+        assertThatThrownBy(() -> restTemplate.exchange(
+                baseUrl() + "/api/ledger/sync/retry-failed", HttpMethod.POST, admin, String.class))
+                .isInstanceOf(HttpClientErrorException.Conflict.class);
+    }
+}
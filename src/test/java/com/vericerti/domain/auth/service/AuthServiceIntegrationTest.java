@@ -6,6 +6,8 @@ import com.vericerti.application.dto.SignupResult;
 import com.vericerti.application.dto.TokenResult;
 import com.vericerti.config.BaseIntegrationTest;
 import com.vericerti.domain.member.entity.MemberRole;
+import com.vericerti.infrastructure.security.JwtTokenProvider;
+import com.vericerti.infrastructure.security.TokenRevocationList;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +22,16 @@ class AuthServiceIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    private boolean isRevoked(String accessToken) {
+        return tokenRevocationList.isRevoked(jwtTokenProvider.parseAccessToken(accessToken).orElseThrow());
+    }
+
     @Test
     @DisplayName("signup - 회원가입 성공")
     void signup_shouldCreateMember() {
@@ -110,6 +122,8 @@ class AuthServiceIntegrationTest extends BaseIntegrationTest {
         String usedToken = initialTokens.refreshToken();
 
         authService.refresh(usedToken);
+        // 동시 요청 중복으로 보는 rotation-grace-ms가 지난 뒤의 재사용
+        redisTemplate.delete(redisTemplate.keys("refresh_token:*:rotated:*"));
 
         // when & then
         assertThatThrownBy(() -> authService.refresh(usedToken))
@@ -122,7 +136,27 @@ class AuthServiceIntegrationTest extends BaseIntegrationTest {
         assertThatThrownBy(() -> authService.refresh("invalid.token.here"))
                 .isInstanceOf(com.vericerti.infrastructure.exception.AuthenticationException.class);
     }
-}
 
+    @Test
+    @DisplayName("logout - 제시한 access token만 폐기, 다른 기기와 곧바로 재로그인한 토큰은 유효")
+    void logout_shouldRevokeOnlyPresentedAccessToken() {
+        // given
+        String email = "logout@example.com";
+        SignupResult member = authService.signup(new SignupCommand(email, "password123", MemberRole.DONOR));
+        TokenResult thisDevice = authService.login(new LoginCommand(email, "password123"));
+        TokenResult otherDevice = authService.login(new LoginCommand(email, "password123"));
 
+        // when
+        authService.logout(member.memberId(), thisDevice.accessToken(), thisDevice.refreshToken());
+        TokenResult relogin = authService.login(new LoginCommand(email, "password123"));
 
+        // then
+        assertAll(
+                () -> assertThat(isRevoked(thisDevice.accessToken())).isTrue(),
+                () -> assertThat(isRevoked(otherDevice.accessToken())).isFalse(),
+                () -> assertThat(isRevoked(relogin.accessToken())).isFalse(),
+                () -> assertThatThrownBy(() -> authService.refresh(thisDevice.refreshToken()))
+                        .isInstanceOf(com.vericerti.infrastructure.exception.AuthenticationException.class)
+        );
+    }
+}
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("LedgerEntry Entity")
@@ -155,6 +157,52 @@ class LedgerEntryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Merkle Proof")
+    class MerkleProof {
+
+        private static final String ROOT = "0x" + "d".repeat(64);
+
+        @Test
+        @DisplayName("should attach merkle proof to pending entry")
+        void shouldAttachMerkleProofToPendingEntry() {
+            // when
+            pendingEntry.attachMerkleProof(ROOT, List.of("0x01", "0x02"));
+
+            // then
+            assertThat(pendingEntry.isBatchAnchored()).isTrue();
+            assertThat(pendingEntry.getMerkleRoot()).isEqualTo(ROOT);
+            assertThat(pendingEntry.getMerkleProofNodes()).containsExactly("0x01", "0x02");
+        }
+
+        @Test
+        @DisplayName("should throw exception when attaching proof to recorded entry")
+        void shouldThrowExceptionWhenAttachingProofToRecordedEntry() {
+            // given
+            pendingEntry.markAsRecorded(TX_HASH);
+
+            // when & then
+            assertThatThrownBy(() -> pendingEntry.attachMerkleProof(ROOT, List.of()))
+                    .isInstanceOf(IllegalStateTransitionException.class)
+                    .hasMessageContaining("RECORDED");
+        }
+
+        @Test
+        @DisplayName("should clear merkle proof on retry")
+        void shouldClearMerkleProofOnRetry() {
+            // given
+            pendingEntry.attachMerkleProof(ROOT, List.of("0x01"));
+            pendingEntry.markAsFailed();
+
+            // when
+            pendingEntry.retry();
+
+            // then
+            assertThat(pendingEntry.isBatchAnchored()).isFalse();
+            assertThat(pendingEntry.getMerkleProofNodes()).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("Status Checks")
     class StatusChecks {
@@ -5,17 +5,22 @@ import com.vericerti.config.BaseIntegrationTest;
 import com.vericerti.domain.common.vo.BusinessNumber;
 import com.vericerti.domain.ledger.entity.LedgerEntry;
 import com.vericerti.domain.ledger.entity.LedgerEntityType;
+import com.vericerti.domain.ledger.entity.LedgerOutbox;
 import com.vericerti.domain.ledger.entity.LedgerStatus;
+import com.vericerti.domain.ledger.entity.StoredBlob;
 import com.vericerti.domain.ledger.repository.LedgerEntryRepository;
 import com.vericerti.domain.organization.entity.Organization;
 import com.vericerti.domain.organization.repository.OrganizationRepository;
+import com.vericerti.infrastructure.config.StorageProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +38,12 @@ class LedgerServiceIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private LedgerEntryRepository ledgerEntryRepository;
 
+    @Autowired
+    private StorageProperties storageProperties;
+
+    @Autowired
+    private LedgerOutboxService ledgerOutboxService;
+
     private Organization testOrg1;
     private Organization testOrg2;
 
@@ -148,6 +159,28 @@ class LedgerServiceIntegrationTest extends BaseIntegrationTest {
         assertThat(updated.getStatus()).isEqualTo(LedgerStatus.FAILED);
     }
 
+    @Test
+    @DisplayName("markAllAsRecorded - PENDING 엔트리만 일괄 전환, 이미 처리된 엔트리는 건너뜀")
+    void markAllAsRecorded_shouldSkipNonPending() {
+        // given
+        LedgerEntry pending = createAndSaveEntry(testOrg1.getId(), 100L);
+        LedgerEntry failed = createAndSaveEntry(testOrg1.getId(), 101L);
+        ledgerService.markAsFailed(failed.getId());
+        String txHash = "0x" + "b".repeat(64);
+
+        // when
+        int updated = ledgerService.markAllAsRecorded(Map.of(pending.getId(), txHash, failed.getId(), txHash));
+
+        // then
+        assertAll(
+                () -> assertThat(updated).isEqualTo(1),
+                () -> assertThat(ledgerEntryRepository.findById(pending.getId()).orElseThrow().getStatus())
+                        .isEqualTo(LedgerStatus.RECORDED),
+                () -> assertThat(ledgerEntryRepository.findById(failed.getId()).orElseThrow().getStatus())
+                        .isEqualTo(LedgerStatus.FAILED)
+        );
+    }
+
     @Test
     @DisplayName("markAsRecorded - 존재하지 않는 Entry ID")
     void markAsRecorded_withInvalidId_shouldThrow() {
@@ -188,6 +221,98 @@ class LedgerServiceIntegrationTest extends BaseIntegrationTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("createEntry - content-addressed 모드에서 같은 내용을 두 번 올리면 파일 하나를 공유하고 참조 수 2")
+    void createEntry_withDuplicateContent_shouldShareBlob() {
+        // given
+        storageProperties.getLocal().setContentAddressed(true);
+        byte[] content = ("duplicate receipt " + UUID.randomUUID()).getBytes();
+
+        try {
+            // when
+            LedgerEntry first = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                    testOrg1.getId(), LedgerEntityType.DONATION, 100L, content, "a.pdf"));
+            LedgerEntry second = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                    testOrg2.getId(), LedgerEntityType.DONATION, 200L, content, "b.pdf"));
+
+            // then
+            StoredBlob blob = storedBlobRepository.findByFileUrl(first.getFileUrl()).orElseThrow();
+            assertAll(
+                    () -> assertThat(second.getFileUrl()).isEqualTo(first.getFileUrl()),
+                    () -> assertThat(blob.getDataHash()).isEqualTo(first.getDataHashValue().orElseThrow()),
+                    () -> assertThat(blob.getSize()).isEqualTo((long) content.length),
+                    () -> assertThat(blob.getRefCount()).isEqualTo(2)
+            );
+        } finally {
+            storageProperties.getLocal().setContentAddressed(false);
+        }
+    }
+
+    @Test
+    @DisplayName("createEntry - 기본 모드에서는 업로드마다 파일과 참조 기록이 따로 생김")
+    void createEntry_shouldRecordBlobReference() {
+        // when
+        LedgerEntry entry = createAndSaveEntry(testOrg1.getId(), 100L);
+
+        // then
+        StoredBlob blob = storedBlobRepository.findByFileUrl(entry.getFileUrl()).orElseThrow();
+        assertAll(
+                () -> assertThat(blob.getDataHash()).isEqualTo(entry.getDataHashValue().orElseThrow()),
+                () -> assertThat(blob.getRefCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("createEntry - 같은 트랜잭션에서 outbox 행 기록, claim한 행은 lease 동안 다시 claim되지 않음")
+    void createEntry_shouldWriteOutboxRow() {
+        // given
+        LedgerEntry first = createAndSaveEntry(testOrg1.getId(), 100L);
+        LedgerEntry second = createAndSaveEntry(testOrg1.getId(), 101L);
+
+        // when
+        List<LedgerOutbox> claimed = ledgerOutboxService.claim(1, Duration.ofMinutes(5));
+        List<LedgerOutbox> claimedAgain = ledgerOutboxService.claim(10, Duration.ofMinutes(5));
+        ledgerOutboxService.complete(claimed.stream().map(LedgerOutbox::getId).toList());
+
+        // then
+        assertAll(
+                () -> assertThat(claimed).extracting(LedgerOutbox::getEntryId).containsExactly(first.getId()),
+                () -> assertThat(claimedAgain).extracting(LedgerOutbox::getEntryId).containsExactly(second.getId()),
+                () -> assertThat(ledgerOutboxRepository.countByEntryId(first.getId())).isZero(),
+                () -> assertThat(ledgerOutboxRepository.countByEntryId(second.getId())).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("deadLetter - 최대 시도를 넘긴 행은 claim되지 않고 엔트리는 FAILED, FAILED 재시도 시 새 행으로 다시 claim")
+    void deadLetter_shouldStopClaimingUntilRetried() {
+        // given
+        LedgerEntry entry = createAndSaveEntry(testOrg1.getId(), 100L);
+        List<LedgerOutbox> claimed = ledgerOutboxService.claim(10, Duration.ZERO);
+
+        // when
+        ledgerOutboxService.deadLetter(claimed);
+        List<LedgerOutbox> afterDeadLetter = ledgerOutboxService.claim(10, Duration.ZERO);
+        LedgerStatus statusAfterDeadLetter = ledgerEntryRepository.findById(entry.getId()).orElseThrow().getStatus();
+        LedgerOutboxService.OutboxDepth depth = ledgerOutboxService.depth();
+
+        ledgerService.retryFailed(List.of(entry.getId()));
+        List<LedgerOutbox> afterRetry = ledgerOutboxService.claim(10, Duration.ZERO);
+
+        // then
+        assertAll(
+                () -> assertThat(afterDeadLetter).isEmpty(),
+                () -> assertThat(statusAfterDeadLetter).isEqualTo(LedgerStatus.FAILED),
+                () -> assertThat(depth.deadLettered()).isEqualTo(1),
+                () -> assertThat(depth.available()).isZero(),
+                () -> assertThat(afterRetry).singleElement().satisfies(row -> {
+                    assertThat(row.getEntryId()).isEqualTo(entry.getId());
+                    assertThat(row.getAttempts()).isZero();
+                }),
+                () -> assertThat(ledgerOutboxRepository.countByEntryId(entry.getId())).isEqualTo(1)
+        );
+    }
+
     private LedgerEntry createAndSaveEntry(Long orgId, Long entityId) {
         return ledgerService.createEntry(
                 new CreateLedgerEntryCommand(
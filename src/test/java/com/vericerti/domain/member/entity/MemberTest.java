@@ -148,6 +148,33 @@ class MemberTest {
         }
     }
 
+    @Nested
+    @DisplayName("Change Role Operation")
+    class ChangeRoleOperation {
+
+        @Test
+        @DisplayName("should change role of active member")
+        void shouldChangeRoleOfActiveMember() {
+            // when
+            activeMember.changeRole(MemberRole.ADMIN);
+
+            // then
+            assertThat(activeMember.getRole()).isEqualTo(MemberRole.ADMIN);
+        }
+
+        @Test
+        @DisplayName("should throw exception when changing role of withdrawn member")
+        void shouldThrowExceptionWhenChangingRoleOfWithdrawn() {
+            // given
+            activeMember.withdraw();
+
+            // when & then
+            assertThatThrownBy(() -> activeMember.changeRole(MemberRole.ADMIN))
+                    .isInstanceOf(MemberOperationException.class)
+                    .hasMessageContaining("withdrawn");
+        }
+    }
+
     @Nested
     @DisplayName("Status Checks")
     class StatusChecks {
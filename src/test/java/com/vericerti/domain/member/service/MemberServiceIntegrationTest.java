@@ -1,11 +1,16 @@
 package com.vericerti.domain.member.service;
 
+import com.vericerti.application.command.LoginCommand;
 import com.vericerti.application.command.SignupCommand;
+import com.vericerti.application.dto.TokenResult;
 import com.vericerti.config.BaseIntegrationTest;
 import com.vericerti.domain.auth.service.AuthService;
 import com.vericerti.domain.member.entity.Member;
 import com.vericerti.domain.member.entity.MemberRole;
+import com.vericerti.infrastructure.exception.AuthenticationException;
 import com.vericerti.infrastructure.exception.EntityNotFoundException;
+import com.vericerti.infrastructure.security.JwtTokenProvider;
+import com.vericerti.infrastructure.security.TokenRevocationList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,12 @@ class MemberServiceIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     private static final String TEST_EMAIL = "member@example.com";
     private static final String TEST_PASSWORD = "password123";
 
@@ -96,4 +107,39 @@ class MemberServiceIntegrationTest extends BaseIntegrationTest {
         // then
         assertThat(exists).isFalse();
     }
+
+    @Test
+    @DisplayName("suspend - 발급된 access token을 폐기하고 refresh도 거부")
+    void suspend_shouldRevokeTokens() {
+        // given
+        TokenResult tokens = authService.login(new LoginCommand(TEST_EMAIL, TEST_PASSWORD));
+        JwtTokenProvider.VerifiedToken accessToken = jwtTokenProvider.parse(tokens.accessToken()).orElseThrow();
+
+        // when
+        memberService.suspend(createdMemberId, "abuse");
+
+        // then
+        assertAll(
+                () -> assertThat(tokenRevocationList.isRevoked(accessToken)).isTrue(),
+                () -> assertThatThrownBy(() -> authService.refresh(tokens.refreshToken()))
+                        .isInstanceOf(AuthenticationException.class)
+        );
+    }
+
+    @Test
+    @DisplayName("changeRole - 역할을 바꾸면 이전 역할의 access token 폐기")
+    void changeRole_shouldRevokeAccessToken() {
+        // given
+        TokenResult tokens = authService.login(new LoginCommand(TEST_EMAIL, TEST_PASSWORD));
+        JwtTokenProvider.VerifiedToken accessToken = jwtTokenProvider.parse(tokens.accessToken()).orElseThrow();
+
+        // when
+        memberService.changeRole(createdMemberId, MemberRole.ADMIN);
+
+        // then
+        assertAll(
+                () -> assertThat(memberService.findById(createdMemberId).getRole()).isEqualTo(MemberRole.ADMIN),
+                () -> assertThat(tokenRevocationList.isRevoked(accessToken)).isTrue()
+        );
+    }
 }
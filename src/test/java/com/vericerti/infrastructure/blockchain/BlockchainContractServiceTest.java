@@ -0,0 +1,107 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * BlockchainContractService 단위 테스트.
+ * Redis 조회 횟수를 세는 템플릿으로 주소 캐시와 장애 시 재시도 간격을 확인합니다.
+ */
+@DisplayName("BlockchainContractService")
+class BlockchainContractServiceTest {
+
+    private static final String ADDRESS = "0x" + "1".repeat(40);
+
+    private StubRedisTemplate redisTemplate;
+    private BlockchainProperties properties;
+    private BlockchainContractService service;
+
+    /**
+     * opsForValue().get 호출 수를 세고, available=false면 연결 실패를 던지는 템플릿
+     */
+    private static class StubRedisTemplate extends StringRedisTemplate {
+
+        private final AtomicInteger reads = new AtomicInteger();
+        private volatile boolean available = true;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ValueOperations<String, String> opsForValue() {
+            return (ValueOperations<String, String>) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class<?>[]{ValueOperations.class},
+                    (proxy, method, args) -> {
+                        if (!method.getName().equals("get")) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        reads.incrementAndGet();
+                        if (!available) {
+                            throw new RedisConnectionFailureException("Redis is down");
+                        }
+                        return ADDRESS;
+                    });
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = new StubRedisTemplate();
+        properties = new BlockchainProperties();
+        properties.setContractAddressCacheTtl(Duration.ZERO);
+        properties.setContractAddressRetryDelay(Duration.ofMinutes(1));
+        service = new BlockchainContractService(redisTemplate, null, properties);
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 retry-delay 동안 다시 조회하지 않고 마지막 주소 사용")
+    void getContractAddress_afterRedisFailure_shouldBackOff() {
+        // given
+        service.getContractAddress();
+        redisTemplate.available = false;
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            service.getContractAddress();
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(service.getContractAddress()).contains(ADDRESS),
+                () -> assertThat(redisTemplate.reads).hasValue(2)
+        );
+    }
+
+    @Test
+    @DisplayName("retry-delay가 지나면 다시 조회하고, 성공하면 일반 TTL로 돌아감")
+    void getContractAddress_afterRetryDelay_shouldReload() {
+        // given
+        redisTemplate.available = false;
+        service.getContractAddress();
+        properties.setContractAddressRetryDelay(Duration.ZERO);
+        redisTemplate.available = true;
+
+        // when
+        Optional<String> address = service.getContractAddress();
+        properties.setContractAddressCacheTtl(Duration.ofMinutes(1));
+        service.getContractAddress();
+
+        // then
+        assertAll(
+                () -> assertThat(address).contains(ADDRESS),
+                () -> assertThat(redisTemplate.reads).hasValue(2)
+        );
+    }
+}
@@ -0,0 +1,152 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.domain.common.vo.BusinessNumber;
+import com.vericerti.domain.common.vo.DataHash;
+import com.vericerti.domain.ledger.entity.LedgerEntityType;
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.entity.RegisteredHash;
+import com.vericerti.domain.ledger.entity.RegisteredHashType;
+import com.vericerti.domain.organization.entity.Organization;
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.web3j.abi.EventEncoder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * BlockchainEventIndexer 통합 테스트.
+ * 스텁 노드의 eth_getLogs 응답으로 확인 깊이 제한, reorg로 제거된 로그 처리,
+ * 컨트랙트 재배포 시 이전 컨트랙트 기록을 쓰지 않는지 확인합니다.
+ */
+class BlockchainEventIndexerIntegrationTest extends StubNodeIntegrationTest {
+
+    private static final String HASH_REGISTERED_TOPIC =
+            EventEncoder.buildEventSignature("HashRegistered(bytes32,uint256,uint256,address)");
+    private static final String LAST_BLOCK_KEY = "blockchain:indexer:last-block:" + CONTRACT_ADDRESS;
+    private static final String CONTRACT_ADDRESS_KEY = "blockchain:contract:address";
+    private static final String REDEPLOYED_ADDRESS = "0x" + "3".repeat(40);
+
+    @Autowired
+    private BlockchainEventIndexer blockchainEventIndexer;
+
+    @Autowired
+    private BlockchainProperties blockchainProperties;
+
+    @Autowired
+    private BlockchainContractService blockchainContractService;
+
+    @BeforeEach
+    void setUp() {
+        blockchainProperties.getIndexer().setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockchainProperties.getIndexer().setEnabled(false);
+        // 재배포 테스트에서 바꾼 주소 캐시를 설정값으로 되돌림
+        redisTemplate.delete(CONTRACT_ADDRESS_KEY);
+        blockchainContractService.refresh();
+    }
+
+    private Map<String, Object> hashRegisteredLog(String hashChar, String blockNumber, boolean removed) {
+        return Map.of(
+                "removed", removed,
+                "logIndex", "0x0",
+                "transactionIndex", "0x0",
+                "transactionHash", "0x" + hashChar.repeat(64),
+                "blockHash", "0x" + "e".repeat(64),
+                "blockNumber", blockNumber,
+                "address", CONTRACT_ADDRESS,
+                "data", "0x" + "0".repeat(56) + "6553f100" + "0".repeat(24) + "2".repeat(40),
+                "topics", List.of(HASH_REGISTERED_TOPIC, "0x" + hashChar.repeat(64), "0x" + "0".repeat(63) + "1")
+        );
+    }
+
+    @Test
+    @DisplayName("indexNewEvents - confirmation.depth 블록 확인을 받은 구간까지만 조회")
+    void indexNewEvents_shouldStopAtConfirmationDepth() {
+        // given
+        blockchainProperties.getConfirmation().setDepth(2);
+        AtomicReference<String> requestedToBlock = new AtomicReference<>();
+        node.respond("eth_getLogs", params -> {
+            requestedToBlock.set(params.get(0).get("toBlock").asText());
+            return List.of();
+        });
+
+        // when
+        blockchainEventIndexer.indexNewEvents();
+
+        // then: head 100, depth 2 → 99번 블록까지
+        assertAll(
+                () -> assertThat(requestedToBlock.get()).isEqualTo("0x63"),
+                () -> assertThat(redisTemplate.opsForValue().get(LAST_BLOCK_KEY)).isEqualTo("99")
+        );
+    }
+
+    @Test
+    @DisplayName("indexNewEvents - reorg로 제거된 로그는 저장하지 않음")
+    void indexNewEvents_shouldSkipRemovedLogs() {
+        // given
+        node.respond("eth_getLogs", params -> List.of(
+                hashRegisteredLog("a", "0x10", false),
+                hashRegisteredLog("b", "0x11", true)
+        ));
+
+        // when
+        blockchainEventIndexer.indexNewEvents();
+
+        // then
+        List<RegisteredHash> indexed = registeredHashRepository.findAll();
+        assertAll(
+                () -> assertThat(indexed).extracting(RegisteredHash::getHashValue).containsExactly("a".repeat(64)),
+                () -> assertThat(indexed).extracting(RegisteredHash::getType).containsExactly(RegisteredHashType.DATA_HASH),
+                () -> assertThat(indexed).extracting(RegisteredHash::getBlockNumber).containsExactly(16L)
+        );
+    }
+
+    @Test
+    @DisplayName("findRegistered - 컨트랙트 주소가 바뀌면 이전 컨트랙트의 기록은 쓰지 않고 새 컨트랙트 기록만 인정")
+    void findRegistered_afterContractAddressChange_shouldIgnorePreviousContract() {
+        // given: 이전 컨트랙트에서 인덱싱된 해시
+        Organization organization = organizationRepository.save(Organization.builder()
+                .name("Test Organization")
+                .businessNumber(BusinessNumber.of("123-45-67890"))
+                .build());
+        LedgerEntry entry = ledgerEntryRepository.save(LedgerEntry.builder()
+                .organizationId(organization.getId())
+                .entityType(LedgerEntityType.DONATION)
+                .entityId(1L)
+                .dataHash(DataHash.of("a".repeat(64)))
+                .build());
+        node.respond("eth_getLogs", params -> List.of(hashRegisteredLog("a", "0x10", false)));
+        blockchainEventIndexer.indexNewEvents();
+        Map<Long, RegisteredHash> beforeRedeploy = blockchainEventIndexer.findRegistered(List.of(entry));
+
+        // when: 재배포로 주소 변경
+        redisTemplate.opsForValue().set(CONTRACT_ADDRESS_KEY, REDEPLOYED_ADDRESS);
+        blockchainContractService.refresh();
+        Map<Long, RegisteredHash> afterRedeploy = blockchainEventIndexer.findRegistered(List.of(entry));
+
+        blockchainEventIndexer.indexNewEvents();
+        Map<Long, RegisteredHash> afterReindex = blockchainEventIndexer.findRegistered(List.of(entry));
+
+        // then
+        assertAll(
+                () -> assertThat(beforeRedeploy).containsKey(entry.getId()),
+                () -> assertThat(afterRedeploy).isEmpty(),
+                () -> assertThat(afterReindex.get(entry.getId()).getContractAddress()).isEqualTo(REDEPLOYED_ADDRESS),
+                () -> assertThat(registeredHashRepository.findAll())
+                        .extracting(RegisteredHash::getContractAddress)
+                        .containsExactlyInAnyOrder(CONTRACT_ADDRESS, REDEPLOYED_ADDRESS)
+        );
+    }
+}
@@ -0,0 +1,250 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.domain.common.vo.BusinessNumber;
+import com.vericerti.domain.common.vo.DataHash;
+import com.vericerti.domain.ledger.entity.LedgerEntityType;
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.entity.LedgerStatus;
+import com.vericerti.domain.organization.entity.Organization;
+import com.vericerti.infrastructure.blockchain.PendingVerificationQueue.PendingVerification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * BlockchainSyncScheduler 통합 테스트.
+ * 스텁 노드의 receipt/eth_call 응답에 따라 검증 대기 큐와 엔트리 상태가 바뀌는지 확인합니다.
+ */
+class BlockchainSyncSchedulerIntegrationTest extends StubNodeIntegrationTest {
+
+    private static final String ENTRIES_KEY = "blockchain:pending:verification:entries";
+
+    @Autowired
+    private BlockchainSyncScheduler blockchainSyncScheduler;
+
+    @Autowired
+    private PendingVerificationQueue pendingVerificationQueue;
+
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        organization = organizationRepository.save(Organization.builder()
+                .name("Test Organization")
+                .businessNumber(BusinessNumber.of("123-45-67890"))
+                .build());
+    }
+
+    private LedgerEntry savePendingEntry(String hashChar) {
+        return ledgerEntryRepository.save(LedgerEntry.builder()
+                .organizationId(organization.getId())
+                .entityType(LedgerEntityType.DONATION)
+                .entityId(1L)
+                .dataHash(DataHash.of(hashChar.repeat(64)))
+                .build());
+    }
+
+    /**
+     * confirmation.timeout이 지난 제출 → receipt가 없으면 해시 검증으로 판정
+     */
+    private void enqueueTimedOut(Long entryId, String txHash) {
+        long submittedAt = System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+        pendingVerificationQueue.enqueue(new PendingVerification(entryId, txHash, 0, submittedAt), Duration.ZERO);
+    }
+
+    private void respondReceipt(String txHash, String blockNumber, String status) {
+        node.respond("eth_getTransactionReceipt", params -> txHash.equals(params.get(0).asText())
+                ? Map.of(
+                        "transactionHash", txHash,
+                        "transactionIndex", "0x0",
+                        "blockHash", "0x" + "e".repeat(64),
+                        "blockNumber", blockNumber,
+                        "gasUsed", "0x5208",
+                        "cumulativeGasUsed", "0x5208",
+                        "status", status,
+                        "logs", List.of())
+                : null);
+    }
+
+    @Test
+    @DisplayName("syncVerifiedEntries - 확인 수가 confirmation.depth보다 적으면 PENDING 유지하고 다시 예약")
+    void syncVerifiedEntries_belowConfirmationDepth_shouldStayPending() {
+        // given: head 0x64, receipt 블록 0x64 → 확인 1 < depth 2
+        LedgerEntry entry = savePendingEntry("1");
+        String txHash = "0x" + "2".repeat(64);
+        pendingVerificationQueue.enqueue(entry.getId(), txHash, 0, Duration.ZERO);
+        respondReceipt(txHash, "0x64", "0x1");
+
+        // when
+        blockchainSyncScheduler.syncVerifiedEntries();
+
+        // then
+        LedgerEntry updated = ledgerEntryRepository.findById(entry.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(updated.getStatus()).isEqualTo(LedgerStatus.PENDING),
+                () -> assertThat(pendingVerificationQueue.contains(entry.getId())).isTrue(),
+                () -> assertThat(pendingVerificationQueue.findDue(10)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("syncVerifiedEntries - confirmation.depth 이상 확인된 성공 receipt는 eth_call 없이 RECORDED")
+    void syncVerifiedEntries_atConfirmationDepth_shouldRecord() {
+        // given: head 0x64, receipt 블록 0x63 → 확인 2
+        LedgerEntry entry = savePendingEntry("3");
+        String txHash = "0x" + "4".repeat(64);
+        pendingVerificationQueue.enqueue(entry.getId(), txHash, 0, Duration.ZERO);
+        respondReceipt(txHash, "0x63", "0x1");
+
+        // when
+        blockchainSyncScheduler.syncVerifiedEntries();
+
+        // then
+        LedgerEntry updated = ledgerEntryRepository.findById(entry.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(updated.getStatus()).isEqualTo(LedgerStatus.RECORDED),
+                () -> assertThat(updated.getTxHashValue()).contains(txHash),
+                () -> assertThat(pendingVerificationQueue.contains(entry.getId())).isFalse(),
+                () -> assertThat(node.calls("eth_call")).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("syncVerifiedEntries - revert된 트랜잭션이고 해시도 없으면 재시도 없이 FAILED")
+    void syncVerifiedEntries_revertedAndNotRegistered_shouldFail() {
+        // given
+        LedgerEntry entry = savePendingEntry("5");
+        String txHash = "0x" + "6".repeat(64);
+        pendingVerificationQueue.enqueue(entry.getId(), txHash, 0, Duration.ZERO);
+        respondReceipt(txHash, "0x10", "0x0");
+
+        // when
+        blockchainSyncScheduler.syncVerifiedEntries();
+
+        // then
+        LedgerEntry updated = ledgerEntryRepository.findById(entry.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(updated.getStatus()).isEqualTo(LedgerStatus.FAILED),
+                () -> assertThat(pendingVerificationQueue.contains(entry.getId())).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("syncVerifiedEntries - 교체 전 트랜잭션이 채굴되면 그 txHash로 RECORDED")
+    void syncVerifiedEntries_originalMinedAfterReplacement_shouldRecordOriginal() {
+        // given
+        LedgerEntry entry = savePendingEntry("7");
+        String original = "0x" + "8".repeat(64);
+        String replacement = "0x" + "9".repeat(64);
+        pendingVerificationQueue.enqueue(new PendingVerification(entry.getId(), replacement, 1,
+                System.currentTimeMillis(), List.of(original)), Duration.ZERO);
+        respondReceipt(original, "0x63", "0x1");
+
+        // when
+        blockchainSyncScheduler.syncVerifiedEntries();
+
+        // then
+        LedgerEntry updated = ledgerEntryRepository.findById(entry.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(updated.getStatus()).isEqualTo(LedgerStatus.RECORDED),
+                () -> assertThat(updated.getTxHashValue()).contains(original),
+                () -> assertThat(pendingVerificationQueue.contains(entry.getId())).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("syncVerifiedEntries - mempool의 트랜잭션을 교체하면 교체본과 교체 전 txHash를 모두 추적")
+    void syncVerifiedEntries_replaced_shouldTrackBothTxHashes() {
+        // given
+        LedgerEntry entry = savePendingEntry("8");
+        String original = "0x" + "a".repeat(64);
+        enqueueTimedOut(entry.getId(), original);
+        node.respond("eth_getTransactionByHash", params -> Map.of(
+                "hash", original,
+                "nonce", "0x3",
+                "from", "0x" + "2".repeat(40),
+                "to", CONTRACT_ADDRESS,
+                "value", "0x0",
+                "gas", "0x30d40",
+                "gasPrice", "0x1",
+                "input", "0x"));
+
+        // when
+        blockchainSyncScheduler.syncVerifiedEntries();
+
+        // then
+        Object queued = redisTemplate.opsForHash().get(ENTRIES_KEY, entry.getId().toString());
+        assertAll(
+                () -> assertThat(node.calls("eth_sendRawTransaction")).isEqualTo(1),
+                () -> assertThat(queued).asString().doesNotStartWith(original).endsWith(":" + original)
+        );
+    }
+
+    @Test
+    @DisplayName("syncVerifiedEntries - DB에서 삭제된 엔트리는 검증 대기 큐에서 제거")
+    void syncVerifiedEntries_shouldDropMissingEntries() {
+        // given
+        LedgerEntry deleted = savePendingEntry("a");
+        ledgerEntryRepository.delete(deleted);
+        enqueueTimedOut(deleted.getId(), "0x" + "b".repeat(64));
+
+        // when
+        blockchainSyncScheduler.syncVerifiedEntries();
+
+        // then
+        assertAll(
+                () -> assertThat(pendingVerificationQueue.contains(deleted.getId())).isFalse(),
+                () -> assertThat(pendingVerificationQueue.size()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("syncVerifiedEntries - 해시 검증이 RPC 오류로 실패하면 PENDING 유지하고 바로 다시 조회하지 않음")
+    void syncVerifiedEntries_rpcError_shouldBackOff() {
+        // given
+        LedgerEntry entry = savePendingEntry("e");
+        enqueueTimedOut(entry.getId(), "0x" + "f".repeat(64));
+        node.respond("eth_call", params -> {
+            throw new IllegalStateException("node unavailable");
+        });
+
+        // when
+        blockchainSyncScheduler.syncVerifiedEntries();
+
+        // then
+        LedgerEntry updated = ledgerEntryRepository.findById(entry.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(updated.getStatus()).isEqualTo(LedgerStatus.PENDING),
+                () -> assertThat(pendingVerificationQueue.contains(entry.getId())).isTrue(),
+                () -> assertThat(pendingVerificationQueue.findDue(10)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("syncVerifiedEntries - 체인에 등록된 엔트리는 RECORDED로 전환하고 큐에서 제거")
+    void syncVerifiedEntries_shouldRecordRegisteredEntries() {
+        // given
+        LedgerEntry entry = savePendingEntry("c");
+        String txHash = "0x" + "d".repeat(64);
+        enqueueTimedOut(entry.getId(), txHash);
+        node.respond("eth_call", params -> StubRpcNode.REGISTERED);
+
+        // when
+        blockchainSyncScheduler.syncVerifiedEntries();
+
+        // then
+        LedgerEntry updated = ledgerEntryRepository.findById(entry.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(updated.getStatus()).isEqualTo(LedgerStatus.RECORDED),
+                () -> assertThat(pendingVerificationQueue.contains(entry.getId())).isFalse()
+        );
+    }
+}
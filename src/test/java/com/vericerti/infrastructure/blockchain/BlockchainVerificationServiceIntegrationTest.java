@@ -0,0 +1,131 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.domain.common.vo.BusinessNumber;
+import com.vericerti.domain.common.vo.DataHash;
+import com.vericerti.domain.ledger.entity.LedgerEntityType;
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.organization.entity.Organization;
+import com.vericerti.infrastructure.blockchain.BlockchainVerificationService.VerificationSummary;
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * BlockchainVerificationService 통합 테스트.
+ * 전체 검증 중 RPC batch가 실패했을 때 체크포인트가 어디까지 진행되는지,
+ * batch 안의 일부 호출만 실패했을 때 나머지 결과가 유지되는지 확인합니다.
+ */
+class BlockchainVerificationServiceIntegrationTest extends StubNodeIntegrationTest {
+
+    private static final String RUN = "test";
+    private static final String CHECKPOINT_KEY = "blockchain:verification:checkpoint:" + RUN;
+
+    @Autowired
+    private BlockchainVerificationService blockchainVerificationService;
+
+    @Autowired
+    private BlockchainProperties blockchainProperties;
+
+    private int originalRpcBatchSize;
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        // 엔트리마다 batch 1회 → 특정 엔트리의 batch만 실패시킬 수 있음
+        originalRpcBatchSize = blockchainProperties.getVerification().getRpcBatchSize();
+        blockchainProperties.getVerification().setRpcBatchSize(1);
+
+        organization = organizationRepository.save(Organization.builder()
+                .name("Test Organization")
+                .businessNumber(BusinessNumber.of("123-45-67890"))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockchainProperties.getVerification().setRpcBatchSize(originalRpcBatchSize);
+    }
+
+    private LedgerEntry saveRecordedEntry(String hashChar) {
+        LedgerEntry entry = LedgerEntry.builder()
+                .organizationId(organization.getId())
+                .entityType(LedgerEntityType.DONATION)
+                .entityId(1L)
+                .dataHash(DataHash.of(hashChar.repeat(64)))
+                .build();
+        entry.markAsRecorded("0x" + "f".repeat(64));
+        return ledgerEntryRepository.save(entry);
+    }
+
+    @Test
+    @DisplayName("verifyAllRecorded - RPC batch가 실패하면 그 앞까지만 체크포인트를 남기고 다음 실행에서 이어서 검증")
+    void verifyAllRecorded_withFailedChunk_shouldNotSkipUnverifiedEntries() {
+        // given
+        LedgerEntry first = saveRecordedEntry("a");
+        saveRecordedEntry("b");
+        saveRecordedEntry("c");
+        String failingHash = "b".repeat(64);
+        node.respond("eth_call", params -> {
+            if (params.toString().contains(failingHash)) {
+                throw new IllegalStateException("node unavailable");
+            }
+            return StubRpcNode.REGISTERED;
+        });
+
+        // when
+        VerificationSummary interrupted = blockchainVerificationService.verifyAllRecorded(RUN);
+        Object checkpointLastId = redisTemplate.opsForHash().get(CHECKPOINT_KEY, "lastId");
+
+        node.respond("eth_call", params -> StubRpcNode.REGISTERED);
+        VerificationSummary resumed = blockchainVerificationService.verifyAllRecorded(RUN);
+
+        // then
+        assertAll(
+                () -> assertThat(interrupted.complete()).isFalse(),
+                () -> assertThat(interrupted.verified()).isEqualTo(1),
+                () -> assertThat(interrupted.failed()).isZero(),
+                () -> assertThat(checkpointLastId).isEqualTo(first.getId().toString()),
+                () -> assertThat(resumed.complete()).isTrue(),
+                () -> assertThat(resumed.verified()).isEqualTo(3),
+                () -> assertThat(resumed.failed()).isZero(),
+                () -> assertThat(redisTemplate.hasKey(CHECKPOINT_KEY)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("verifyAllRecorded - batch 안의 eth_call 하나만 오류면 그 엔트리만 미확인으로 세고 나머지는 반영")
+    void verifyAllRecorded_withFailedCallInBatch_shouldCountUnverifiedSeparately() {
+        // given
+        blockchainProperties.getVerification().setRpcBatchSize(10);
+        LedgerEntry first = saveRecordedEntry("a");
+        LedgerEntry broken = saveRecordedEntry("b");
+        LedgerEntry last = saveRecordedEntry("c");
+        String failingHash = "b".repeat(64);
+        node.respond("eth_call", params -> params.toString().contains(failingHash)
+                ? StubRpcNode.RpcError.of("execution reverted")
+                : StubRpcNode.REGISTERED);
+
+        // when
+        Map<Long, Boolean> verifiedById = blockchainVerificationService.verifyEntries(List.of(first, broken, last));
+        VerificationSummary summary = blockchainVerificationService.verifyAllRecorded(RUN);
+
+        // then
+        assertAll(
+                () -> assertThat(node.calls("eth_call")).isEqualTo(6),
+                () -> assertThat(verifiedById).containsOnlyKeys(first.getId(), last.getId()),
+                () -> assertThat(summary.complete()).isTrue(),
+                () -> assertThat(summary.verified()).isEqualTo(2),
+                () -> assertThat(summary.failed()).isZero(),
+                () -> assertThat(summary.unverified()).isEqualTo(1)
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.application.command.CreateLedgerEntryCommand;
+import com.vericerti.config.BaseIntegrationTest;
+import com.vericerti.domain.common.vo.BusinessNumber;
+import com.vericerti.domain.ledger.entity.LedgerEntityType;
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.entity.LedgerStatus;
+import com.vericerti.domain.ledger.service.LedgerService;
+import com.vericerti.domain.organization.entity.Organization;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class FailedEntryRetrierIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private FailedEntryRetrier retrier;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    private Organization createOrganization() {
+        return organizationRepository.save(Organization.builder()
+                .name("테스트 단체")
+                .businessNumber(BusinessNumber.of("BN-" + UUID.randomUUID()))
+                .description("테스트용")
+                .build());
+    }
+
+    private LedgerEntry createFailedEntry(Long organizationId, long entityId) {
+        LedgerEntry entry = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                organizationId, LedgerEntityType.DONATION, entityId, ("file-" + UUID.randomUUID()).getBytes(), "a.pdf"));
+        ledgerService.markAsFailed(entry.getId());
+        return entry;
+    }
+
+    @Test
+    @DisplayName("retry - 조건에 맞는 FAILED 엔트리만 PENDING으로 되돌리고 outbox에 다시 기록")
+    void retry_shouldRequeueMatchingFailedEntries() {
+        // given
+        Organization target = createOrganization();
+        Organization other = createOrganization();
+        LedgerEntry first = createFailedEntry(target.getId(), 1L);
+        LedgerEntry second = createFailedEntry(target.getId(), 2L);
+        LedgerEntry untouched = createFailedEntry(other.getId(), 3L);
+        ledgerOutboxRepository.deleteAll();
+
+        // when
+        FailedEntryRetrier.RetryProgress progress = retrier.retry(
+                new FailedEntryRetrier.RetryFilter(target.getId(), null, null));
+
+        // then
+        assertAll(
+                () -> assertThat(progress.scanned()).isEqualTo(2),
+                () -> assertThat(progress.retried()).isEqualTo(2),
+                () -> assertThat(progress.finishedAt()).isPositive(),
+                () -> assertThat(ledgerEntryRepository.findById(first.getId()).orElseThrow().getStatus())
+                        .isEqualTo(LedgerStatus.PENDING),
+                () -> assertThat(ledgerEntryRepository.findById(second.getId()).orElseThrow().getStatus())
+                        .isEqualTo(LedgerStatus.PENDING),
+                () -> assertThat(ledgerEntryRepository.findById(untouched.getId()).orElseThrow().getStatus())
+                        .isEqualTo(LedgerStatus.FAILED),
+                () -> assertThat(ledgerOutboxRepository.countByEntryId(first.getId())).isEqualTo(1),
+                () -> assertThat(ledgerOutboxRepository.countByEntryId(untouched.getId())).isZero(),
+                () -> assertThat(retrier.getProgress().running()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("retry - 기록 시각 구간 밖의 엔트리는 그대로")
+    void retry_outsideTimeRange_shouldSkip() {
+        // given
+        LedgerEntry entry = createFailedEntry(createOrganization().getId(), 1L);
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+        // when
+        FailedEntryRetrier.RetryProgress progress = retrier.retry(
+                new FailedEntryRetrier.RetryFilter(null, from, from.plusDays(1)));
+
+        // then
+        assertAll(
+                () -> assertThat(progress.retried()).isZero(),
+                () -> assertThat(ledgerEntryRepository.findById(entry.getId()).orElseThrow().getStatus())
+                        .isEqualTo(LedgerStatus.FAILED)
+        );
+    }
+
+    @Test
+    @DisplayName("start - from이 to보다 늦으면 거부")
+    void start_withInvertedRange_shouldThrow() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThatThrownBy(() -> retrier.start(new FailedEntryRetrier.RetryFilter(null, now, now.minusDays(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("start - 다른 인스턴스가 락을 갖고 있으면 시작하지 않고 락도 건드리지 않음")
+    void start_whileLockedElsewhere_shouldNotStart() {
+        // given
+        LedgerEntry entry = createFailedEntry(createOrganization().getId(), 1L);
+        redisTemplate.opsForValue().set("blockchain:retry:lock", "other-instance", Duration.ofMinutes(1));
+
+        // when
+        boolean started = retrier.start(new FailedEntryRetrier.RetryFilter(null, null, null));
+
+        // then
+        assertAll(
+                () -> assertThat(started).isFalse(),
+                () -> assertThat(ledgerEntryRepository.findById(entry.getId()).orElseThrow().getStatus())
+                        .isEqualTo(LedgerStatus.FAILED),
+                () -> assertThat(redisTemplate.opsForValue().get("blockchain:retry:lock")).isEqualTo("other-instance"),
+                () -> assertThat(retrier.getProgress().running()).isTrue()
+        );
+    }
+}
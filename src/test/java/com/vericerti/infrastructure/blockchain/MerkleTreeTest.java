@@ -0,0 +1,86 @@
+package com.vericerti.infrastructure.blockchain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MerkleTree 단위 테스트.
+ * 컨트랙트의 verifyHashWithProof와 동일한 규칙으로 증명이 검증되는지 확인합니다.
+ */
+@DisplayName("MerkleTree")
+class MerkleTreeTest {
+
+    private static byte[] hashOf(int seed) {
+        byte[] hash = new byte[32];
+        hash[31] = (byte) seed;
+        hash[0] = (byte) (seed * 31);
+        return hash;
+    }
+
+    private static List<byte[]> leaves(int count) {
+        List<byte[]> leaves = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            leaves.add(hashOf(i + 1));
+        }
+        return leaves;
+    }
+
+    @Test
+    @DisplayName("단일 leaf 트리의 루트는 leaf 해시이고 증명은 비어 있음")
+    void singleLeaf_shouldHaveEmptyProof() {
+        // given
+        List<byte[]> leaves = leaves(1);
+
+        // when
+        MerkleTree tree = MerkleTree.of(leaves);
+
+        // then
+        assertThat(tree.getProof(0)).isEmpty();
+        assertThat(tree.getRoot()).isEqualTo(MerkleTree.leafHash(leaves.get(0)));
+        assertThat(MerkleTree.verify(leaves.get(0), tree.getProof(0), tree.getRoot())).isTrue();
+    }
+
+    @Test
+    @DisplayName("홀수 개 leaf를 포함한 모든 leaf의 증명이 루트로 검증됨")
+    void allLeaves_shouldVerifyAgainstRoot() {
+        for (int count : new int[]{2, 3, 5, 8, 13}) {
+            // given
+            List<byte[]> leaves = leaves(count);
+
+            // when
+            MerkleTree tree = MerkleTree.of(leaves);
+
+            // then
+            for (int i = 0; i < count; i++) {
+                assertThat(MerkleTree.verify(leaves.get(i), tree.getProof(i), tree.getRoot()))
+                        .as("leaf %d of %d", i, count)
+                        .isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("트리에 없는 해시는 검증 실패")
+    void foreignHash_shouldNotVerify() {
+        // given
+        MerkleTree tree = MerkleTree.of(leaves(4));
+
+        // when & then
+        assertThat(MerkleTree.verify(hashOf(99), tree.getProof(0), tree.getRoot())).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 목록이나 32바이트가 아닌 leaf는 거부")
+    void invalidInput_shouldThrow() {
+        assertThatThrownBy(() -> MerkleTree.of(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MerkleTree.of(List.of(new byte[16])))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,151 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.sun.net.httpserver.HttpServer;
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MultiEndpointRpcService 단위 테스트.
+ * 로컬 스텁 JSON-RPC 서버로 hedged read와 쓰기 failover를 확인합니다.
+ */
+@DisplayName("MultiEndpointRpcService")
+class MultiEndpointRpcServiceTest {
+
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.stop(0));
+    }
+
+    private record StubNode(String url, AtomicInteger hits, HttpServer server) {}
+
+    private StubNode startNode(String result, long delayMillis) throws IOException {
+        AtomicInteger hits = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"" + result + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        servers.add(server);
+        return new StubNode("http://127.0.0.1:" + server.getAddress().getPort(), hits, server);
+    }
+
+    private Web3j web3j(List<String> urls) {
+        BlockchainProperties.Rpc rpc = new BlockchainProperties.Rpc();
+        rpc.setHedgeMinDelay(Duration.ofMillis(50));
+        rpc.setHedgeMaxDelay(Duration.ofMillis(100));
+        rpc.setFailureCooldown(Duration.ofMinutes(1));
+
+        OkHttpClient client = new OkHttpClient.Builder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .callTimeout(Duration.ofSeconds(5))
+                .build();
+        return Web3j.build(new MultiEndpointRpcService(urls, client, rpc));
+    }
+
+    @Test
+    @DisplayName("1순위 노드가 느리면 읽기를 다음 노드로 hedge해서 먼저 온 응답 사용")
+    void slowPrimary_shouldBeHedged() throws Exception {
+        // given
+        StubNode slow = startNode("0x1", 3000);
+        StubNode fast = startNode("0x2", 0);
+        Web3j web3j = web3j(List.of(slow.url(), fast.url()));
+
+        // when
+        long started = System.nanoTime();
+        BigInteger blockNumber = web3j.ethBlockNumber().send().getBlockNumber();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        // then
+        assertThat(blockNumber).isEqualTo(BigInteger.TWO);
+        assertThat(elapsedMillis).isLessThan(2000);
+        assertThat(fast.hits()).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("쓰기는 응답하지 않는 노드를 건너뛰고 다음 노드로 failover")
+    void downPrimary_shouldFailOverWrite() throws Exception {
+        // given
+        StubNode down = startNode("0xdead", 0);
+        down.server().stop(0);
+        StubNode healthy = startNode("0xabc", 0);
+        Web3j web3j = web3j(List.of(down.url(), healthy.url()));
+
+        // when
+        String txHash = web3j.ethSendRawTransaction("0x00").send().getTransactionHash();
+
+        // then
+        assertThat(txHash).isEqualTo("0xabc");
+        assertThat(healthy.hits()).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패한 노드는 쿨다운 동안 후순위로 밀려 다음 읽기는 건강한 노드가 먼저 받음")
+    void failedNode_shouldBeRankedLast() throws Exception {
+        // given
+        StubNode down = startNode("0xdead", 0);
+        down.server().stop(0);
+        StubNode healthy = startNode("0x5", 0);
+        Web3j web3j = web3j(List.of(down.url(), healthy.url()));
+        web3j.ethSendRawTransaction("0x00").send();
+
+        // when
+        BigInteger blockNumber = web3j.ethBlockNumber().send().getBlockNumber();
+
+        // then
+        assertThat(blockNumber).isEqualTo(BigInteger.valueOf(5));
+        assertThat(healthy.hits()).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("PENDING nonce 조회는 hedge하지 않고 쓰기를 받은 노드로 보냄")
+    void pendingNonce_shouldFollowWriteEndpoint() throws Exception {
+        // given
+        StubNode writer = startNode("0x7", 300);
+        StubNode other = startNode("0x1", 0);
+        Web3j web3j = web3j(List.of(writer.url(), other.url()));
+        web3j.ethSendRawTransaction("0x00").send();
+
+        // when
+        BigInteger nonce = web3j.ethGetTransactionCount("0x0000000000000000000000000000000000000001",
+                DefaultBlockParameterName.PENDING).send().getTransactionCount();
+
+        // then
+        assertThat(nonce).isEqualTo(BigInteger.valueOf(7));
+        assertThat(writer.hits()).hasValue(2);
+        assertThat(other.hits()).hasValue(0);
+    }
+}
@@ -0,0 +1,166 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.infrastructure.blockchain.StubRpcNode.RpcError;
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.TransactionDecoder;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 클러스터 모드 nonce 할당 통합 테스트.
+ * 같은 서명 키를 쓰는 두 인스턴스가 Redis 카운터에서 nonce를 나눠 받는지,
+ * nonce 충돌로 거부된 전송을 재동기화 후 다시 보내는지 확인합니다.
+ */
+class NonceAllocationIntegrationTest extends StubNodeIntegrationTest {
+
+    @Autowired
+    private Web3jService web3jService;
+
+    @Autowired
+    private LedgerRegistryService ledgerRegistryService;
+
+    @Autowired
+    private BlockchainProperties blockchainProperties;
+
+    @Autowired
+    private BlockchainContractService blockchainContractService;
+
+    private Web3jService otherInstance;
+
+    @BeforeEach
+    void setUp() {
+        blockchainProperties.getCluster().setEnabled(true);
+        otherInstance = new Web3jService(blockchainProperties, blockchainContractService, redisTemplate);
+        otherInstance.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherInstance.shutdown();
+        blockchainProperties.getCluster().setEnabled(false);
+    }
+
+    @Test
+    @DisplayName("allocateNonce - 클러스터 모드에서는 인스턴스가 달라도 같은 nonce를 할당하지 않음")
+    void allocateNonce_acrossInstances_shouldBeUnique() {
+        // given
+        node.respond("eth_getTransactionCount", params -> "0x7");
+
+        // when
+        List<BigInteger> allocated = List.of(
+                web3jService.allocateNonce(),
+                otherInstance.allocateNonce(),
+                web3jService.allocateNonce(),
+                otherInstance.allocateNonce());
+
+        // then
+        assertAll(
+                () -> assertThat(allocated).containsExactly(
+                        BigInteger.valueOf(7), BigInteger.valueOf(8), BigInteger.valueOf(9), BigInteger.valueOf(10)),
+                () -> assertThat(node.calls("eth_getTransactionCount")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("resyncNonce - 노드의 PENDING nonce가 공유 카운터보다 작으면 되돌리지 않음")
+    void resyncNonce_shouldNotMoveSharedCounterBackward() {
+        // given
+        web3jService.allocateNonce();
+        web3jService.allocateNonce();
+        node.respond("eth_getTransactionCount", params -> "0x1");
+
+        // when
+        otherInstance.resyncNonce();
+        BigInteger allocated = web3jService.allocateNonce();
+
+        // then
+        assertThat(allocated).isEqualTo(BigInteger.TWO);
+    }
+
+    @Test
+    @DisplayName("resyncNonce - 노드의 PENDING nonce가 공유 카운터보다 크면 앞으로 이동")
+    void resyncNonce_shouldAdvanceSharedCounter() {
+        // given
+        web3jService.allocateNonce();
+        node.respond("eth_getTransactionCount", params -> "0x9");
+
+        // when
+        otherInstance.resyncNonce();
+        BigInteger allocated = web3jService.allocateNonce();
+
+        // then
+        assertThat(allocated).isEqualTo(BigInteger.valueOf(9));
+    }
+
+    @Test
+    @DisplayName("resetNonce - 공유 카운터를 노드의 PENDING nonce로 되돌려 모든 인스턴스에 반영")
+    void resetNonce_shouldResetSharedCounter() {
+        // given
+        web3jService.allocateNonce();
+        web3jService.allocateNonce();
+        node.respond("eth_getTransactionCount", params -> "0x1");
+
+        // when
+        otherInstance.resetNonce();
+        BigInteger allocated = web3jService.allocateNonce();
+
+        // then
+        assertThat(allocated).isEqualTo(BigInteger.ONE);
+    }
+
+    @Test
+    @DisplayName("registerHash - nonce too high로 거부되면 공유 카운터를 PENDING nonce로 되돌려 다시 전송")
+    void registerHash_nonceTooHigh_shouldResetAndRetry() {
+        // given
+        web3jService.allocateNonce();
+        web3jService.allocateNonce();
+        List<BigInteger> sentNonces = new CopyOnWriteArrayList<>();
+        AtomicInteger sends = new AtomicInteger();
+        node.respond("eth_sendRawTransaction", params -> {
+            String signed = params.get(0).asText();
+            sentNonces.add(TransactionDecoder.decode(signed).getNonce());
+            return sends.getAndIncrement() == 0 ? RpcError.of("nonce too high") : Hash.sha3(signed);
+        });
+
+        // when
+        String txHash = ledgerRegistryService.registerHash("a".repeat(64), 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(txHash).startsWith("0x"),
+                () -> assertThat(sentNonces).containsExactly(BigInteger.TWO, BigInteger.ZERO)
+        );
+    }
+
+    @Test
+    @DisplayName("registerHash - replacement transaction underpriced로 거부되면 재동기화한 nonce로 다시 전송")
+    void registerHash_underpriced_shouldRetryWithResyncedNonce() {
+        // given
+        AtomicInteger sends = new AtomicInteger();
+        node.respond("eth_sendRawTransaction", params -> sends.getAndIncrement() == 0
+                ? RpcError.of("replacement transaction underpriced")
+                : Hash.sha3(params.get(0).asText()));
+
+        // when
+        String txHash = ledgerRegistryService.registerHash("a".repeat(64), 1L);
+
+        // then
+        assertAll(
+                () -> assertThat(txHash).startsWith("0x"),
+                () -> assertThat(node.calls("eth_sendRawTransaction")).isEqualTo(2),
+                () -> assertThat(node.calls("eth_getTransactionCount")).isEqualTo(2)
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.vericerti.infrastructure.blockchain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PartitionCoordinator 파티션 배정(rendezvous hash) 단위 테스트.
+ */
+@DisplayName("PartitionCoordinator")
+class PartitionCoordinatorTest {
+
+    private static final int PARTITIONS = 64;
+
+    @Test
+    @DisplayName("멤버 순서와 관계없이 파티션마다 같은 담당자")
+    void ownerOf_shouldNotDependOnMemberOrder() {
+        // given
+        List<String> members = List.of("a", "b", "c");
+        List<String> reversed = List.of("c", "b", "a");
+
+        // when & then
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            assertThat(PartitionCoordinator.ownerOf(partition, reversed))
+                    .isEqualTo(PartitionCoordinator.ownerOf(partition, members));
+        }
+    }
+
+    @Test
+    @DisplayName("멤버가 빠지면 그 멤버의 파티션만 다른 멤버로 이동")
+    void ownerOf_memberLeaves_shouldMoveOnlyItsPartitions() {
+        // given
+        List<String> before = List.of("a", "b", "c");
+        List<String> after = List.of("a", "b");
+
+        // when & then
+        int moved = 0;
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            String previousOwner = PartitionCoordinator.ownerOf(partition, before);
+            String currentOwner = PartitionCoordinator.ownerOf(partition, after);
+            if (previousOwner.equals("c")) {
+                assertThat(currentOwner).isIn("a", "b");
+                moved++;
+            } else {
+                assertThat(currentOwner).isEqualTo(previousOwner);
+            }
+        }
+        assertThat(moved).isPositive();
+    }
+}
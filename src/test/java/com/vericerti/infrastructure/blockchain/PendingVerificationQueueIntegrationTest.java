@@ -0,0 +1,166 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.config.BaseIntegrationTest;
+import com.vericerti.infrastructure.blockchain.PendingVerificationQueue.PendingVerification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class PendingVerificationQueueIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private PendingVerificationQueue queue;
+
+    @Test
+    @DisplayName("claimDue - 조회한 항목은 lease 동안 다시 조회되지 않음")
+    void claimDue_shouldHideClaimedEntriesUntilLeaseExpires() {
+        // given
+        queue.enqueue(1L, "0xaaa", 0, Duration.ZERO);
+        queue.enqueue(2L, "0xbbb", 2, Duration.ZERO);
+        queue.enqueue(3L, "0xccc", 0, Duration.ofHours(1));
+
+        // when
+        List<PendingVerification> first = queue.claimDue(10, Duration.ofMinutes(5));
+        List<PendingVerification> second = queue.claimDue(10, Duration.ofMinutes(5));
+
+        // then
+        assertAll(
+                () -> assertThat(first).extracting(PendingVerification::entryId).containsExactlyInAnyOrder(1L, 2L),
+                () -> assertThat(first).filteredOn(pending -> pending.entryId() == 2L)
+                        .extracting(PendingVerification::retryCount).containsExactly(2),
+                () -> assertThat(second).isEmpty(),
+                () -> assertThat(queue.contains(1L)).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("depth - 전체/만료 항목 수와 가장 오래 밀린 시간")
+    void depth_shouldCountQueuedAndDueEntries() {
+        // given
+        queue.enqueue(1L, "0xaaa", 0, Duration.ofMinutes(-1));
+        queue.enqueue(2L, "0xbbb", 0, Duration.ofHours(1));
+
+        // when
+        PendingVerificationQueue.QueueDepth depth = queue.depth();
+
+        // then
+        assertAll(
+                () -> assertThat(depth.queued()).isEqualTo(2),
+                () -> assertThat(depth.due()).isEqualTo(1),
+                () -> assertThat(depth.lagMillis()).isGreaterThanOrEqualTo(Duration.ofMinutes(1).toMillis())
+        );
+    }
+
+    @Test
+    @DisplayName("findDue - 예정 시각이 지난 항목만 조회하고 큐에서는 제거하지 않음")
+    void findDue_shouldReturnOnlyDueEntries() {
+        // given
+        queue.enqueue(1L, "0xaaa", 0, Duration.ZERO);
+        queue.enqueue(2L, "0xbbb", 0, Duration.ofHours(1));
+
+        // when
+        List<PendingVerification> due = queue.findDue(10);
+
+        // then
+        assertAll(
+                () -> assertThat(due).extracting(PendingVerification::entryId).containsExactly(1L),
+                () -> assertThat(due).extracting(PendingVerification::txHash).containsExactly("0xaaa"),
+                () -> assertThat(queue.findDue(10)).hasSize(1),
+                () -> assertThat(queue.size()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("findQueued - 주어진 엔트리 중 큐에 있는 것만 반환")
+    void findQueued_shouldReturnQueuedSubset() {
+        // given
+        queue.enqueue(1L, "0xaaa", 0, Duration.ZERO);
+        queue.enqueue(3L, "0xccc", 0, Duration.ofHours(1));
+
+        // when
+        Set<Long> queued = queue.findQueued(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(queued).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("remove - HASH와 ZSET에서 모두 제거")
+    void remove_shouldDeleteFromHashAndZset() {
+        // given
+        queue.enqueue(1L, "0xaaa", 0, Duration.ZERO);
+
+        // when
+        queue.remove(1L);
+
+        // then
+        assertAll(
+                () -> assertThat(queue.contains(1L)).isFalse(),
+                () -> assertThat(queue.findDue(10)).isEmpty(),
+                () -> assertThat(queue.depth().queued()).isZero(),
+                () -> assertThat(queue.depth().due()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("enqueue - 같은 항목을 다시 예약하면 제출 시각은 유지하고 재시도 횟수만 갱신")
+    void reEnqueue_shouldKeepSubmittedAt() {
+        // given
+        queue.enqueue(1L, "0xaaa", 0, Duration.ZERO);
+        PendingVerification original = queue.findDue(10).get(0);
+
+        // when
+        queue.enqueue(new PendingVerification(1L, original.txHash(), 1, original.submittedAt()), Duration.ZERO);
+        PendingVerification requeued = queue.findDue(10).get(0);
+
+        // then
+        assertAll(
+                () -> assertThat(queue.size()).isEqualTo(1),
+                () -> assertThat(requeued.retryCount()).isEqualTo(1),
+                () -> assertThat(requeued.submittedAt()).isEqualTo(original.submittedAt())
+        );
+    }
+
+    @Test
+    @DisplayName("enqueue - 교체 전 txHash 목록도 함께 저장하고 읽어 옴")
+    void enqueue_withReplacedTxHashes_shouldRoundTrip() {
+        // given
+        queue.enqueue(new PendingVerification(1L, "0xccc", 2, 1000L, List.of("0xbbb", "0xaaa")), Duration.ZERO);
+
+        // when
+        List<PendingVerification> due = queue.findDue(10);
+
+        // then
+        assertThat(due).singleElement().satisfies(pending -> {
+            assertThat(pending.txHash()).isEqualTo("0xccc");
+            assertThat(pending.replacedTxHashes()).containsExactly("0xbbb", "0xaaa");
+            assertThat(pending.txHashes()).containsExactly("0xccc", "0xbbb", "0xaaa");
+            assertThat(pending.submittedAt()).isEqualTo(1000L);
+        });
+    }
+
+    @Test
+    @DisplayName("migrateLegacySet - 이전 SET 형식 항목을 HASH+ZSET으로 옮기고 SET 삭제")
+    void migrateLegacySet_shouldMoveMembersToHashAndZset() {
+        // given
+        redisTemplate.opsForSet().add("blockchain:pending:verification", "1:0xaaa:0", "2:0xbbb:3");
+
+        // when
+        queue.migrateLegacySet();
+
+        // then
+        assertAll(
+                () -> assertThat(redisTemplate.hasKey("blockchain:pending:verification")).isFalse(),
+                () -> assertThat(queue.findQueued(List.of(1L, 2L))).containsExactlyInAnyOrder(1L, 2L),
+                () -> assertThat(queue.findDue(10)).filteredOn(pending -> pending.entryId() == 2L)
+                        .extracting(PendingVerification::retryCount).containsExactly(3)
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * RetryBackoff 단위 테스트.
+ */
+@DisplayName("RetryBackoff")
+class RetryBackoffTest {
+
+    private BlockchainProperties.Retry retry;
+
+    @BeforeEach
+    void setUp() {
+        retry = new BlockchainProperties.Retry();
+        retry.setMultiplier(2.0);
+        retry.setMaxDelay(Duration.ofMinutes(10));
+        retry.setGasBumpPercent(20);
+        retry.setMaxGasPrice(BigInteger.valueOf(2_000));
+    }
+
+    @Test
+    @DisplayName("jitter가 없으면 간격이 지수로 늘고 max-delay에서 멈춤")
+    void delay_withoutJitter_shouldGrowExponentiallyUpToMax() {
+        // given
+        retry.setJitter(0);
+        Duration base = Duration.ofMinutes(1);
+
+        // when & then
+        assertAll(
+                () -> assertThat(RetryBackoff.delay(base, 0, retry)).isEqualTo(Duration.ofMinutes(1)),
+                () -> assertThat(RetryBackoff.delay(base, 3, retry)).isEqualTo(Duration.ofMinutes(8)),
+                () -> assertThat(RetryBackoff.delay(base, 10, retry)).isEqualTo(Duration.ofMinutes(10)),
+                () -> assertThat(RetryBackoff.delay(base, 5000, retry)).isEqualTo(Duration.ofMinutes(10))
+        );
+    }
+
+    @Test
+    @DisplayName("jitter 범위 안에서 간격이 흩어짐")
+    void delay_withJitter_shouldStayWithinBounds() {
+        // given
+        retry.setJitter(0.2);
+
+        // when & then
+        for (int i = 0; i < 100; i++) {
+            assertThat(RetryBackoff.delay(Duration.ofSeconds(100), 0, retry).toMillis())
+                    .isBetween(80_000L, 120_000L);
+        }
+    }
+
+    @Test
+    @DisplayName("재제출마다 gas price를 인상하고 max-gas-price에서 멈춤")
+    void gasPrice_shouldBumpPerAttemptUpToMax() {
+        // given
+        BigInteger base = BigInteger.valueOf(1_000);
+
+        // when & then
+        assertAll(
+                () -> assertThat(RetryBackoff.gasPrice(base, 0, retry)).isEqualTo(BigInteger.valueOf(1_000)),
+                () -> assertThat(RetryBackoff.gasPrice(base, 1, retry)).isEqualTo(BigInteger.valueOf(1_200)),
+                () -> assertThat(RetryBackoff.gasPrice(base, 2, retry)).isEqualTo(BigInteger.valueOf(1_440)),
+                () -> assertThat(RetryBackoff.gasPrice(base, 20, retry)).isEqualTo(BigInteger.valueOf(2_000))
+        );
+    }
+}
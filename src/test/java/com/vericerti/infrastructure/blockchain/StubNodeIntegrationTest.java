@@ -0,0 +1,33 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.vericerti.config.BaseIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 스텁 JSON-RPC 노드에 연결된 블록체인 Integration Test의 베이스 클래스.
+ * Web3j가 초기화된 상태에서 스케줄러와 검증 로직을 RPC 왕복까지 포함해 확인합니다.
+ * 백그라운드 확인/제출 주기는 길게 잡아 테스트에서 직접 호출한 실행과 겹치지 않게 합니다.
+ */
+public abstract class StubNodeIntegrationTest extends BaseIntegrationTest {
+
+    protected static final String CONTRACT_ADDRESS = "0x" + "1".repeat(40);
+    private static final String PRIVATE_KEY = "0x4c0883a69102937d6231471b5dbb6204fe5129617082792ae468d01a3f362318";
+
+    protected static final StubRpcNode node = StubRpcNode.start();
+
+    @DynamicPropertySource
+    static void configureBlockchain(DynamicPropertyRegistry registry) {
+        registry.add("blockchain.ethereum.network-url", node::url);
+        registry.add("blockchain.ethereum.contract-address", () -> CONTRACT_ADDRESS);
+        registry.add("blockchain.ethereum.private-key", () -> PRIVATE_KEY);
+        registry.add("blockchain.ethereum.confirmation.poll-interval-ms", () -> "3600000");
+        registry.add("blockchain.ethereum.outbox.poll-interval-ms", () -> "3600000");
+    }
+
+    @BeforeEach
+    void resetNode() {
+        node.reset();
+    }
+}
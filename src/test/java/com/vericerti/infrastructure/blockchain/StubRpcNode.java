@@ -0,0 +1,141 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.ObjectMapperFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 테스트용 JSON-RPC 스텁 노드.
+ * 메서드별 응답을 지정할 수 있고, 단건/batch 요청 모두 요청 id에 맞춰 응답합니다.
+ * 핸들러가 예외를 던지면 요청 전체를 HTTP 500으로 실패시킵니다 (batch 1회 실패 재현용).
+ * 핸들러가 RpcError를 반환하면 해당 호출만 JSON-RPC error로 응답합니다.
+ */
+public class StubRpcNode {
+
+    // verifyHash 반환값 (false, 0)
+    public static final String NOT_REGISTERED = "0x" + "0".repeat(128);
+    // verifyHash 반환값 (true, 1)
+    public static final String REGISTERED = "0x" + "0".repeat(63) + "1" + "0".repeat(63) + "1";
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final Map<String, Function<JsonNode, Object>> handlers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final HttpServer server;
+
+    private StubRpcNode() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        reset();
+    }
+
+    public static StubRpcNode start() {
+        return new StubRpcNode();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * @param handler params → result (null이면 JSON null, RpcError면 error 응답)
+     */
+    public void respond(String method, Function<JsonNode, Object> handler) {
+        handlers.put(method, handler);
+    }
+
+    public int calls(String method) {
+        AtomicInteger count = calls.get(method);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * 기본 응답으로 되돌림: 최신 블록 0x64, receipt/트랜잭션 없음, 해시 미등록, 로그 없음
+     */
+    public void reset() {
+        handlers.clear();
+        calls.clear();
+        respond("eth_blockNumber", params -> "0x64");
+        respond("eth_chainId", params -> "0x1");
+        respond("eth_gasPrice", params -> "0x1");
+        respond("eth_getTransactionCount", params -> "0x0");
+        respond("eth_getTransactionReceipt", params -> null);
+        respond("eth_getTransactionByHash", params -> null);
+        respond("eth_getLogs", params -> List.of());
+        respond("eth_call", params -> NOT_REGISTERED);
+        respond("eth_sendRawTransaction", params -> Hash.sha3(params.get(0).asText()));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        byte[] body;
+        int status = 200;
+        try {
+            JsonNode response;
+            if (request.isArray()) {
+                ArrayNode responses = objectMapper.createArrayNode();
+                request.forEach(call -> responses.add(answer(call)));
+                response = responses;
+            } else {
+                response = answer(request);
+            }
+            body = objectMapper.writeValueAsBytes(response);
+        } catch (RuntimeException e) {
+            status = 500;
+            body = String.valueOf(e.getMessage()).getBytes();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private ObjectNode answer(JsonNode call) {
+        String method = call.get("method").asText();
+        calls.computeIfAbsent(method, key -> new AtomicInteger()).incrementAndGet();
+        Function<JsonNode, Object> handler = handlers.getOrDefault(method, params -> null);
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", call.get("id"));
+        Object result = handler.apply(call.get("params"));
+        if (result instanceof RpcError error) {
+            response.set("error", objectMapper.valueToTree(error));
+        } else {
+            response.set("result", objectMapper.valueToTree(result));
+        }
+        return response;
+    }
+
+    /**
+     * JSON-RPC error 응답 (노드가 트랜잭션을 거부한 경우 등)
+     */
+    public record RpcError(int code, String message) {
+
+        public static RpcError of(String message) {
+            return new RpcError(-32000, message);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.vericerti.infrastructure.blockchain;
+
+import com.sun.net.httpserver.HttpServer;
+import com.vericerti.infrastructure.config.BlockchainProperties;
+import com.vericerti.infrastructure.exception.BlockchainException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * Web3jService 단위 테스트.
+ * 로컬 스텁 JSON-RPC 서버로 nonce 할당/재동기화와 공유 커넥션, sendAsync 동시 요청 상한을 확인합니다.
+ */
+@DisplayName("Web3jService")
+class Web3jServiceTest {
+
+    private static final String PRIVATE_KEY = "0x4c0883a69102937d6231471b5dbb6204fe5129617082792ae468d01a3f362318";
+
+    private HttpServer server;
+    private final AtomicReference<String> pendingNonce = new AtomicReference<>("0x5");
+    private final AtomicInteger nonceRequests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile long delayMillis;
+    private Web3jService web3jService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            if (request.contains("eth_getTransactionCount")) {
+                nonceRequests.incrementAndGet();
+            }
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            byte[] body = ("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"" + pendingNonce.get() + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        BlockchainProperties properties = new BlockchainProperties();
+        properties.setNetworkUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setPrivateKey(PRIVATE_KEY);
+        properties.getRpc().setMaxConcurrentRequests(2);
+        web3jService = new Web3jService(properties, null, null);
+        web3jService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        web3jService.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("최초 1회만 PENDING nonce를 조회하고 이후에는 로컬에서 증가")
+    void allocateNonce_shouldFetchOnceThenIncrementLocally() {
+        // when
+        BigInteger first = web3jService.allocateNonce();
+        BigInteger second = web3jService.allocateNonce();
+        BigInteger third = web3jService.allocateNonce();
+
+        // then
+        assertAll(
+                () -> assertThat(List.of(first, second, third))
+                        .containsExactly(BigInteger.valueOf(5), BigInteger.valueOf(6), BigInteger.valueOf(7)),
+                () -> assertThat(nonceRequests).hasValue(1)
+        );
+    }
+
+    @Test
+    @DisplayName("재동기화하면 노드의 PENDING nonce부터 다시 할당")
+    void resyncNonce_shouldRestartFromNodeNonce() {
+        // given
+        web3jService.allocateNonce();
+        web3jService.allocateNonce();
+        pendingNonce.set("0x9");
+
+        // when
+        web3jService.resyncNonce();
+        BigInteger allocated = web3jService.allocateNonce();
+
+        // then
+        assertAll(
+                () -> assertThat(allocated).isEqualTo(BigInteger.valueOf(9)),
+                () -> assertThat(nonceRequests).hasValue(2)
+        );
+    }
+
+    @Test
+    @DisplayName("동시에 할당해도 nonce가 겹치지 않음")
+    void allocateNonce_concurrently_shouldBeUnique() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 50;
+        Set<BigInteger> allocated = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    allocated.add(web3jService.allocateNonce());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertAll(
+                () -> assertThat(allocated).hasSize(threads * perThread),
+                () -> assertThat(allocated).contains(BigInteger.valueOf(5), BigInteger.valueOf(5 + threads * perThread - 1)),
+                () -> assertThat(nonceRequests).hasValue(1)
+        );
+    }
+
+    @Test
+    @DisplayName("sendAsync - 동시 요청 수는 rpc.max-concurrent-requests를 넘지 않음")
+    void sendAsync_shouldBoundConcurrentRequests() {
+        // given
+        delayMillis = 200;
+
+        // when
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(web3jService.sendAsync(web3jService.getWeb3j().ethBlockNumber()));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(peakInFlight.get()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("순차 요청은 커넥션 풀의 keep-alive 커넥션 하나를 재사용")
+    void sequentialRequests_shouldReusePooledConnection() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            web3jService.getBlockNumber();
+        }
+
+        // then
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("sendAsync - 초기화되지 않았으면 BlockchainException으로 실패한 future 반환")
+    void sendAsync_notInitialized_shouldFail() {
+        // given
+        Web3jService uninitialized = new Web3jService(new BlockchainProperties(), null, null);
+        uninitialized.init();
+
+        // when
+        CompletableFuture<?> future = uninitialized.sendAsync(web3jService.getWeb3j().ethBlockNumber());
+
+        // then
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BlockchainException.class);
+    }
+}
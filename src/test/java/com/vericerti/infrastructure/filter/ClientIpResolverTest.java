@@ -0,0 +1,76 @@
+package com.vericerti.infrastructure.filter;
+
+import com.vericerti.infrastructure.config.FilterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * ClientIpResolver 단위 테스트.
+ * 신뢰 프록시에서 온 요청만 X-Forwarded-For를 따르는지 확인합니다.
+ */
+@DisplayName("ClientIpResolver")
+class ClientIpResolverTest {
+
+    private FilterProperties properties;
+    private ClientIpResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FilterProperties();
+        resolver = new ClientIpResolver(properties);
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String xForwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (xForwardedFor != null) {
+            request.addHeader("X-Forwarded-For", xForwardedFor);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시가 없으면 X-Forwarded-For를 무시하고 remoteAddr 사용")
+    void resolve_withoutTrustedProxies_shouldIgnoreHeader() {
+        // when
+        String clientIp = resolver.resolve(request("203.0.113.7", "1.2.3.4"));
+
+        // then
+        assertThat(clientIp).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시에서 온 요청은 오른쪽부터 프록시를 건너뛴 첫 주소 사용")
+    void resolve_fromTrustedProxy_shouldSkipProxyHops() {
+        // given
+        properties.getTrustedProxies().setAddressesString("10.0.0.0/8");
+
+        // when: 클라이언트가 1.2.3.4를 위조해 보내도 프록시가 덧붙인 실제 주소가 쓰임
+        String clientIp = resolver.resolve(request("10.0.0.1", "1.2.3.4, 198.51.100.9, 10.0.0.2"));
+
+        // then
+        assertThat(clientIp).isEqualTo("198.51.100.9");
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 요청의 X-Forwarded-For는 무시")
+    void resolve_fromUntrustedPeer_shouldIgnoreHeader() {
+        // given
+        properties.getTrustedProxies().setAddressesString("10.0.0.0/8");
+
+        // when
+        String spoofed = resolver.resolve(request("203.0.113.7", "10.0.0.5"));
+        String withoutHeader = resolver.resolve(request("10.0.0.1", null));
+
+        // then
+        assertAll(
+                () -> assertThat(spoofed).isEqualTo("203.0.113.7"),
+                () -> assertThat(withoutHeader).isEqualTo("10.0.0.1")
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.vericerti.infrastructure.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * IpMatcher IPv4/IPv6 CIDR 매칭 단위 테스트.
+ */
+@DisplayName("IpMatcher")
+class IpMatcherTest {
+
+    private final IpMatcher matcher = IpMatcher.compile(List.of(
+            "127.0.0.1", "0:0:0:0:0:0:0:1", "10.0.0.0/8", "192.168.1.0/24", "2001:db8::/32", "::ffff:172.16.0.0/108"));
+
+    @Test
+    @DisplayName("IPv4 단일 주소와 CIDR 범위")
+    void matches_ipv4() {
+        assertAll(
+                () -> assertThat(matcher.matches("127.0.0.1")).isTrue(),
+                () -> assertThat(matcher.matches("10.255.0.1")).isTrue(),
+                () -> assertThat(matcher.matches("11.0.0.1")).isFalse(),
+                () -> assertThat(matcher.matches("192.168.1.200")).isTrue(),
+                () -> assertThat(matcher.matches("192.168.2.1")).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("IPv6는 표기 방식(축약, 대괄호, zone id, 대소문자)과 관계없이 매칭")
+    void matches_ipv6() {
+        assertAll(
+                () -> assertThat(matcher.matches("::1")).isTrue(),
+                () -> assertThat(matcher.matches("[::1]")).isTrue(),
+                () -> assertThat(matcher.matches("::2")).isFalse(),
+                () -> assertThat(matcher.matches("2001:DB8:1::5%eth0")).isTrue(),
+                () -> assertThat(matcher.matches("2001:db9::1")).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("IPv4-mapped IPv6는 IPv4 범위로 매칭")
+    void matches_ipv4MappedIpv6() {
+        assertAll(
+                () -> assertThat(matcher.matches("::ffff:10.1.2.3")).isTrue(),
+                () -> assertThat(matcher.matches("172.16.5.5")).isTrue(),
+                () -> assertThat(matcher.matches("172.32.0.1")).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 주소와 목록 항목은 매칭되지 않음")
+    void matches_invalid() {
+        IpMatcher withInvalidEntries = IpMatcher.compile(List.of("not-an-ip", "1.2.3.4/33", "5.6.7.8"));
+
+        assertAll(
+                () -> assertThat(matcher.matches("unknown")).isFalse(),
+                () -> assertThat(matcher.matches("1:::2")).isFalse(),
+                () -> assertThat(matcher.matches("10.0.0")).isFalse(),
+                () -> assertThat(matcher.matches(null)).isFalse(),
+                () -> assertThat(withInvalidEntries.matches("1.2.3.4")).isFalse(),
+                () -> assertThat(withInvalidEntries.matches("5.6.7.8")).isTrue()
+        );
+    }
+}
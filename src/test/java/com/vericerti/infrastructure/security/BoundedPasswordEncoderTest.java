@@ -0,0 +1,124 @@
+package com.vericerti.infrastructure.security;
+
+import com.vericerti.infrastructure.config.AuthProperties;
+import com.vericerti.infrastructure.exception.AuthenticationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BoundedPasswordEncoder 포화 시 동작 단위 테스트.
+ */
+@DisplayName("BoundedPasswordEncoder")
+class BoundedPasswordEncoderTest {
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    private static AuthProperties.PasswordHashing config(int queueCapacity, Duration timeout) {
+        AuthProperties.PasswordHashing config = new AuthProperties.PasswordHashing();
+        config.setThreads(1);
+        config.setQueueCapacity(queueCapacity);
+        config.setTimeout(timeout);
+        return config;
+    }
+
+    @Test
+    @DisplayName("위임한 encoder 결과를 그대로 반환")
+    void matches_shouldDelegate() {
+        // given
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), config(1, Duration.ofSeconds(5)));
+
+        // when
+        String encoded = encoder.encode("password123");
+
+        // then
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 바로 거부")
+    void encode_whenSaturated_shouldRejectImmediately() throws Exception {
+        // given - 스레드 1개 작업 중 + 대기열 1개 점유
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started, release), config(1, Duration.ofSeconds(5)));
+        callers.submit(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> encoder.encode("queued"));
+        waitUntilQueued();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> encoder.encode("rejected"))
+                    .isInstanceOf(AuthenticationException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("timeout 안에 끝나지 않으면 거부")
+    void encode_whenSlow_shouldTimeout() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(new CountDownLatch(1), release),
+                config(1, Duration.ofMillis(100)));
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> encoder.encode("slow"))
+                    .isInstanceOf(AuthenticationException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (encoder.queueDepth() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(encoder.queueDepth()).isEqualTo(1);
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.vericerti.infrastructure.security;
+
+import com.vericerti.domain.member.entity.MemberRole;
+import com.vericerti.infrastructure.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * JwtTokenProvider 단일 파싱 API 단위 테스트.
+ */
+@DisplayName("JwtTokenProvider")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-that-should-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiry(900_000);
+        properties.setRefreshTokenExpiry(604_800_000);
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("parse - 한 번의 파싱으로 회원 ID, 타입, 역할, 만료 시각 반환")
+    void parse_shouldReturnVerifiedClaims() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(7L, "user@example.com", MemberRole.DONOR);
+
+        // when
+        Optional<JwtTokenProvider.VerifiedToken> verified = jwtTokenProvider.parse(token);
+
+        // then
+        assertAll(
+                () -> assertThat(verified).isPresent(),
+                () -> assertThat(verified.orElseThrow().memberId()).isEqualTo(7L),
+                () -> assertThat(verified.orElseThrow().isAccessToken()).isTrue(),
+                () -> assertThat(verified.orElseThrow().email()).isEqualTo("user@example.com"),
+                () -> assertThat(verified.orElseThrow().role()).isEqualTo(MemberRole.DONOR),
+                () -> assertThat(verified.orElseThrow().expiresAt()).isGreaterThan(System.currentTimeMillis())
+        );
+    }
+
+    @Test
+    @DisplayName("parse - 서명이 변조된 토큰은 empty")
+    void parse_withTamperedToken_shouldReturnEmpty() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(7L, "user@example.com", MemberRole.DONOR);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // when & then
+        assertAll(
+                () -> assertThat(jwtTokenProvider.parse(tampered)).isEmpty(),
+                () -> assertThat(jwtTokenProvider.parseAccessToken(tampered)).isEmpty(),
+                () -> assertThat(jwtTokenProvider.parse("not-a-jwt")).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("parseAccessToken - refresh token은 인증에 사용하지 않음, 반복 호출은 같은 결과")
+    void parseAccessToken_shouldAcceptOnlyAccessTokens() {
+        // given
+        String accessToken = jwtTokenProvider.createAccessToken(7L, "user@example.com", MemberRole.DONOR);
+        String refreshToken = jwtTokenProvider.createRefreshToken(7L);
+
+        // when
+        Optional<JwtTokenProvider.VerifiedToken> first = jwtTokenProvider.parseAccessToken(accessToken);
+        Optional<JwtTokenProvider.VerifiedToken> cached = jwtTokenProvider.parseAccessToken(accessToken);
+
+        // then
+        assertAll(
+                () -> assertThat(first).isPresent(),
+                () -> assertThat(cached).isEqualTo(first),
+                () -> assertThat(jwtTokenProvider.parseAccessToken(refreshToken)).isEmpty(),
+                () -> assertThat(jwtTokenProvider.parse(refreshToken).orElseThrow().isRefreshToken()).isTrue()
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.vericerti.infrastructure.security;
+
+import com.vericerti.config.BaseIntegrationTest;
+import com.vericerti.infrastructure.config.AuthProperties;
+import com.vericerti.infrastructure.exception.AuthenticationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptLimiterIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Autowired
+    private AuthProperties authProperties;
+
+    @Test
+    @DisplayName("acquire - 이메일별 한도를 넘으면 거부, 대소문자는 같은 이메일로 집계")
+    void acquire_overEmailLimit_shouldThrow() {
+        // given
+        int limit = authProperties.getLoginThrottle().getMaxAttemptsPerEmail();
+        for (int i = 0; i < limit; i++) {
+            loginAttemptLimiter.acquire("limit@example.com", "10.0.0." + i);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> loginAttemptLimiter.acquire("LIMIT@example.com", "10.0.1.1"))
+                .isInstanceOf(AuthenticationException.class);
+    }
+
+    @Test
+    @DisplayName("acquire - IP별 한도는 이메일과 무관하게 집계")
+    void acquire_overIpLimit_shouldThrow() {
+        // given
+        int limit = authProperties.getLoginThrottle().getMaxAttemptsPerIp();
+        for (int i = 0; i < limit; i++) {
+            loginAttemptLimiter.acquire("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> loginAttemptLimiter.acquire("another@example.com", "10.0.0.1"))
+                .isInstanceOf(AuthenticationException.class);
+    }
+
+    @Test
+    @DisplayName("reset - 로그인 성공 후에는 이메일 카운터가 다시 시작")
+    void reset_shouldClearEmailCounter() {
+        // given
+        int limit = authProperties.getLoginThrottle().getMaxAttemptsPerEmail();
+        for (int i = 0; i < limit; i++) {
+            loginAttemptLimiter.acquire("reset@example.com", null);
+        }
+
+        // when
+        loginAttemptLimiter.reset("reset@example.com");
+
+        // then
+        assertThatCode(() -> loginAttemptLimiter.acquire("reset@example.com", null))
+                .doesNotThrowAnyException();
+    }
+}
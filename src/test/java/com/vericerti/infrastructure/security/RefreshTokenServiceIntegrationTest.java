@@ -1,7 +1,6 @@
 package com.vericerti.infrastructure.security;
 
 import com.vericerti.config.BaseIntegrationTest;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,10 +17,11 @@ class RefreshTokenServiceIntegrationTest extends BaseIntegrationTest {
 
     private static final Long MEMBER_ID = 1L;
 
-    @BeforeEach
-    void setUp() {
-        // Clean up any existing tokens for test member
-        refreshTokenService.deleteRefreshToken(MEMBER_ID);
+    /**
+     * rotation-grace-ms가 지난 것처럼 회전 기록 삭제
+     */
+    private void expireRotationGrace(String rotatedToken) {
+        redisTemplate.delete("refresh_token:" + MEMBER_ID + ":rotated:" + TokenHashes.sha256Hex(rotatedToken));
     }
 
     @Test
@@ -53,7 +53,8 @@ class RefreshTokenServiceIntegrationTest extends BaseIntegrationTest {
         // then
         assertThat(result).isTrue();
 
-        // Verify the new token is now stored (old token should no longer work)
+        // Verify the new token is now stored (old token should no longer work once the grace window is over)
+        expireRotationGrace(originalToken);
         String anotherNewToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
         boolean oldTokenResult = refreshTokenService.validateAndRotate(MEMBER_ID, originalToken, anotherNewToken);
         
@@ -78,7 +79,8 @@ class RefreshTokenServiceIntegrationTest extends BaseIntegrationTest {
         boolean rotation1 = refreshTokenService.validateAndRotate(MEMBER_ID, tokenA, tokenB);
         assertThat(rotation1).isTrue();
 
-        // Attacker tries to use stolen token A (already rotated out)
+        // Attacker tries to use stolen token A (already rotated out, grace window over)
+        expireRotationGrace(tokenA);
         String attackerToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
         boolean reuseAttempt = refreshTokenService.validateAndRotate(MEMBER_ID, tokenA, attackerToken);
 
@@ -122,18 +124,119 @@ class RefreshTokenServiceIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
-    @DisplayName("deleteRefreshToken - should remove token from Redis")
-    void deleteRefreshToken_shouldRemoveToken() {
+    @DisplayName("deleteRefreshToken - should remove the presented device's token")
+    void deleteRefreshToken_shouldRemovePresentedToken() {
         // given
         String token = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        String otherDeviceToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
         refreshTokenService.saveRefreshToken(MEMBER_ID, token);
+        refreshTokenService.saveRefreshToken(MEMBER_ID, otherDeviceToken);
 
         // when
-        refreshTokenService.deleteRefreshToken(MEMBER_ID);
+        refreshTokenService.deleteRefreshToken(MEMBER_ID, token);
 
-        // then - Token should no longer be valid
+        // then - the logged-out token is gone, the other device still rotates
+        boolean loggedOut = refreshTokenService.validateAndRotate(
+                MEMBER_ID, token, jwtTokenProvider.createRefreshToken(MEMBER_ID));
+        assertThat(loggedOut).isFalse();
+    }
+
+    @Test
+    @DisplayName("deleteRefreshToken - should keep other devices' sessions")
+    void deleteRefreshToken_shouldKeepOtherDevices() {
+        // given
+        String token = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        String otherDeviceToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        refreshTokenService.saveRefreshToken(MEMBER_ID, token);
+        refreshTokenService.saveRefreshToken(MEMBER_ID, otherDeviceToken);
+
+        // when
+        refreshTokenService.deleteRefreshToken(MEMBER_ID, token);
+
+        // then
+        boolean otherRotated = refreshTokenService.validateAndRotate(
+                MEMBER_ID, otherDeviceToken, jwtTokenProvider.createRefreshToken(MEMBER_ID));
+        assertThat(otherRotated).isTrue();
+    }
+
+    @Test
+    @DisplayName("validateAndRotate - concurrent duplicate within the grace window succeeds without wiping sessions")
+    void validateAndRotate_duplicateWithinGrace_shouldSucceed() {
+        // given - two tabs refresh with the same cookie at the same time
+        String token = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        String otherDeviceToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        refreshTokenService.saveRefreshToken(MEMBER_ID, token);
+        refreshTokenService.saveRefreshToken(MEMBER_ID, otherDeviceToken);
+        String firstNewToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        String secondNewToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+
+        // when
+        boolean first = refreshTokenService.validateAndRotate(MEMBER_ID, token, firstNewToken);
+        boolean duplicate = refreshTokenService.validateAndRotate(MEMBER_ID, token, secondNewToken);
+
+        // then - both rotations succeed and no session was wiped
+        String key = "refresh_token:" + MEMBER_ID;
+        assertThat(first).isTrue();
+        assertThat(duplicate).isTrue();
+        assertThat(redisTemplate.opsForHash().hasKey(key, TokenHashes.sha256Hex(firstNewToken))).isTrue();
+        assertThat(redisTemplate.opsForHash().hasKey(key, TokenHashes.sha256Hex(secondNewToken))).isTrue();
+        assertThat(redisTemplate.opsForHash().hasKey(key, TokenHashes.sha256Hex(otherDeviceToken))).isTrue();
+    }
+
+    @Test
+    @DisplayName("validateAndRotate - replay after the successor was rotated again is treated as reuse")
+    void validateAndRotate_replayAfterSuccessorRotated_shouldInvalidateSession() {
+        // given - token A → B → C within the grace window
+        String tokenA = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        refreshTokenService.saveRefreshToken(MEMBER_ID, tokenA);
+        String tokenB = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        refreshTokenService.validateAndRotate(MEMBER_ID, tokenA, tokenB);
+        String tokenC = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        refreshTokenService.validateAndRotate(MEMBER_ID, tokenB, tokenC);
+
+        // when - A's successor B is no longer live
+        boolean replay = refreshTokenService.validateAndRotate(
+                MEMBER_ID, tokenA, jwtTokenProvider.createRefreshToken(MEMBER_ID));
+
+        // then
+        assertThat(replay).isFalse();
+        assertThat(redisTemplate.hasKey("refresh_token:" + MEMBER_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("validateAndRotate - sessions on different devices rotate independently")
+    void validateAndRotate_withMultipleDevices_shouldKeepOtherSessions() {
+        // given - two devices log in
+        String phoneToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        String laptopToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        refreshTokenService.saveRefreshToken(MEMBER_ID, phoneToken);
+        refreshTokenService.saveRefreshToken(MEMBER_ID, laptopToken);
+
+        // when
+        String newPhoneToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        boolean phoneRotated = refreshTokenService.validateAndRotate(MEMBER_ID, phoneToken, newPhoneToken);
+        String newLaptopToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        boolean laptopRotated = refreshTokenService.validateAndRotate(MEMBER_ID, laptopToken, newLaptopToken);
+
+        // then
+        assertThat(phoneRotated).isTrue();
+        assertThat(laptopRotated).isTrue();
+    }
+
+    @Test
+    @DisplayName("validateAndRotate - legacy single-value session is migrated and rotated")
+    void validateAndRotate_withLegacyValue_shouldRotate() {
+        // given - session stored in the previous format (one hashed token per member)
+        String token = jwtTokenProvider.createRefreshToken(MEMBER_ID);
+        redisTemplate.opsForValue().set("refresh_token:" + MEMBER_ID, TokenHashes.sha256Hex(token));
+
+        // when
         String newToken = jwtTokenProvider.createRefreshToken(MEMBER_ID);
         boolean result = refreshTokenService.validateAndRotate(MEMBER_ID, token, newToken);
-        assertThat(result).isFalse();
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(redisTemplate.opsForHash().hasKey("refresh_token:" + MEMBER_ID, TokenHashes.sha256Hex(newToken)))
+                .isTrue();
     }
 }
@@ -0,0 +1,122 @@
+package com.vericerti.infrastructure.security;
+
+import com.vericerti.config.BaseIntegrationTest;
+import com.vericerti.domain.member.entity.MemberRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TokenRevocationListIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    private JwtTokenProvider.VerifiedToken tokenIssuedAt(Long memberId, long issuedAt) {
+        return new JwtTokenProvider.VerifiedToken(memberId, JwtTokenProvider.TOKEN_TYPE_ACCESS,
+                "user@example.com", MemberRole.DONOR, issuedAt, issuedAt + 900_000, "hash-" + memberId + "-" + issuedAt);
+    }
+
+    @Test
+    @DisplayName("revoke - 폐기 이전에 발급된 토큰만 거부")
+    void revoke_shouldRejectTokensIssuedBefore() {
+        // given
+        long before = System.currentTimeMillis() - 10_000;
+
+        // when
+        tokenRevocationList.revoke(1L);
+
+        // then
+        assertAll(
+                () -> assertThat(tokenRevocationList.isRevoked(tokenIssuedAt(1L, before))).isTrue(),
+                () -> assertThat(tokenRevocationList.isRevoked(tokenIssuedAt(1L, System.currentTimeMillis() + 10_000)))
+                        .isFalse(),
+                () -> assertThat(tokenRevocationList.isRevoked(tokenIssuedAt(2L, before))).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("refresh - 다른 인스턴스가 Redis에 기록한 폐기를 반영")
+    void refresh_shouldLoadRevocationsFromRedis() {
+        // given
+        long before = System.currentTimeMillis() - 10_000;
+        redisTemplate.opsForZSet().add("auth:revoked", "3", System.currentTimeMillis());
+
+        // when
+        boolean beforeRefresh = tokenRevocationList.isRevoked(tokenIssuedAt(3L, before));
+        tokenRevocationList.refresh();
+
+        // then
+        assertAll(
+                () -> assertThat(beforeRefresh).isFalse(),
+                () -> assertThat(tokenRevocationList.isRevoked(tokenIssuedAt(3L, before))).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("isRevoked - ms 단위로 비교해 폐기 직후 같은 초에 발급된 토큰은 허용")
+    void isRevoked_issuedJustAfterRevocation_shouldAccept() {
+        // given
+        tokenRevocationList.revoke(4L);
+        long justAfter = System.currentTimeMillis() + 1;
+
+        // when
+        boolean revoked = tokenRevocationList.isRevoked(tokenIssuedAt(4L, justAfter));
+
+        // then
+        assertThat(revoked).isFalse();
+    }
+
+    @Test
+    @DisplayName("revoke(token) - 제시한 토큰만 거부하고 같은 회원의 다른 토큰은 허용")
+    void revokeToken_shouldRejectOnlyThatToken() {
+        // given
+        long issuedAt = System.currentTimeMillis() - 10_000;
+        JwtTokenProvider.VerifiedToken loggedOut = tokenIssuedAt(6L, issuedAt);
+        JwtTokenProvider.VerifiedToken otherDevice = tokenIssuedAt(6L, issuedAt + 1);
+
+        // when
+        tokenRevocationList.revoke(loggedOut);
+
+        // then
+        assertAll(
+                () -> assertThat(tokenRevocationList.isRevoked(loggedOut)).isTrue(),
+                () -> assertThat(tokenRevocationList.isRevoked(otherDevice)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("refresh - 다른 인스턴스가 Redis에 기록한 토큰 단위 폐기를 반영")
+    void refresh_shouldLoadTokenRevocationsFromRedis() {
+        // given
+        JwtTokenProvider.VerifiedToken token = tokenIssuedAt(7L, System.currentTimeMillis());
+        redisTemplate.opsForZSet().add("auth:revoked:tokens", token.tokenHash(), token.expiresAt());
+
+        // when
+        boolean beforeRefresh = tokenRevocationList.isRevoked(token);
+        tokenRevocationList.refresh();
+
+        // then
+        assertAll(
+                () -> assertThat(beforeRefresh).isFalse(),
+                () -> assertThat(tokenRevocationList.isRevoked(token)).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("refresh - Redis 스냅샷에 없는 로컬 폐기도 유지")
+    void refresh_shouldKeepLocalRevocations() {
+        // given: 스냅샷을 읽은 뒤에 기록된 폐기처럼 Redis에는 없는 상태
+        long before = System.currentTimeMillis() - 10_000;
+        tokenRevocationList.revoke(5L);
+        redisTemplate.delete("auth:revoked");
+
+        // when
+        tokenRevocationList.refresh();
+
+        // then
+        assertThat(tokenRevocationList.isRevoked(tokenIssuedAt(5L, before))).isTrue();
+    }
+}
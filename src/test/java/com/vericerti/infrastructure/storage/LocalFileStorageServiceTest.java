@@ -1,16 +1,21 @@
 package com.vericerti.infrastructure.storage;
 
 import com.vericerti.infrastructure.config.StorageProperties;
+import com.vericerti.infrastructure.exception.StorageException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 /**
@@ -118,4 +123,94 @@ class LocalFileStorageServiceTest {
         // then
         assertThat(url1).isNotEqualTo(url2); // UUID 기반으로 항상 다른 URL
     }
+
+    @Test
+    @DisplayName("store(InputStream) - 저장하면서 계산한 해시가 calculateHash와 동일")
+    void storeStream_shouldHashAndStoreInOnePass() throws IOException {
+        // given
+        byte[] content = "streamed receipt content".getBytes();
+
+        // when
+        StoredFile stored = storageService.store(new ByteArrayInputStream(content), "receipt.pdf");
+
+        // then
+        Path storedPath = tempDir.resolve(stored.fileUrl().replace("/files/", ""));
+        assertAll(
+                () -> assertThat(stored.dataHash()).isEqualTo(storageService.calculateHash(content)),
+                () -> assertThat(stored.size()).isEqualTo(content.length),
+                () -> assertThat(stored.fileUrl()).endsWith(".pdf"),
+                () -> assertThat(Files.readAllBytes(storedPath)).isEqualTo(content));
+    }
+
+    @Test
+    @DisplayName("store(InputStream) - 읽기 실패 시 임시 파일을 남기지 않음")
+    void storeStream_readFailure_shouldCleanUpTempFile() throws IOException {
+        // given
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> storageService.store(failing, "broken.pdf"))
+                .isInstanceOf(StorageException.class);
+        try (Stream<Path> temp = Files.list(tempDir.resolve(".tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("content-addressed - 같은 내용은 해시 기반 샤딩 경로 하나에만 저장")
+    void contentAddressed_sameContent_shouldShareOneFile() throws IOException {
+        // given
+        StorageProperties properties = new StorageProperties();
+        StorageProperties.LocalStorage localStorage = new StorageProperties.LocalStorage();
+        localStorage.setUploadDir(tempDir.toString());
+        localStorage.setContentAddressed(true);
+        properties.setLocal(localStorage);
+        LocalFileStorageService contentAddressed = new LocalFileStorageService(properties);
+        contentAddressed.init();
+        byte[] content = "resubmitted receipt".getBytes();
+        String hash = contentAddressed.calculateHash(content);
+
+        // when
+        StoredFile first = contentAddressed.store(new ByteArrayInputStream(content), "a.pdf");
+        StoredFile second = contentAddressed.store(new ByteArrayInputStream(content), "b.jpg");
+        String third = contentAddressed.store(content, "c.png");
+
+        // then
+        String expectedUrl = "/files/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+        assertAll(
+                () -> assertThat(first.fileUrl()).isEqualTo(expectedUrl),
+                () -> assertThat(second.fileUrl()).isEqualTo(expectedUrl),
+                () -> assertThat(third).isEqualTo(expectedUrl),
+                () -> assertThat(Files.readAllBytes(tempDir.resolve(expectedUrl.replace("/files/", "")))).isEqualTo(content));
+        try (Stream<Path> temp = Files.list(tempDir.resolve(".tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("load - 저장된 파일 반환, 업로드 디렉토리 밖/임시 디렉토리 경로는 거부")
+    void load_shouldRejectPathsOutsideUploadDir() throws IOException {
+        // given
+        String fileUrl = storageService.store("stored".getBytes(), "a.txt");
+        Path outside = Files.writeString(Files.createTempFile("secret-", ".txt"), "secret");
+        Files.writeString(tempDir.resolve(".tmp/upload-1.part"), "partial");
+
+        try {
+            // when & then
+            assertThat(storageService.load(fileUrl).getContentAsByteArray()).isEqualTo("stored".getBytes());
+            assertThatThrownBy(() -> storageService.load("/files/" + tempDir.relativize(outside)))
+                    .isInstanceOf(StorageException.class);
+            assertThatThrownBy(() -> storageService.load("/files/.tmp/upload-1.part"))
+                    .isInstanceOf(StorageException.class);
+            assertThatThrownBy(() -> storageService.load("/files/missing.txt"))
+                    .isInstanceOf(StorageException.class);
+        } finally {
+            Files.deleteIfExists(outside);
+        }
+    }
 }
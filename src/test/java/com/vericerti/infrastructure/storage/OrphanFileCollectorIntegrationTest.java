@@ -0,0 +1,151 @@
+package com.vericerti.infrastructure.storage;
+
+import com.vericerti.application.command.CreateLedgerEntryCommand;
+import com.vericerti.config.BaseIntegrationTest;
+import com.vericerti.domain.common.vo.BusinessNumber;
+import com.vericerti.domain.ledger.entity.LedgerEntityType;
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.entity.StoredBlob;
+import com.vericerti.domain.ledger.service.LedgerService;
+import com.vericerti.domain.organization.entity.Organization;
+import com.vericerti.infrastructure.config.StorageProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrphanFileCollectorIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private OrphanFileCollector collector;
+
+    @Autowired
+    private LocalFileStorageService storageService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private StorageProperties storageProperties;
+
+    private Path writeFile(String name, Duration age) throws IOException {
+        Path file = storageService.uploadPath().resolve(name);
+        Files.writeString(file, "orphan");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+        return file;
+    }
+
+    private Organization saveOrganization() {
+        return organizationRepository.save(Organization.builder()
+                .name("테스트 단체")
+                .businessNumber(BusinessNumber.of("BN-" + UUID.randomUUID()))
+                .description("테스트용")
+                .build());
+    }
+
+    private void age(Path file) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+    }
+
+    @Test
+    @DisplayName("collect - 유예 기간이 지난 고아 파일만 격리, 참조 중인 파일과 최근 파일은 유지")
+    void collect_shouldQuarantineOldOrphansOnly() throws IOException {
+        // given
+        Organization testOrg = saveOrganization();
+        LedgerEntry entry = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                testOrg.getId(), LedgerEntityType.DONATION, 1L, "referenced".getBytes(), "a.pdf"));
+        Path referenced = storageService.load(entry.getFileUrl()).getFile().toPath();
+        age(referenced);
+
+        Path oldOrphan = writeFile(UUID.randomUUID() + ".pdf", Duration.ofDays(2));
+        Path recentOrphan = writeFile(UUID.randomUUID() + ".pdf", Duration.ofMinutes(1));
+
+        // when
+        OrphanFileCollector.GcResult result = collector.collect();
+        OrphanFileCollector.GcStatus status = collector.getStatus();
+
+        // then
+        assertAll(
+                () -> assertThat(result.removed()).isGreaterThanOrEqualTo(1),
+                () -> assertThat(status.running()).isFalse(),
+                () -> assertThat(status.removed()).isEqualTo(result.removed()),
+                () -> assertThat(status.finishedAt()).isPositive(),
+                () -> assertThat(referenced).exists(),
+                () -> assertThat(recentOrphan).exists(),
+                () -> assertThat(oldOrphan).doesNotExist(),
+                () -> assertThat(storageService.quarantinePath().resolve(oldOrphan.getFileName())).exists()
+        );
+    }
+
+    @Test
+    @DisplayName("collect - 공유 파일의 참조 수를 남은 엔트리 수로 맞추고, 참조가 모두 사라진 파일은 회수 후 기록 삭제")
+    void collect_shouldRecountAndReclaimBlobs() throws IOException {
+        // given
+        storageProperties.getLocal().setContentAddressed(true);
+        Organization testOrg = saveOrganization();
+        byte[] shared = ("shared " + UUID.randomUUID()).getBytes();
+        byte[] single = ("single " + UUID.randomUUID()).getBytes();
+        LedgerEntry sharedFirst;
+        LedgerEntry sharedSecond;
+        LedgerEntry singleEntry;
+        try {
+            sharedFirst = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                    testOrg.getId(), LedgerEntityType.DONATION, 1L, shared, "a.pdf"));
+            sharedSecond = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                    testOrg.getId(), LedgerEntityType.DONATION, 2L, shared, "b.pdf"));
+            singleEntry = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                    testOrg.getId(), LedgerEntityType.DONATION, 3L, single, "c.pdf"));
+        } finally {
+            storageProperties.getLocal().setContentAddressed(false);
+        }
+        Path sharedFile = storageService.load(sharedFirst.getFileUrl()).getFile().toPath();
+        Path singleFile = storageService.load(singleEntry.getFileUrl()).getFile().toPath();
+        age(sharedFile);
+        age(singleFile);
+
+        // 엔트리가 사라짐 (공유 파일은 참조 1개 남음)
+        ledgerEntryRepository.deleteAll(List.of(sharedSecond, singleEntry));
+
+        // when
+        collector.collect();
+
+        // then
+        assertAll(
+                () -> assertThat(sharedFile).exists(),
+                () -> assertThat(storedBlobRepository.findByFileUrl(sharedFirst.getFileUrl()))
+                        .get().extracting(StoredBlob::getRefCount).isEqualTo(1),
+                () -> assertThat(singleFile).doesNotExist(),
+                () -> assertThat(storedBlobRepository.findByFileUrl(singleEntry.getFileUrl())).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("start - 다른 인스턴스가 락을 갖고 있으면 시작하지 않고 그 락도 건드리지 않음")
+    void start_whileLockedElsewhere_shouldNotStart() throws IOException {
+        // given
+        Path oldOrphan = writeFile(UUID.randomUUID() + ".pdf", Duration.ofDays(2));
+        redisTemplate.opsForValue().set("storage:gc:lock", "other-instance", Duration.ofMinutes(1));
+
+        // when
+        boolean started = collector.start();
+
+        // then
+        assertAll(
+                () -> assertThat(started).isFalse(),
+                () -> assertThat(oldOrphan).exists(),
+                () -> assertThat(redisTemplate.opsForValue().get("storage:gc:lock")).isEqualTo("other-instance"),
+                () -> assertThat(collector.getStatus().running()).isTrue()
+        );
+    }
+}
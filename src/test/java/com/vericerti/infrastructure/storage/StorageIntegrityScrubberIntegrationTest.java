@@ -0,0 +1,119 @@
+package com.vericerti.infrastructure.storage;
+
+import com.vericerti.application.command.CreateLedgerEntryCommand;
+import com.vericerti.config.BaseIntegrationTest;
+import com.vericerti.domain.common.vo.BusinessNumber;
+import com.vericerti.domain.ledger.entity.LedgerEntityType;
+import com.vericerti.domain.ledger.entity.LedgerEntry;
+import com.vericerti.domain.ledger.service.LedgerService;
+import com.vericerti.domain.organization.entity.Organization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class StorageIntegrityScrubberIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private StorageIntegrityScrubber scrubber;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    private LedgerEntry intact;
+    private LedgerEntry corrupted;
+
+    @BeforeEach
+    void setUp() {
+        Organization testOrg = organizationRepository.save(Organization.builder()
+                .name("테스트 단체")
+                .businessNumber(BusinessNumber.of("BN-" + UUID.randomUUID()))
+                .description("테스트용")
+                .build());
+
+        intact = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                testOrg.getId(), LedgerEntityType.DONATION, 1L, ("intact-" + UUID.randomUUID()).getBytes(), "a.pdf"));
+        corrupted = ledgerService.createEntry(new CreateLedgerEntryCommand(
+                testOrg.getId(), LedgerEntityType.DONATION, 2L, ("corrupted-" + UUID.randomUUID()).getBytes(), "b.pdf"));
+    }
+
+    private Path pathOf(LedgerEntry entry) throws IOException {
+        return fileStorageService.load(entry.getFileUrl()).getFile().toPath();
+    }
+
+    @Test
+    @DisplayName("scrub - 디스크 내용이 data_hash와 다른 파일을 불일치로 기록")
+    void scrub_shouldRecordMismatch() throws IOException {
+        // given
+        Files.writeString(pathOf(corrupted), "bit rot");
+
+        // when
+        StorageIntegrityScrubber.ScrubProgress progress = scrubber.scrub();
+
+        // then
+        List<StorageIntegrityScrubber.Mismatch> mismatches = scrubber.findMismatches(10);
+        assertAll(
+                () -> assertThat(progress.entries()).isEqualTo(2),
+                () -> assertThat(progress.mismatches()).isEqualTo(1),
+                () -> assertThat(progress.finishedAt()).isPositive(),
+                () -> assertThat(mismatches).singleElement().satisfies(mismatch -> {
+                    assertThat(mismatch.entryId()).isEqualTo(corrupted.getId());
+                    assertThat(mismatch.expectedHash()).isEqualTo(corrupted.getDataHashValue().orElseThrow());
+                    assertThat(mismatch.actualHash()).isNotEqualTo(mismatch.expectedHash());
+                })
+        );
+    }
+
+    @Test
+    @DisplayName("scrub - 파일이 없으면 MISSING, 복구 후 다시 검사하면 기록 삭제")
+    void scrub_missingFile_shouldBeClearedAfterRestore() throws IOException {
+        // given
+        Path path = pathOf(intact);
+        byte[] original = Files.readAllBytes(path);
+        Files.delete(path);
+
+        // when
+        scrubber.scrub();
+        List<StorageIntegrityScrubber.Mismatch> beforeRestore = scrubber.findMismatches(10);
+        Files.write(path, original);
+        scrubber.scrub();
+
+        // then
+        assertAll(
+                () -> assertThat(beforeRestore).extracting(StorageIntegrityScrubber.Mismatch::actualHash)
+                        .containsExactly("MISSING"),
+                () -> assertThat(scrubber.countMismatches()).isZero(),
+                () -> assertThat(scrubber.getProgress().running()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("scrub - 불일치가 기록된 엔트리가 삭제되면 다음 검사에서 기록 삭제")
+    void scrub_deletedEntry_shouldPruneMismatch() throws IOException {
+        // given
+        Files.writeString(pathOf(corrupted), "bit rot");
+        scrubber.scrub();
+        ledgerEntryRepository.delete(corrupted);
+
+        // when
+        StorageIntegrityScrubber.ScrubProgress progress = scrubber.scrub();
+
+        // then
+        assertAll(
+                () -> assertThat(progress.entries()).isEqualTo(1),
+                () -> assertThat(scrubber.countMismatches()).isZero()
+        );
+    }
+}